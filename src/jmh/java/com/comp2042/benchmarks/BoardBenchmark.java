@@ -0,0 +1,86 @@
+package com.comp2042.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.comp2042.BitboardBoard;
+import com.comp2042.SimpleBoard;
+import com.comp2042.logic.bricks.Brick;
+
+/**
+ * Benchmarks brick movement on {@link SimpleBoard} and {@link BitboardBoard}
+ * <p>
+ * The board is restored to a partly filled state with {@link SimpleBoard#restore}, and a T brick is moved around near the
+ * spawn position. Both implementations share the same fixture, so their results can be compared directly.
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BoardBenchmark {
+
+    /** Board implementation: {@code simple} or {@code bitboard} */
+    @Param({"simple", "bitboard"})
+    public String board;
+
+    /** Percentage of rows, from the floor, that contain cells */
+    @Param({"0", "30", "60", "90"})
+    public int fill;
+
+    /** The board under test */
+    private SimpleBoard target;
+    /** The benchmarked brick */
+    private Brick brick;
+
+    /**
+     * Builds the board for the current parameters
+     */
+    @Setup
+    public void setUp() {
+        target = "bitboard".equals(board) ? new BitboardBoard(25, 10) : new SimpleBoard(25, 10);
+        target.setGameOverRow(0);
+        brick = BoardFixtures.BRICKS[5];
+        target.restore(BoardFixtures.filledMatrix(25, 10, fill, 42L), brick, 0, 4, 0);
+    }
+
+    /**
+     * Performs one left, right, rotate and down move, respawning the brick when it lands
+     * @return the number of successful moves
+     */
+    @Benchmark
+    public int moveCycle() {
+        int moved = 0;
+        moved += target.moveBrickLeft() ? 1 : 0;
+        moved += target.moveBrickRight() ? 1 : 0;
+        moved += target.rotateLeftBrick() ? 1 : 0;
+        if (target.moveBrickDown()) {
+            moved++;
+        } else {
+            target.setCurrentBrick(brick);
+        }
+        return moved;
+    }
+
+    /**
+     * Computes how far the current brick can fall
+     * @return the drop distance
+     */
+    @Benchmark
+    public int dropDistance() {
+        return target.getDropDistance();
+    }
+}
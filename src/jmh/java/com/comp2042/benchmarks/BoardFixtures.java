@@ -0,0 +1,64 @@
+package com.comp2042.benchmarks;
+
+import java.util.Random;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.IBrick;
+import com.comp2042.logic.bricks.JBrick;
+import com.comp2042.logic.bricks.LBrick;
+import com.comp2042.logic.bricks.OBrick;
+import com.comp2042.logic.bricks.SBrick;
+import com.comp2042.logic.bricks.TBrick;
+import com.comp2042.logic.bricks.ZBrick;
+
+/**
+ * Deterministic boards and bricks shared by the benchmarks
+ * <p>
+ * A board at fill level {@code p} has its lowest {@code p} percent of rows filled with random coloured cells. Each filled row
+ * keeps at least one hole, so no row is complete and the boards look like a mid-game stack rather than a solid block.
+ *
+ */
+final class BoardFixtures {
+    /** One instance of each standard brick */
+    static final Brick[] BRICKS = {
+        new IBrick(), new JBrick(), new LBrick(), new OBrick(), new SBrick(), new TBrick(), new ZBrick()
+    };
+    /** Chance that a cell in a filled row is occupied */
+    private static final double CELL_DENSITY = 0.7;
+
+    /** Prevents instantiation of this utility class */
+    private BoardFixtures() {}
+
+    /**
+     * Builds a partly filled board
+     * @param rows the number of rows
+     * @param cols the number of columns
+     * @param fillPercent the percentage of rows, counted from the floor, that contain cells
+     * @param seed the seed of the cell pattern
+     * @return a new {@code [rows][cols]} matrix
+     */
+    static int[][] filledMatrix(int rows, int cols, int fillPercent, long seed) {
+        Random random = new Random(seed);
+        int[][] matrix = new int[rows][cols];
+        int filledRows = rows * fillPercent / 100;
+        for (int row = rows - filledRows; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                if (random.nextDouble() < CELL_DENSITY) {
+                    matrix[row][col] = 1 + random.nextInt(BRICKS.length);
+                }
+            }
+            matrix[row][random.nextInt(cols)] = 0;
+        }
+        return matrix;
+    }
+
+    /**
+     * Parses a board size parameter such as {@code "25x10"}
+     * @param size the size as {@code rows x columns}
+     * @return a two-element array of rows and columns
+     */
+    static int[] parseSize(String size) {
+        int split = size.indexOf('x');
+        return new int[] {Integer.parseInt(size.substring(0, split)), Integer.parseInt(size.substring(split + 1))};
+    }
+}
@@ -0,0 +1,70 @@
+package com.comp2042.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.bricks.Randomizer;
+
+/**
+ * Benchmarks brick spawning and preview reads on {@link RandomBrickGenerator}
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BrickGeneratorBenchmark {
+
+    /** The randomizer under test */
+    @Param({"SEVEN_BAG", "UNIFORM"})
+    public Randomizer randomizer;
+
+    /** The generator under test */
+    private RandomBrickGenerator generator;
+
+    /**
+     * Creates the generator for the current parameters
+     */
+    @Setup
+    public void setUp() {
+        generator = new RandomBrickGenerator(randomizer, 42L, RandomBrickGenerator.DEFAULT_PREVIEW_DEPTH);
+    }
+
+    /**
+     * Spawns one brick
+     * @return the spawned brick
+     */
+    @Benchmark
+    public Brick getBrick() {
+        return generator.getBrick();
+    }
+
+    /**
+     * Reads every brick of the preview queue, as the preview panel does after each spawn
+     * @param blackhole sink for the bricks
+     */
+    @Benchmark
+    public void readPreview(Blackhole blackhole) {
+        List<Brick> preview = generator.getNextBricksQueue();
+        for (int i = 0; i < preview.size(); i++) {
+            blackhole.consume(preview.get(i));
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.comp2042.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.comp2042.ClearRow;
+import com.comp2042.MatrixOperations;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.ShapeTable;
+
+/**
+ * Benchmarks the static board helpers in {@link MatrixOperations}
+ * <p>
+ * Collision tests sweep a T brick across every column at the height where it would land, which is the access pattern of
+ * the move, rotation and ghost code. The two drop searches compare the ghost brick's old row-by-row stepping with the
+ * {@link ShapeTable} column-profile search it uses now.
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MatrixOperationsBenchmark {
+
+    /** Board size as {@code rows x columns} */
+    @Param({"25x10", "40x20"})
+    public String size;
+
+    /** Percentage of rows, from the floor, that contain cells */
+    @Param({"0", "30", "60", "90"})
+    public int fill;
+
+    /** The board */
+    private int[][] matrix;
+    /** The benchmarked brick */
+    private Brick brick;
+    /** Shape table of the benchmarked brick */
+    private ShapeTable shape;
+    /** Shape matrix of the first rotation */
+    private int[][] brickShape;
+    /** Column at which the brick is merged and dropped */
+    private int x;
+    /** Row at which the brick would land in column {@link #x} */
+    private int landingY;
+
+    /**
+     * Builds the board and brick for the current parameters
+     */
+    @Setup
+    public void setUp() {
+        int[] dimensions = BoardFixtures.parseSize(size);
+        matrix = BoardFixtures.filledMatrix(dimensions[0], dimensions[1], fill, 42L);
+        brick = BoardFixtures.BRICKS[5];
+        shape = ShapeTable.of(brick);
+        brickShape = brick.getShapeMatrix().get(0);
+        x = dimensions[1] / 2 - 2;
+        landingY = MatrixOperations.dropDistance(matrix, shape, 0, x, 0);
+    }
+
+    /**
+     * Tests every column with the 4x4 shape matrix collision check
+     * @param blackhole sink for the results
+     */
+    @Benchmark
+    public void intersectShapeMatrix(Blackhole blackhole) {
+        for (int col = -1; col < matrix[0].length - 2; col++) {
+            blackhole.consume(MatrixOperations.intersect(matrix, brickShape, col, landingY));
+        }
+    }
+
+    /**
+     * Tests every column with the {@link ShapeTable} cell-list collision check
+     * @param blackhole sink for the results
+     */
+    @Benchmark
+    public void intersectShapeTable(Blackhole blackhole) {
+        for (int col = -1; col < matrix[0].length - 2; col++) {
+            blackhole.consume(MatrixOperations.intersect(matrix, shape, 0, col, landingY));
+        }
+    }
+
+    /**
+     * Merges the brick into a copy of the board
+     * @return the merged matrix
+     */
+    @Benchmark
+    public int[][] merge() {
+        return MatrixOperations.merge(matrix, brickShape, x, landingY);
+    }
+
+    /**
+     * Scans the whole board for full rows
+     * @return the scan result
+     */
+    @Benchmark
+    public ClearRow checkRemoving() {
+        return MatrixOperations.checkRemoving(matrix);
+    }
+
+    /**
+     * Finds the ghost position by moving the brick down one row at a time until it collides
+     * @return the drop distance
+     */
+    @Benchmark
+    public int ghostDropByStepping() {
+        int distance = 0;
+        while (!MatrixOperations.intersect(matrix, brickShape, x, distance + 1)) {
+            distance++;
+        }
+        return distance;
+    }
+
+    /**
+     * Finds the ghost position with the {@link ShapeTable} bottom-profile search
+     * @return the drop distance
+     */
+    @Benchmark
+    public int ghostDropByProfile() {
+        return MatrixOperations.dropDistance(matrix, shape, 0, x, 0);
+    }
+}
@@ -0,0 +1,163 @@
+package com.comp2042;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import com.comp2042.logic.bricks.SplitMix64;
+
+/**
+ * Plays many independent games in parallel and aggregates their results
+ * <p>
+ * The {@code BatchSimulator} splits a range of game indices into {@link RecursiveTask} chunks on a {@link ForkJoinPool}.
+ * Each chunk owns one {@link GameEngine} on a {@link BitboardBoard} and one {@link InputPolicy}, replays games on them with
+ * {@link GameEngine#newGame(long)}, and records the results in a private {@link SimulationSummary}. The policy is
+ * {@link InputPolicy#reset() reset} at the start of every game, so no state carries over from the previous game of the chunk. Workers share no mutable state
+ * and only merge their summaries when chunks join, so throughput scales with the number of cores.
+ * <p>
+ * Games are driven with {@link GameEngine#step(EventType)}, one policy input per tick, until the game is over or the tick limit
+ * is reached.
+ * <p>
+ * Game {@code i} always plays the brick sequence seeded by {@link SplitMix64#seedFor(long, long)} of the batch seed and {@code i},
+ * so a batch with a fixed seed and a deterministic policy that clears its state in {@link InputPolicy#reset()} gives the same
+ * games on any number of threads.
+ *
+ */
+public class BatchSimulator {
+    /** Number of rows on a simulated board */
+    private static final int BOARD_ROWS = 25;
+    /** Number of columns on a simulated board */
+    private static final int BOARD_COLUMNS = 10;
+    /** Number of chunks created per pool thread, so that uneven game lengths still balance across workers */
+    private static final int CHUNKS_PER_THREAD = 8;
+
+    /** The game mode of every simulated game */
+    private final GameMode mode;
+    /** Creates one policy per chunk */
+    private final Supplier<? extends InputPolicy> policyFactory;
+    /** Largest number of ticks a single game may run */
+    private final long maxTicksPerGame;
+    /** Base seed from which every game's brick sequence is derived */
+    private final long seed;
+
+    /**
+     * Constructs a new {@code BatchSimulator}
+     * @param mode the {@link GameMode} of every simulated game
+     * @param policyFactory supplies a fresh {@link InputPolicy} for each worker chunk
+     * @param maxTicksPerGame the tick limit after which a game that is still running is stopped and recorded as truncated
+     * @throws IllegalArgumentException if the tick limit is not positive
+     */
+    public BatchSimulator(GameMode mode, Supplier<? extends InputPolicy> policyFactory, long maxTicksPerGame) {
+        this(mode, policyFactory, maxTicksPerGame, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Constructs a new {@code BatchSimulator} whose games are reproducible from a seed
+     * @param mode the {@link GameMode} of every simulated game
+     * @param policyFactory supplies a fresh {@link InputPolicy} for each worker chunk
+     * @param maxTicksPerGame the tick limit after which a game that is still running is stopped and recorded as truncated
+     * @param seed the base seed of the batch
+     * @throws IllegalArgumentException if the tick limit is not positive
+     */
+    public BatchSimulator(GameMode mode, Supplier<? extends InputPolicy> policyFactory, long maxTicksPerGame, long seed) {
+        if (maxTicksPerGame <= 0) {
+            throw new IllegalArgumentException("Tick limit must be positive, got " + maxTicksPerGame);
+        }
+        this.mode = mode;
+        this.policyFactory = policyFactory;
+        this.maxTicksPerGame = maxTicksPerGame;
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the base seed of the batch
+     * @return the seed from which every game's brick sequence is derived
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Plays the given number of games on the common pool
+     * @param games the number of games to play
+     * @return the aggregated {@link SimulationSummary}
+     */
+    public SimulationSummary run(int games) {
+        return run(games, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Plays the given number of games on the given pool
+     * @param games the number of games to play
+     * @param pool the {@link ForkJoinPool} to run on
+     * @return the aggregated {@link SimulationSummary}
+     */
+    public SimulationSummary run(int games, ForkJoinPool pool) {
+        int chunkSize = Math.max(1, games / (pool.getParallelism() * CHUNKS_PER_THREAD));
+        return pool.invoke(new Chunk(0, games, chunkSize));
+    }
+
+    /**
+     * Plays a contiguous range of games on a single thread
+     * @param from the first game index (inclusive)
+     * @param to the last game index (exclusive)
+     * @return the summary of the played games
+     */
+    private SimulationSummary playRange(int from, int to) {
+        SimulationSummary summary = new SimulationSummary();
+        GameEngine engine = new GameEngine(mode, new BitboardBoard(BOARD_ROWS, BOARD_COLUMNS));
+        InputPolicy policy = policyFactory.get();
+        for (int game = from; game < to; game++) {
+            engine.newGame(SplitMix64.seedFor(seed, game));
+            policy.reset();
+            while (engine.getTick() < maxTicksPerGame && engine.step(policy.nextInput(engine))) {
+                // keep playing
+            }
+            summary.record(engine);
+        }
+        return summary;
+    }
+
+    /**
+     * Fork/join task that splits a game range in half until it is small enough to play directly
+     */
+    private final class Chunk extends RecursiveTask<SimulationSummary> {
+        private static final long serialVersionUID = 1L;
+
+        /** First game index (inclusive) */
+        private final int from;
+        /** Last game index (exclusive) */
+        private final int to;
+        /** Largest range played without splitting */
+        private final int chunkSize;
+
+        /**
+         * Creates a task for a range of games
+         * @param from the first game index (inclusive)
+         * @param to the last game index (exclusive)
+         * @param chunkSize the largest range played without splitting
+         */
+        Chunk(int from, int to, int chunkSize) {
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        /**
+         * Plays the range directly or splits it into two subtasks
+         * @return the summary of the range
+         */
+        @Override
+        protected SimulationSummary compute() {
+            if (to - from <= chunkSize) {
+                return playRange(from, to);
+            }
+            int mid = (from + to) >>> 1;
+            Chunk right = new Chunk(mid, to, chunkSize);
+            right.fork();
+            SimulationSummary left = new Chunk(from, mid, chunkSize).compute();
+            return left.combine(right.join());
+        }
+    }
+}
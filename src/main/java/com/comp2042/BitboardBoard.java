@@ -0,0 +1,235 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.bricks.ShapeTable;
+
+/**
+ * A {@link SimpleBoard} variant that keeps the playfield as one bit mask per row
+ * <p>
+ * The inherited {@code int[][]} matrix is kept as a colour plane for rendering, while collision and full-row checks run against
+ * a parallel array of row masks:
+ * <ul>
+ *  <li>Bit {@code PADDING + c} of a row mask is set when column {@code c} is occupied</li>
+ *  <li>Every bit outside the playfield columns is permanently set and acts as the left and right walls</li>
+ *  <li>A row is full when its mask equals {@link #FULL_ROW}, so a line check is a single compare</li>
+ * </ul>
+ * <p>
+ * Shape row masks come from the shared {@link ShapeTable}, so a collision test becomes a few shifts and ANDs
+ * instead of a scan over every cell of the 4x4 shape matrix.
+ *
+ */
+public class BitboardBoard extends SimpleBoard {
+    /** Number of wall bits kept to the left of column 0 so that shapes may hang off the left edge of their 4x4 box */
+    private static final int PADDING = 4;
+    /** Mask of a completely filled row (playfield and walls) */
+    private static final int FULL_ROW = -1;
+    /** Largest number of columns that still leaves room for the walls in a 32-bit row */
+    private static final int MAX_COLUMNS = Integer.SIZE - 2 * PADDING;
+
+    /** Number of rows on the board */
+    private final int rows;
+    /** Mask of an empty row (walls only) */
+    private final int emptyRow;
+    /** One occupancy mask per row, walls included */
+    private final int[] rowMasks;
+
+    /**
+     * Constructs a new {@code BitboardBoard}
+     * @param rows the number of rows on the board
+     * @param cols the number of columns on the board
+     * @throws IllegalArgumentException if the board is too wide to fit in a row mask
+     */
+    public BitboardBoard(int rows, int cols) {
+        this(rows, cols, new RandomBrickGenerator());
+    }
+
+    /**
+     * Constructs a new {@code BitboardBoard} that draws its bricks from the given generator
+     * @param rows the number of rows on the board
+     * @param cols the number of columns on the board
+     * @param brickGenerator the {@link BrickGenerator} supplying new bricks
+     * @throws IllegalArgumentException if the board is too wide to fit in a row mask
+     */
+    public BitboardBoard(int rows, int cols, BrickGenerator brickGenerator) {
+        super(rows, cols, brickGenerator);
+        if (cols < 1 || cols > MAX_COLUMNS) {
+            throw new IllegalArgumentException("Bitboard supports 1 to " + MAX_COLUMNS + " columns, got " + cols);
+        }
+        this.rows = rows;
+        this.emptyRow = ~(((1 << cols) - 1) << PADDING);
+        this.rowMasks = new int[rows];
+        resetMasks();
+    }
+
+    /**
+     * Tests the current brick against the row masks
+     * @param shapeIndex the rotation index of the current brick to test
+     * @param x the X position (column offset)
+     * @param y the Y position (row offset)
+     * @return {@code true} if the brick would intersect the board or its boundaries, {@code false} otherwise
+     */
+    @Override
+    protected boolean isBlocked(int shapeIndex, int x, int y) {
+        ShapeTable shape = getBrickRotator().getShapeTable();
+        int shift = x + PADDING;
+        for (int i = shape.minY(shapeIndex); i <= shape.maxY(shapeIndex); i++) {
+            int mask = shape.rowMask(shapeIndex, i);
+            if (mask == 0) {
+                continue;
+            }
+            int row = y + i;
+            if (row < 0 || row >= rows) {
+                return true;
+            }
+            long placed;
+            if (shift >= 0) {
+                placed = ((long) mask) << shift;
+                if ((placed >>> Integer.SIZE) != 0) {
+                    return true;   // Past the last wall bit
+                }
+            } else {
+                if ((mask & ((1 << -shift) - 1)) != 0) {
+                    return true;   // Past the first wall bit
+                }
+                placed = mask >>> -shift;
+            }
+            if ((rowMasks[row] & (int) placed) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Merges the current brick into both the colour plane and the row masks
+     */
+    @Override
+    public void mergeBrickToBackground() {
+        super.mergeBrickToBackground();
+        ShapeTable shape = getBrickRotator().getShapeTable();
+        int rotation = getBrickRotator().getCurrentShapeIndex();
+        int x = getCurrentX() + PADDING;
+        int y = getCurrentY();
+        for (int i = shape.minY(rotation); i <= shape.maxY(rotation); i++) {
+            int mask = shape.rowMask(rotation, i);
+            int row = y + i;
+            if (row >= 0 && row < rows) {
+                rowMasks[row] |= x >= 0 ? mask << x : mask >>> -x;
+            }
+        }
+    }
+
+    /**
+     * Checks a row for completion with a single mask compare
+     * @param row the row index
+     * @return {@code true} if every cell of the row is occupied
+     */
+    @Override
+    protected boolean isRowFull(int row) {
+        return rowMasks[row] == FULL_ROW;
+    }
+
+    /**
+     * Removes full rows from the colour plane and shifts the row masks to match
+     * @param cleared the indices of the rows to remove, in ascending order
+     */
+    @Override
+    protected void removeRows(int[] cleared) {
+        super.removeRows(cleared);
+        compactRows(rowMasks, cleared, emptyRow);
+    }
+
+    /**
+     * Resets the row masks and the colour plane for a new game
+     */
+    @Override
+    public void newGame() {
+        resetMasks();
+        super.newGame();
+    }
+
+    /**
+     * Restores the colour plane and the current brick, then rebuilds the row masks from the colour plane
+     * @param matrix the background to copy
+     * @param brick the current {@link Brick}
+     * @param rotation the rotation index of the current brick
+     * @param x the X offset (column) of the current brick
+     * @param y the Y offset (row) of the current brick
+     */
+    @Override
+    public void restore(int[][] matrix, Brick brick, int rotation, int x, int y) {
+        super.restore(matrix, brick, rotation, x, y);
+        int[][] plane = getBoardMatrix();
+        for (int row = 0; row < rows; row++) {
+            int mask = emptyRow;
+            for (int col = 0; col < plane[row].length; col++) {
+                if (plane[row][col] != 0) {
+                    mask |= 1 << (col + PADDING);
+                }
+            }
+            rowMasks[row] = mask;
+        }
+    }
+
+    /**
+     * Reads the four corners around the current brick's center from the row masks
+     * <p>
+     * The wall bits of each mask already mark the walls as occupied, so each row is one shift and one mask.
+     *
+     * @return a combination of the {@code ScoringRules.CORNER_*} bits of the occupied corners
+     */
+    @Override
+    public int getCornerMask() {
+        int shift = getCurrentX() + PADDING;
+        int top = cornerBits(getCurrentY(), shift);
+        int bottom = cornerBits(getCurrentY() + 2, shift);
+        int mask = 0;
+        if ((top & 1) != 0) {
+            mask |= ScoringRules.CORNER_TOP_LEFT;
+        }
+        if ((top & 4) != 0) {
+            mask |= ScoringRules.CORNER_TOP_RIGHT;
+        }
+        if ((bottom & 4) != 0) {
+            mask |= ScoringRules.CORNER_BOTTOM_RIGHT;
+        }
+        if ((bottom & 1) != 0) {
+            mask |= ScoringRules.CORNER_BOTTOM_LEFT;
+        }
+        return mask;
+    }
+
+    /**
+     * Extracts the cells at the two ends of a 3-cell span of a row
+     * @param row the row index; rows below the board are full and rows above it hold only the walls
+     * @param shift the bit of the left end of the span
+     * @return bit 0 for the left cell and bit 2 for the right cell
+     */
+    private int cornerBits(int row, int shift) {
+        if (row >= rows) {
+            return 0b101;
+        }
+        int mask = row < 0 ? emptyRow : rowMasks[row];
+        return (mask >>> shift) & 0b101;
+    }
+
+    /**
+     * Returns the occupancy mask of a row, with column {@code c} stored at bit {@code c}
+     * @param row the row index
+     * @return the row mask without wall bits
+     */
+    public int getRowMask(int row) {
+        return (rowMasks[row] & ~emptyRow) >>> PADDING;
+    }
+
+    /**
+     * Fills every row mask with the walls only
+     */
+    private void resetMasks() {
+        for (int i = 0; i < rows; i++) {
+            rowMasks[i] = emptyRow;
+        }
+    }
+}
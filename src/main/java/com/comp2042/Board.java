@@ -36,6 +36,29 @@ public interface Board {
      */
     boolean rotateLeftBrick();
 
+    /**
+     * Attempts to rotate the current brick by the given number of clockwise quarter turns, trying wall kicks if it collides
+     * @param quarterTurns {@code 1} for clockwise, {@code 2} for a half turn, {@code 3} for counter-clockwise
+     * @return {@code true} if the brick was rotated (possibly kicked to a nearby position),
+     *         {@code false} if every kick position is blocked
+     */
+    boolean rotateBrick(int quarterTurns);
+
+    /**
+     * Calculates how far the current brick can fall before it lands
+     * @return the number of rows the brick can move down
+     */
+    int getDropDistance();
+
+    /**
+     * Moves the current brick straight down to its landing position
+     * <p>
+     * The brick is not merged; callers typically follow this with {@link #mergeBrickToBackground()}.
+     * 
+     * @return the number of rows the brick moved
+     */
+    int dropBrick();
+
     /**
      * Creates and spawns a new brick at the starting position
      * @return {@code true} if the new brick immediately collides (indicating game over),
@@ -49,6 +72,12 @@ public interface Board {
      */
     int[][] getBoardMatrix();
 
+    /**
+     * Returns a read-only view of the board matrix that does not copy it
+     * @return a {@link MatrixView} of the board state
+     */
+    MatrixView getBoardView();
+
     /**
      * Returns a snapshot of the current view data
      * @return a {@link ViewData} object representing the current brick and the next brick preview
@@ -64,7 +93,9 @@ public interface Board {
 
     /**
      * Clears any completed rows from the board
-     * @return a {@link ClearRow} object containing the number of rows cleared, the updated matrix, and any score bonus
+     * <p>
+     * The matrix in the result may be the board's live background rather than a copy; see {@link ClearRow}.
+     * @return a {@link ClearRow} object containing the number of rows cleared, the board matrix, and any score bonus
      */
     ClearRow clearRows();
 
@@ -0,0 +1,339 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.ShapeTable;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+
+/**
+ * Draws the board, the ghost brick and the active brick onto a single {@link Canvas}
+ * <p>
+ * The previous view kept one {@code Rectangle} node per board cell, a second full grid of ghost rectangles and a 4x4 panel for
+ * the active brick: over 500 scene-graph nodes whose fill and corner radius were set on every refresh, each one taking part
+ * in CSS and layout passes. The {@code BoardRenderer} replaces all of them with one canvas node. Each {@link #render} call
+ * redraws the visible rows from the engine state with a handful of immediate-mode drawing commands, so the cost of a frame
+ * depends on the number of occupied cells, not on the size of the scene graph, and larger boards or several boards side by
+ * side stay cheap.
+ * <p>
+ * When the board supplies a {@link DirtyCells} record, a render only repaints the background cells marked in it, plus the cells
+ * the active brick covered on the previous render and covers now. A landing that clears no lines therefore repaints a few
+ * dozen cells at most instead of every visible cell, and a move repaints only the brick's cells. The ghost is repainted only
+ * when {@link GhostBrick#isChanged()} reports that it moved, in which case its old and new cells are repainted; otherwise
+ * its outline is stroked again only on cells that something else repainted during the same render, so a gravity step or a
+ * move blocked by a wall leaves the ghost untouched.
+ * <p>
+ * Cells are not styled one by one: every cell, and every ghost outline, is copied from the {@link SpriteAtlas} of the view's
+ * {@link Theme}, in which each brick color was rasterized once. A full redraw is therefore one image copy per occupied cell
+ * with no fill or stroke state changes, and when the theme's palette changes the next render redraws the whole board from
+ * the new atlas.
+ * <p>
+ * The active brick can be drawn part of a row below its cell, so that a view paced by the display can show a falling brick
+ * moving smoothly towards the next row; the cells it then overlaps are erased on the next render like any other brick cell.
+ * <p>
+ * The top {@link #HIDDEN_ROWS} rows of the board are the spawn area and are not drawn. Cells are laid out on a grid with a
+ * fixed gap between them, matching the look of the previous grid layout; empty cells are left transparent so the background
+ * of the containing panel shows through.
+ *
+ */
+public final class BoardRenderer {
+    /** Number of rows at the top of the board that are not drawn */
+    public static final int HIDDEN_ROWS = 2;
+    /** Largest number of cells the active brick covers: a full 4x4 shape matrix, doubled when drawn between two rows */
+    private static final int MAX_BRICK_CELLS = 32;
+
+    /** The canvas the board is drawn onto */
+    private final Canvas canvas;
+    /** Drawing context of {@link #canvas} */
+    private final GraphicsContext graphics;
+    /** Number of board rows, including the hidden rows */
+    private final int rows;
+    /** Number of board columns */
+    private final int cols;
+    /** Size of one cell in pixels */
+    private final int cellSize;
+    /** Distance between the top-left corners of two neighboring cells */
+    private final double pitch;
+    /** Columns of the cells covered by the active brick on the last render */
+    private final int[] brickX = new int[MAX_BRICK_CELLS];
+    /** Rows of the cells covered by the active brick on the last render */
+    private final int[] brickY = new int[MAX_BRICK_CELLS];
+    /** Number of cells in {@link #brickX} and {@link #brickY} */
+    private int brickCount;
+    /** Number of the render that last repainted each cell, indexed by {@code row * cols + col} */
+    private final int[] paintedIn;
+    /** Number of the current render */
+    private int frame;
+    /** Sprites of the theme's current palette at {@link #cellSize} */
+    private SpriteAtlas atlas;
+    /** Flag indicating whether the whole board has been drawn at least once */
+    private boolean drawn;
+
+    /**
+     * Creates a renderer and its canvas, sized to fit the visible rows, using the classic palette
+     * @param rows the number of board rows, including the hidden rows
+     * @param cols the number of board columns
+     * @param cellSize the size of one cell in pixels
+     * @param gap the space between two cells in pixels
+     */
+    public BoardRenderer(int rows, int cols, int cellSize, double gap) {
+        this(rows, cols, cellSize, gap, new Theme());
+    }
+
+    /**
+     * Creates a renderer and its canvas, sized to fit the visible rows
+     * @param rows the number of board rows, including the hidden rows
+     * @param cols the number of board columns
+     * @param cellSize the size of one cell in pixels
+     * @param gap the space between two cells in pixels
+     * @param theme the theme to draw the cells from
+     */
+    public BoardRenderer(int rows, int cols, int cellSize, double gap, Theme theme) {
+        this.rows = rows;
+        this.cols = cols;
+        this.cellSize = cellSize;
+        this.pitch = cellSize + gap;
+        this.canvas = new Canvas(cols * pitch - gap, (rows - HIDDEN_ROWS) * pitch - gap);
+        this.graphics = canvas.getGraphicsContext2D();
+        this.paintedIn = new int[rows * cols];
+        this.atlas = theme.atlas(cellSize);
+        canvas.setMouseTransparent(true);
+        theme.paletteProperty().addListener((observable, oldPalette, newPalette) -> {
+            atlas = theme.atlas(cellSize);
+            drawn = false;
+        });
+    }
+
+    /**
+     * Returns the canvas the board is drawn onto
+     * @return the {@link Canvas} node to place in the scene
+     */
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    /**
+     * Redraws the whole board
+     * @param board the background matrix, or {@code null} to draw an empty board
+     * @param brick the active brick, or {@code null} if none is shown
+     * @param ghost the landing position of the active brick, or {@code null} if none is shown
+     */
+    public void render(int[][] board, ViewData brick, GhostBrick ghost) {
+        render(board, null, brick, ghost);
+    }
+
+    /**
+     * Redraws the cells that changed since the last render, then clears the change record
+     * @param board the background matrix, or {@code null} to draw an empty board
+     * @param dirty the background cells changed since the last render, or {@code null} to redraw the whole board
+     * @param brick the active brick, or {@code null} if none is shown
+     * @param ghost the landing position of the active brick, or {@code null} if none is shown
+     */
+    public void render(int[][] board, DirtyCells dirty, ViewData brick, GhostBrick ghost) {
+        render(board, dirty, brick, ghost, 0);
+    }
+
+    /**
+     * Redraws the cells that changed since the last render, drawing the active brick part of a row below its position
+     * @param board the background matrix, or {@code null} to draw an empty board
+     * @param dirty the background cells changed since the last render, or {@code null} to redraw the whole board
+     * @param brick the active brick, or {@code null} if none is shown
+     * @param ghost the landing position of the active brick, or {@code null} if none is shown
+     * @param fall how far below its row the brick is drawn, as a fraction of a row in {@code [0, 1]}
+     */
+    public void render(int[][] board, DirtyCells dirty, ViewData brick, GhostBrick ghost, double fall) {
+        frame++;
+        boolean full = dirty == null || !drawn || board == null;
+        if (full) {
+            graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+            for (int row = HIDDEN_ROWS; board != null && row < rows; row++) {
+                for (int col = 0; col < cols; col++) {
+                    repaintCell(board, row, col);
+                }
+            }
+            drawn = board != null;
+            collectBrick(brick, fall);
+        } else {
+            for (int row = Math.max(HIDDEN_ROWS, dirty.getTop()); row <= Math.min(rows - 1, dirty.getBottom()); row++) {
+                for (int col = 0; col < cols; col++) {
+                    if (dirty.isDirty(row, col)) {
+                        repaintCell(board, row, col);
+                    }
+                }
+            }
+            // Erase the previous brick, and clear the cells under the new one so the fill is not drawn twice
+            for (int k = 0; k < brickCount; k++) {
+                repaintCell(board, brickY[k], brickX[k]);
+            }
+            collectBrick(brick, fall);
+            for (int k = 0; k < brickCount; k++) {
+                repaintCell(board, brickY[k], brickX[k]);
+            }
+            if (ghost != null && ghost.isChanged()) {
+                for (int k = 0; k < ghost.getPreviousCount(); k++) {
+                    repaintCell(board, ghost.getPreviousY(k), ghost.getPreviousX(k));
+                }
+            }
+        }
+        if (dirty != null) {
+            dirty.clear();
+        }
+
+        if (ghost != null) {
+            boolean moved = full || ghost.isChanged();
+            for (int k = 0; k < ghost.getCellCount(); k++) {
+                int row = ghost.getY(k);
+                int col = ghost.getX(k);
+                boolean painted = wasPainted(row, col);
+                if (moved && !painted) {
+                    repaintCell(board, row, col);
+                }
+                // An unmoved outline is still on the canvas unless this render cleared its cell
+                if (moved || painted) {
+                    drawSprite(row, col, atlas.getGhostIndex());
+                }
+            }
+        }
+        if (brick != null) {
+            drawBrick(brick, fall * pitch);
+        }
+    }
+
+    /**
+     * Records the cells the active brick covers, so the next render can erase them
+     * @param brick the active brick, or {@code null}
+     * @param fall how far below its row the brick is drawn; if above zero, the row below each cell is covered too
+     */
+    private void collectBrick(ViewData brick, double fall) {
+        brickCount = 0;
+        if (brick == null) {
+            return;
+        }
+        int x = brick.getxPosition();
+        int y = brick.getyPosition();
+        ShapeTable shape = brick.getShapeTable();
+        if (shape != null) {
+            int rotation = brick.getRotation();
+            for (int k = 0; k < shape.cellCount(rotation); k++) {
+                addBrickCell(y + shape.cellY(rotation, k), x + shape.cellX(rotation, k), fall);
+            }
+            return;
+        }
+        MatrixView cells = brick.getBrickView();
+        for (int i = 0; i < cells.height(); i++) {
+            for (int j = 0; j < cells.width(); j++) {
+                if (cells.cell(i, j) != 0) {
+                    addBrickCell(y + i, x + j, fall);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds one cell, and the cell below it if the brick is drawn between rows, to the brick record
+     * @param row the board row
+     * @param col the board column
+     * @param fall how far below its row the brick is drawn
+     */
+    private void addBrickCell(int row, int col, double fall) {
+        if (brickCount < MAX_BRICK_CELLS) {
+            brickX[brickCount] = col;
+            brickY[brickCount] = row;
+            brickCount++;
+        }
+        if (fall > 0 && brickCount < MAX_BRICK_CELLS) {
+            brickX[brickCount] = col;
+            brickY[brickCount] = row + 1;
+            brickCount++;
+        }
+    }
+
+    /**
+     * Draws the active brick at its current position
+     * @param brick the active brick
+     * @param fallPixels how far below its row the brick is drawn, in pixels
+     */
+    private void drawBrick(ViewData brick, double fallPixels) {
+        int x = brick.getxPosition();
+        int y = brick.getyPosition();
+        ShapeTable shape = brick.getShapeTable();
+        if (shape != null) {
+            // Walk the occupied cells instead of the padded 4x4 matrix
+            int rotation = brick.getRotation();
+            int sprite = atlas.getIndex(shape.getId());
+            for (int k = 0; k < shape.cellCount(rotation); k++) {
+                drawSprite(y + shape.cellY(rotation, k), x + shape.cellX(rotation, k), sprite, fallPixels);
+            }
+            return;
+        }
+        MatrixView cells = brick.getBrickView();
+        for (int i = 0; i < cells.height(); i++) {
+            for (int j = 0; j < cells.width(); j++) {
+                if (cells.cell(i, j) != 0) {
+                    drawSprite(y + i, x + j, atlas.getIndex(cells.cell(i, j)), fallPixels);
+                }
+            }
+        }
+    }
+
+    /**
+     * Clears one cell and draws its background block, if any
+     * @param board the background matrix
+     * @param row the board row
+     * @param col the board column
+     */
+    private void repaintCell(int[][] board, int row, int col) {
+        if (isVisible(row, col)) {
+            paintedIn[row * cols + col] = frame;
+            graphics.clearRect(col * pitch, (row - HIDDEN_ROWS) * pitch, cellSize, cellSize);
+            if (board != null && board[row][col] != 0) {
+                drawSprite(row, col, atlas.getIndex(board[row][col]));
+            }
+        }
+    }
+
+    /**
+     * Checks whether the current render has already repainted a cell
+     * @param row the board row
+     * @param col the board column
+     * @return {@code true} if the cell is visible and was cleared during this render
+     */
+    private boolean wasPainted(int row, int col) {
+        return isVisible(row, col) && paintedIn[row * cols + col] == frame;
+    }
+
+    /**
+     * Copies one sprite of the atlas onto a board cell, ignoring cells in the hidden rows or outside the board
+     * @param row the board row
+     * @param col the board column
+     * @param sprite the sprite index
+     */
+    private void drawSprite(int row, int col, int sprite) {
+        drawSprite(row, col, sprite, 0);
+    }
+
+    /**
+     * Copies one sprite of the atlas onto a board cell, shifted down by a number of pixels
+     * @param row the board row
+     * @param col the board column
+     * @param sprite the sprite index
+     * @param fallPixels how far below the cell the sprite is drawn
+     */
+    private void drawSprite(int row, int col, int sprite, double fallPixels) {
+        if (isVisible(row, col)) {
+            Image image = atlas.getImage();
+            graphics.drawImage(image, atlas.getSourceX(sprite), 0, cellSize, cellSize,
+                col * pitch, (row - HIDDEN_ROWS) * pitch + fallPixels, cellSize, cellSize);
+        }
+    }
+
+    /**
+     * Checks whether a cell lies in the drawn part of the board
+     * @param row the board row
+     * @param col the board column
+     * @return {@code true} if the cell is below the hidden rows and inside the board
+     */
+    private boolean isVisible(int row, int col) {
+        return row >= HIDDEN_ROWS && row < rows && col >= 0 && col < cols;
+    }
+}
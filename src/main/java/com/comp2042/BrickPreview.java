@@ -0,0 +1,122 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.Brick;
+
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.GridPane;
+
+/**
+ * Shows one brick in a small fixed grid, such as the hold slot or one entry of the next-bricks queue
+ * <p>
+ * The previous previews cleared their {@link GridPane} and added a new {@code Rectangle} for every cell of the brick on each
+ * spawn and hold, so every update caused CSS and layout passes and left garbage on the FX thread. A {@code BrickPreview} adds
+ * a full grid of cells to its panel once, when it is created; showing a brick afterwards only points each cell at another
+ * sprite of the {@link Theme}'s {@link SpriteAtlas}. Every cell keeps its size, so the panel's layout never changes, and
+ * showing the brick already on display does nothing at all. When the theme's palette changes, the cells switch to the new
+ * atlas and the brick is shown again.
+ * <p>
+ * The brick is drawn in its spawn rotation and centered in the grid.
+ *
+ */
+public final class BrickPreview {
+    /** The panel holding the cells */
+    private final GridPane panel;
+    /** The cells, indexed by {@code [row][column]} */
+    private final ImageView[][] cells;
+    /** Sprites of the theme's current palette at the preview's cell size */
+    private SpriteAtlas atlas;
+    /** The brick on display, or {@code null} if the preview is empty */
+    private Brick shownBrick;
+    /** Id of the brick on display, or {@code 0} if the preview is empty */
+    private int shownId;
+
+    /**
+     * Creates a preview and adds its cells to the given panel
+     * @param panel the {@link GridPane} to draw into; any children it has are removed
+     * @param cols the number of columns of the grid
+     * @param rows the number of rows of the grid
+     * @param cellSize the size of one cell in pixels
+     * @param theme the theme to draw the cells from
+     */
+    public BrickPreview(GridPane panel, int cols, int rows, int cellSize, Theme theme) {
+        this.panel = panel;
+        this.cells = new ImageView[rows][cols];
+        panel.getChildren().clear();
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < cols; j++) {
+                ImageView cell = new ImageView();
+                cells[i][j] = cell;
+                panel.add(cell, j, i);
+            }
+        }
+        useAtlas(theme.atlas(cellSize));
+        theme.paletteProperty().addListener((observable, oldPalette, newPalette) -> useAtlas(theme.atlas(cellSize)));
+    }
+
+    /**
+     * Returns the panel holding the cells
+     * @return the {@link GridPane} to place in the scene
+     */
+    public GridPane getPanel() {
+        return panel;
+    }
+
+    /**
+     * Shows a brick, or empties the preview
+     * @param brick the {@link Brick} to show, or {@code null} to show an empty preview
+     */
+    public void show(Brick brick) {
+        int id = brick == null ? 0 : brick.getId();
+        shownBrick = brick;
+        if (id == shownId) {
+            return;
+        }
+        shownId = id;
+        for (ImageView[] row : cells) {
+            for (ImageView cell : row) {
+                cell.setViewport(atlas.getViewport(0));
+            }
+        }
+        if (brick == null) {
+            return;
+        }
+
+        int[][] shape = brick.getShapeMatrix().get(0);
+        int sprite = atlas.getIndex(id);
+        int offsetX = Math.max(0, (cells[0].length - shape[0].length) / 2);
+        int offsetY = Math.max(0, (cells.length - shape.length) / 2);
+        for (int i = 0; i < shape.length && i + offsetY < cells.length; i++) {
+            for (int j = 0; j < shape[i].length && j + offsetX < cells[0].length; j++) {
+                if (shape[i][j] != 0) {
+                    cells[i + offsetY][j + offsetX].setViewport(atlas.getViewport(sprite));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the id of the brick on display
+     * @return the brick id, or {@code 0} if the preview is empty
+     */
+    public int getShownId() {
+        return shownId;
+    }
+
+    /**
+     * Points every cell at a new atlas and shows the current brick again
+     * @param atlas the atlas to draw from
+     */
+    private void useAtlas(SpriteAtlas atlas) {
+        this.atlas = atlas;
+        for (ImageView[] row : cells) {
+            for (ImageView cell : row) {
+                cell.setImage(atlas.getImage());
+                cell.setViewport(atlas.getViewport(0));
+            }
+        }
+        Brick brick = shownBrick;
+        shownId = 0;
+        shownBrick = null;
+        show(brick);
+    }
+}
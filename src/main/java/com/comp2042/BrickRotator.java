@@ -1,6 +1,8 @@
 package com.comp2042;
 
 import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.ShapeTable;
+import com.comp2042.logic.bricks.WallKickTable;
 
 /**
  * Handles rotation logic for a {@link Brick}
@@ -13,6 +15,10 @@ public class BrickRotator {
     private Brick brick;
     /** Index of the current shape orientation */
     private int currentShape = 0;
+    /** Precomputed geometry of the brick's rotations */
+    private ShapeTable shapeTable;
+    /** Wall kicks of the brick's rotation transitions */
+    private WallKickTable kickTable;
 
     /**
      * Creates a new {@code BrickRotator} with no initial brick assigned
@@ -22,12 +28,15 @@ public class BrickRotator {
     public BrickRotator() {}
     
     /**
-     * Calculates and returns information about the next shape orientation of the current brick
-     * @return a {@link NextShapeInfo} object containing the next shape matrix and its index
+     * Returns the SRS state the current brick would reach by turning clockwise
+     * <p>
+     * The board rotates bricks with {@link SimpleBoard#rotateBrick(int)}, which also tries the brick's wall kicks; this only
+     * describes the target state of a clockwise quarter turn, the same state {@code rotateBrick(1)} moves to.
+     *
+     * @return a {@link NextShapeInfo} object containing the clockwise state's shape matrix and its index
      */
     public NextShapeInfo getNextShape() {
-        int nextShape = currentShape;
-        nextShape = (++nextShape) % brick.getShapeMatrix().size();
+        int nextShape = (currentShape + 1) % shapeTable.rotationCount();
         return new NextShapeInfo(brick.getShapeMatrix().get(nextShape), nextShape);
     }
 
@@ -39,6 +48,14 @@ public class BrickRotator {
         return brick.getShapeMatrix().get(currentShape);
     }
 
+    /**
+     * Returns the index of the current shape orientation
+     * @return the current rotation index
+     */
+    public int getCurrentShapeIndex() {
+        return currentShape;
+    }
+
     /**
      * Sets the current shape index for the brick
      * @param currentShape the indes of the desired shape orientation
@@ -53,9 +70,27 @@ public class BrickRotator {
      */
     public void setBrick(Brick brick) {
         this.brick = brick;
+        this.shapeTable = ShapeTable.of(brick);
+        this.kickTable = WallKickTable.of(shapeTable);
         currentShape = 0;
     }
 
+    /**
+     * Returns the precomputed shape table of the current brick
+     * @return the {@link ShapeTable} describing every rotation of the brick
+     */
+    public ShapeTable getShapeTable() {
+        return shapeTable;
+    }
+
+    /**
+     * Returns the wall kicks of the current brick
+     * @return the {@link WallKickTable} of the brick's family
+     */
+    public WallKickTable getKickTable() {
+        return kickTable;
+    }
+
     /**
      * Returns the brick currently managed by this rotator
      * @return the {@link Brick} object
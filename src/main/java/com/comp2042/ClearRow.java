@@ -1,28 +1,94 @@
 package com.comp2042;
 
 /**
- * Immutable value object representing the result of the clearing rows from the gameboard
- * Stores the number of lines removed, the updated board matrix, and any score bonus awarded
+ * Result of clearing rows from the gameboard
+ * Stores the number of lines removed, the indices of the removed rows, the board matrix, and any score bonus awarded
+ * <p>
+ * The counts, indices and scoring are fixed when the result is created. The matrix is not: a {@link SimpleBoard} clears rows
+ * in place and hands over its live background, so {@link #getNewMatrix()} and {@link #getMatrixView()} show the board after
+ * this clear only until the next brick locks. A listener that needs the board as it was after this clear must copy it with
+ * {@link #getNewMatrix()} before then.
+ * <p>
+ * Results reported by the {@link GameEngine} also describe how the lock was scored: the T-spin performed, whether the board was
+ * perfectly cleared, the combo count and whether a back-to-back bonus applied. The score bonus is then the total awarded for the lock.
  */
 public final class ClearRow {
 
     /** The number of lines thaat were removed */
     private final int linesRemoved;
-    /** The updated board matrix after rows were cleared */
+    /** The board matrix; the live background of the board that produced this result, valid until the next lock */
     private final int[][] newMatrix;
     /** The score bonus awarded for clearing rows */
     private final int scoreBonus;
+    /** Indices of the removed rows (as they were before removal), in ascending order */
+    private final int[] clearedRows;
+
+    /** The T-spin performed by the brick that locked */
+    private final SpinType spin;
+    /** Flag indicating whether the lock left the board empty */
+    private final boolean perfectClear;
+    /** Number of locks in a row before this one that also cleared lines */
+    private final int combo;
+    /** Flag indicating whether the clear earned a back-to-back bonus */
+    private final boolean backToBack;
+    /** Shared empty index list for results that carry no row indices */
+    private static final int[] NO_ROWS = new int[0];
 
     /**
      * Construcs a new {@code ClearRow} result 
      * @param linesRemoved the number of lines cleared
-     * @param newMatrix the updated board matrix after clearing
+     * @param newMatrix the board matrix after clearing; it is not copied
      * @param scoreBonus the bonus points awarded
      */
     public ClearRow(int linesRemoved, int[][] newMatrix, int scoreBonus) {
+        this(linesRemoved, newMatrix, scoreBonus, NO_ROWS);
+    }
+
+    /**
+     * Construcs a new {@code ClearRow} result that also records which rows were removed
+     * @param linesRemoved the number of lines cleared
+     * @param newMatrix the board matrix after clearing; it is not copied
+     * @param scoreBonus the bonus points awarded
+     * @param clearedRows the indices of the removed rows in ascending order; the array is owned by this object afterwards
+     */
+    public ClearRow(int linesRemoved, int[][] newMatrix, int scoreBonus, int[] clearedRows) {
+        this(linesRemoved, newMatrix, scoreBonus, clearedRows, SpinType.NONE, false, 0, false);
+    }
+
+    /**
+     * Construcs a new {@code ClearRow} result with the scoring of its lock
+     * @param linesRemoved the number of lines cleared
+     * @param newMatrix the board matrix after clearing; it is not copied
+     * @param scoreBonus the total points awarded for the lock
+     * @param clearedRows the indices of the removed rows in ascending order
+     * @param spin the T-spin performed
+     * @param perfectClear whether the lock left the board empty
+     * @param combo the number of locks in a row before this one that also cleared lines
+     * @param backToBack whether a back-to-back bonus applied
+     */
+    private ClearRow(int linesRemoved, int[][] newMatrix, int scoreBonus, int[] clearedRows, SpinType spin, boolean perfectClear,
+            int combo, boolean backToBack) {
         this.linesRemoved = linesRemoved;
         this.newMatrix = newMatrix;
         this.scoreBonus = scoreBonus;
+        this.clearedRows = clearedRows;
+        this.spin = spin;
+        this.perfectClear = perfectClear;
+        this.combo = combo;
+        this.backToBack = backToBack;
+    }
+
+    /**
+     * Returns this result with the scoring of the lock that produced it; the matrix and row indices are shared
+     * @param scoreBonus the total points awarded for the lock
+     * @param spin the T-spin performed
+     * @param perfectClear whether the lock left the board empty
+     * @param combo the number of locks in a row before this one that also cleared lines
+     * @param backToBack whether a back-to-back bonus applied
+     * @return a new {@code ClearRow}
+     */
+    ClearRow withScoring(int scoreBonus, SpinType spin, boolean perfectClear, int combo, boolean backToBack) {
+        return new ClearRow(linesRemoved, newMatrix, scoreBonus, clearedRows, spin, perfectClear, combo, backToBack);
     }
 
     /**
@@ -34,13 +100,52 @@ public final class ClearRow {
     }
 
     /**
-     * Returns a copy of the updated board matrix after rows were cleared
-     * @return a 2D array representing the new board state
+     * Returns the number of removed row indices recorded in this result
+     * @return the number of indices available through {@link #getClearedRow(int)}
+     */
+    public int getClearedRowCount() {
+        return clearedRows.length;
+    }
+
+    /**
+     * Returns the index of a removed row without copying or boxing
+     * @param i the position in the list, from 0 to {@link #getClearedRowCount()} - 1
+     * @return the row index (as it was before removal)
+     */
+    public int getClearedRow(int i) {
+        return clearedRows[i];
+    }
+
+    /**
+     * Returns a copy of the indices of the removed rows
+     * @return the row indices in ascending order
+     */
+    public int[] getClearedRows() {
+        return clearedRows.clone();
+    }
+
+    /**
+     * Returns a copy of the board matrix
+     * <p>
+     * For results produced by a {@link SimpleBoard} the copy is taken from the live background, so it equals the board after
+     * this clear only if it is called before the next brick locks.
+     * @return a 2D array representing the board state at the time of the call
      */
     public int[][] getNewMatrix() {
         return MatrixOperations.copy(newMatrix);
     }
 
+    /**
+     * Returns a read-only view of the board matrix without copying it
+     * <p>
+     * The view follows the live background of the board, so it shows the board after this clear only until the next brick
+     * locks; it must not be kept beyond that.
+     * @return a {@link MatrixView} of the board
+     */
+    public MatrixView getMatrixView() {
+        return new MatrixView(newMatrix);
+    }
+
     /**
      * Returns the score bonus awarded for clearing rows
      * @return the bonus points
@@ -48,4 +153,36 @@ public final class ClearRow {
     public int getScoreBonus() {
         return scoreBonus;
     }
+
+    /**
+     * Returns the T-spin performed by the brick that locked
+     * @return the {@link SpinType}, {@link SpinType#NONE} for results not scored by the engine
+     */
+    public SpinType getSpin() {
+        return spin;
+    }
+
+    /**
+     * Checks whether the lock cleared lines and left the board empty
+     * @return {@code true} for a perfect clear
+     */
+    public boolean isPerfectClear() {
+        return perfectClear;
+    }
+
+    /**
+     * Returns the number of locks in a row before this one that also cleared lines
+     * @return the combo count, {@code 0} if the combo has just started or no lines were cleared
+     */
+    public int getCombo() {
+        return combo;
+    }
+
+    /**
+     * Checks whether the clear continued a chain of tetrises and T-spins and earned the back-to-back bonus
+     * @return {@code true} if the back-to-back bonus applied
+     */
+    public boolean isBackToBack() {
+        return backToBack;
+    }
 }
@@ -0,0 +1,124 @@
+package com.comp2042;
+
+import java.util.Arrays;
+
+/**
+ * Records which cells of a board have changed since a view last drew it
+ * <p>
+ * Each row keeps a bit mask of its changed columns, and the range of rows holding any change is kept alongside, so a view
+ * that redraws after a landing visits only the rows the brick touched and, within them, only the changed cells. A landing
+ * that clears no lines marks the four cells of the brick; a line clear marks every row that moved.
+ * <p>
+ * Columns from {@value #MAX_TRACKED_COLUMNS} onwards have no bit of their own; a change there marks the whole row.
+ * The board marks changes and the view calls {@link #clear()} once it has drawn them. Instances are not thread-safe.
+ *
+ */
+public final class DirtyCells {
+    /** Number of columns that are tracked one by one */
+    public static final int MAX_TRACKED_COLUMNS = Integer.SIZE;
+
+    /** Changed columns of each row, one bit per column */
+    private final int[] columns;
+    /** Mask of every column of a row */
+    private final int fullRow;
+    /** First row with a change, or {@link Integer#MAX_VALUE} if there is none */
+    private int top = Integer.MAX_VALUE;
+    /** Last row with a change, or {@code -1} if there is none */
+    private int bottom = -1;
+
+    /**
+     * Creates a tracker with every cell marked, so the first view draws the whole board
+     * @param rows the number of board rows
+     * @param cols the number of board columns
+     */
+    public DirtyCells(int rows, int cols) {
+        this.columns = new int[rows];
+        this.fullRow = cols >= MAX_TRACKED_COLUMNS ? -1 : (1 << cols) - 1;
+        markAll();
+    }
+
+    /**
+     * Marks a single cell as changed
+     * @param row the row index
+     * @param col the column index
+     */
+    public void markCell(int row, int col) {
+        columns[row] |= col < MAX_TRACKED_COLUMNS ? 1 << col : fullRow;
+        extend(row, row);
+    }
+
+    /**
+     * Marks every cell of a range of rows as changed
+     * @param from the first row (inclusive)
+     * @param to the last row (inclusive)
+     */
+    public void markRows(int from, int to) {
+        for (int row = from; row <= to; row++) {
+            columns[row] = fullRow;
+        }
+        extend(from, to);
+    }
+
+    /**
+     * Marks the whole board as changed
+     */
+    public void markAll() {
+        markRows(0, columns.length - 1);
+    }
+
+    /**
+     * Forgets every change, once a view has drawn them
+     */
+    public void clear() {
+        if (bottom >= 0) {
+            Arrays.fill(columns, top, bottom + 1, 0);
+        }
+        top = Integer.MAX_VALUE;
+        bottom = -1;
+    }
+
+    /**
+     * Checks whether nothing has changed
+     * @return {@code true} if no cell is marked
+     */
+    public boolean isEmpty() {
+        return bottom < 0;
+    }
+
+    /**
+     * Returns the first row with a change
+     * @return the row index, or {@link Integer#MAX_VALUE} if nothing has changed
+     */
+    public int getTop() {
+        return top;
+    }
+
+    /**
+     * Returns the last row with a change
+     * @return the row index, or {@code -1} if nothing has changed
+     */
+    public int getBottom() {
+        return bottom;
+    }
+
+    /**
+     * Checks whether a cell has changed
+     * @param row the row index
+     * @param col the column index
+     * @return {@code true} if the cell is marked
+     */
+    public boolean isDirty(int row, int col) {
+        int mask = columns[row];
+        return col < MAX_TRACKED_COLUMNS ? (mask & (1 << col)) != 0 : mask == -1;
+    }
+
+    /**
+     * Widens the range of changed rows
+     * @param from the first changed row
+     * @param to the last changed row
+     */
+    private void extend(int from, int to) {
+        top = Math.min(top, from);
+        bottom = Math.max(bottom, to);
+    }
+}
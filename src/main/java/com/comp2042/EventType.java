@@ -8,7 +8,12 @@ package com.comp2042;
  *  <li>{@link #DOWN} - Move the current brick downwards</li>
  *  <li>{@link #LEFT} - Move the current brick to the left</li>
  *  <li>{@link #RIGHT} - Move the current brick to the right</li>
- *  <li>{@link #ROTATE} - Rotate the current brick</li>
+ *  <li>{@link #ROTATE} - Rotate the current brick clockwise</li>
+ *  <li>{@link #ROTATE_CCW} - Rotate the current brick counter-clockwise</li>
+ *  <li>{@link #ROTATE_180} - Rotate the current brick by a half turn</li>
+ *  <li>{@link #HARD_DROP} - Drop the current brick to its landing position and lock it</li>
+ *  <li>{@link #HOLD} - Swap the current brick with the held brick</li>
+ *  <li>{@link #LOCK} - Lock the current brick where it rests, raised by the engine when the lock delay runs out</li>
  * </ul>
  */
 public enum EventType {
@@ -18,6 +23,16 @@ public enum EventType {
     LEFT, 
     /** Event indicating the brick should move one step to the right */
     RIGHT, 
-    /** Event indicating the brick should rotate to its next orientation */
-    ROTATE
+    /** Event indicating the brick should rotate clockwise to its next orientation */
+    ROTATE,
+    /** Event indicating the brick should drop straight to its landing position and lock */
+    HARD_DROP,
+    /** Event indicating the current brick should be swapped with the held brick */
+    HOLD,
+    /** Event indicating the current brick should lock in place if it is resting on the stack or the floor */
+    LOCK,
+    /** Event indicating the brick should rotate counter-clockwise */
+    ROTATE_CCW,
+    /** Event indicating the brick should rotate by a half turn */
+    ROTATE_180
 }
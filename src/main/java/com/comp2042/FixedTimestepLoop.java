@@ -0,0 +1,96 @@
+package com.comp2042;
+
+/**
+ * Fixed-timestep scheduler that turns irregular clock readings into a steady stream of logic ticks
+ * <p>
+ * Each call to {@link #advance(long)} adds the time elapsed since the previous call to an accumulator and runs one tick for every
+ * whole tick period it holds, so the tick rate depends only on {@link System#nanoTime()} and never on how often the caller is
+ * invoked. A late render pulse or a garbage collection pause is made up on the next call instead of slowing the game down.
+ * <p>
+ * Time is accumulated in units of {@code nanoseconds * ticksPerSecond}, which represents rates such as 60 Hz exactly and keeps
+ * the loop from drifting. A long stall (for example, a debugger breakpoint) is caught up for at most {@link #MAX_CATCH_UP_NANOS};
+ * older time is dropped rather than replayed in one burst.
+ * <p>
+ * After ticks have run, {@link #getAlpha()} reports how far the clock has moved towards the next tick, for renderers that
+ * interpolate between two ticks. Instances are not thread-safe.
+ *
+ */
+public final class FixedTimestepLoop {
+    /** Longest stretch of time that is caught up in one call, in nanoseconds */
+    public static final long MAX_CATCH_UP_NANOS = 250_000_000L;
+    /** Nanoseconds per second */
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    /** Number of ticks per second */
+    private final int ticksPerSecond;
+    /** The logic run on every tick */
+    private final Runnable tick;
+    /** Clock reading of the previous call, or {@code Long.MIN_VALUE} before the first */
+    private long lastNanos = Long.MIN_VALUE;
+    /** Time not yet spent on ticks, in nanoseconds multiplied by the tick rate */
+    private long accumulator;
+
+    /**
+     * Creates a loop
+     * @param ticksPerSecond the number of ticks to run per second of clock time
+     * @param tick the logic to run on each tick
+     * @throws IllegalArgumentException if the tick rate is not positive
+     */
+    public FixedTimestepLoop(int ticksPerSecond, Runnable tick) {
+        if (ticksPerSecond < 1) {
+            throw new IllegalArgumentException("Tick rate must be positive, got " + ticksPerSecond);
+        }
+        this.ticksPerSecond = ticksPerSecond;
+        this.tick = tick;
+    }
+
+    /**
+     * Runs the ticks that have become due since the previous call
+     * <p>
+     * The first call after creation or {@link #reset()} only starts the clock.
+     *
+     * @param nowNanos the current time, in {@link System#nanoTime()} units
+     * @return the number of ticks run
+     */
+    public int advance(long nowNanos) {
+        if (lastNanos == Long.MIN_VALUE) {
+            lastNanos = nowNanos;
+            return 0;
+        }
+        long elapsed = Math.min(Math.max(0, nowNanos - lastNanos), MAX_CATCH_UP_NANOS);
+        lastNanos = nowNanos;
+        accumulator += elapsed * ticksPerSecond;
+
+        int ticks = 0;
+        while (accumulator >= NANOS_PER_SECOND) {
+            accumulator -= NANOS_PER_SECOND;
+            tick.run();
+            ticks++;
+        }
+        return ticks;
+    }
+
+    /**
+     * Forgets the clock and any partial tick, so that time spent paused is not caught up on the next call
+     */
+    public void reset() {
+        lastNanos = Long.MIN_VALUE;
+        accumulator = 0;
+    }
+
+    /**
+     * Returns how far the clock has moved from the last tick towards the next one
+     * @return a fraction in {@code [0, 1)}
+     */
+    public double getAlpha() {
+        return (double) accumulator / NANOS_PER_SECOND;
+    }
+
+    /**
+     * Returns the tick rate
+     * @return the number of ticks per second
+     */
+    public int getTicksPerSecond() {
+        return ticksPerSecond;
+    }
+}
@@ -1,61 +1,88 @@
 package com.comp2042;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
 import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.bricks.Randomizer;
 
 /**
  * Main controller class for the game. 
  * Implements {@link InputEventListener} to handle user and system events such as moving, rotating, and holding bricks
  * <p>
- * The {@code GameController} manages the game board, scoring, timers, and interactions with the {@link GuiController} for updating the view
+ * The {@code GameController} is a thin JavaFX adapter around a headless {@link GameEngine}:
+ * it forwards input events to the engine and, as a {@link GameEngineListener}, mirrors engine state changes into the {@link GuiController}
+ * <p>
+ * The engine clock is advanced by the GUI's {@link FixedTimestepLoop} through {@link #onTick()}. Its rate defaults to
+ * {@link GameEngine#TICKS_PER_SECOND} and can be raised with the {@code tetris.tickRate} system property.
+ * Statistics and the countdown are not pushed on every tick; they are copied to the view once per frame by {@link #onFrame()}.
  * 
  */
 
-public class GameController implements InputEventListener {
-    /** The game board implementation */
-    private Board board = new SimpleBoard(25, 10);
+public class GameController implements InputEventListener, GameEngineListener {
+    /** The engine that owns the board, hold slot and score */
+    private final GameEngine engine;
     /** GUI controller responsible for rendering the game view */
     private final GuiController viewGuiController;
-    /** Manager for handling held bricks */
-    private HoldBrick holdBrickManager;
-    /** Flag indicating whether a brick has been held during the current turn */
-    private boolean hasHeldThisTurn = false;
+    /** View of the hold slot */
+    private final HoldBrick holdBrickManager;
     /** The selected game mode (e.g., Two-minute, Classic) */
     private final GameMode gameMode;
+    /** Properties the view binds to, refreshed once per frame */
+    private final StatsPublisher stats = new StatsPublisher();
+    /** Directory new replays are saved to, or {@code null} if recording is disabled */
+    private Path replayDirectory;
+    /** Recorder of the current game, or {@code null} if it is not being recorded */
+    private ReplayRecorder recorder;
+    /** Close of the latest finished replay file, or {@code null} if none has been finished */
+    private Future<Void> replayClosed;
 
     /**
      * Constructs a new {@code GameController} with the given GUI controller and game mode
-     * Initializes the board, sets up event listeners, and prepares the game view
+     * Creates the engine, sets up event listeners, and prepares the game view
      * @param c the {@link GuiController} used to render the game
      * @param mode the {@link GameMode} defining gameplay rules
      */
     public GameController(GuiController c, GameMode mode) {
+        this(c, mode, Integer.getInteger("tetris.tickRate", GameEngine.TICKS_PER_SECOND));
+    }
+
+    /**
+     * Constructs a new {@code GameController} whose engine clock runs at the given rate
+     * @param c the {@link GuiController} used to render the game
+     * @param mode the {@link GameMode} defining gameplay rules
+     * @param ticksPerSecond the number of logic ticks per second
+     * @throws IllegalArgumentException if the tick rate is not positive
+     */
+    public GameController(GuiController c, GameMode mode, int ticksPerSecond) {
         viewGuiController = c;
-        this.holdBrickManager = new HoldBrick(c.getHoldBrickPanel());
+        this.holdBrickManager = new HoldBrick(c.getHoldBrickPanel(), c.getTheme());
         this.gameMode = mode;
+        this.engine = new GameEngine(mode, ticksPerSecond);
+        engine.setListener(this);
+        viewGuiController.setTickRate(ticksPerSecond);
 
-        // Set up next brick display (if the board is SimpleBoard)
-        if (board instanceof SimpleBoard simpleBoard) {
-            simpleBoard.setNextBricksQueueConsumer(viewGuiController::showNextBricksQueue);
-            
-            viewGuiController.showNextBricksQueue(simpleBoard.getNextBricksQueue());    // Display the next brick preview
-            simpleBoard.setGameOverRow(0);
-        }
-
-        board.createNewBrick();
+        viewGuiController.showNextBricksQueue(engine.getNextBricksQueue());    // Display the next brick preview
         viewGuiController.setEventListener(this);
-        viewGuiController.initGameView(board.getBoardMatrix(), board.getViewData());
-        viewGuiController.bindScore(board.getScore().scoreProperty());
+        viewGuiController.setDirtyCells(engine.getBoard().getDirtyCells());
+        viewGuiController.initGameView(engine.getBoardMatrix(), engine.getViewData());
+        viewGuiController.bindStats(stats);
         viewGuiController.bindTimer(viewGuiController.getRemainingSecondsProperty());
 
         setupGameMode();
     }
 
     /**
-     * Configures the game mode. For Two-Minutes mode, starts the countdown timer
+     * Configures the game mode. For Two-Minutes mode, shows the full time limit on the countdown
      */
     private void setupGameMode() {
         if (gameMode == GameMode.TWO_MINUTES) {
-            viewGuiController.startCountdown(120);
+            viewGuiController.startCountdown(engine.getRemainingSeconds());
         }
     }
 
@@ -70,33 +97,163 @@ public class GameController implements InputEventListener {
         return timer;
     }
 
+    /**
+     * Returns the engine driven by this controller
+     * @return the {@link GameEngine}
+     */
+    public GameEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Enables replay recording and starts recording the current game
+     * <p>
+     * Every game started afterwards is recorded into its own file in the given directory.
+     * Recording is best-effort: if a replay file cannot be created, the game simply continues unrecorded.
+     *
+     * @param directory the directory to save replays to
+     */
+    public void enableReplayRecording(Path directory) {
+        this.replayDirectory = directory;
+        startRecording();
+    }
+
+    /**
+     * Returns the recorder of the current game
+     * @return the {@link ReplayRecorder}, or {@code null} if the game is not being recorded
+     */
+    public ReplayRecorder getRecorder() {
+        return recorder;
+    }
+
+    /**
+     * Opens a replay file for the current game, closing any previous one
+     */
+    private void startRecording() {
+        stopRecording();
+        if (replayDirectory == null) {
+            return;
+        }
+        BrickGenerator generator = engine.getBoard().getBrickGenerator();
+        Randomizer randomizer = generator instanceof RandomBrickGenerator random ? random.getRandomizer() : Randomizer.SEVEN_BAG;
+        try {
+            recorder = ReplayRecorder.open(ReplayRecorder.newReplayFile(replayDirectory, engine.getSeed()),
+                gameMode, engine.getSeed(), randomizer);
+        } catch (IOException e) {
+            System.err.println("Replay recording disabled: " + e.getMessage());
+            replayDirectory = null;
+        }
+    }
+
+    /**
+     * Finishes the current replay file in the background
+     */
+    private void stopRecording() {
+        if (recorder != null) {
+            replayClosed = recorder.closeAsync();
+            recorder = null;
+        }
+    }
+
+    /**
+     * Finishes the current replay file and waits until every replay of this controller has been written
+     * <p>
+     * Called when the application shuts down. The replay writer is a daemon thread, so without waiting the last inputs of
+     * the game, and any chunks still queued, would be lost when the JVM exits. Replays are written in the order they were
+     * finished, so waiting for the latest one waits for all of them.
+     *
+     */
+    public void finishRecording() {
+        stopRecording();
+        if (replayClosed == null) {
+            return;
+        }
+        try {
+            replayClosed.get();
+        } catch (ExecutionException e) {
+            System.err.println("Replay could not be saved: " + e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Records every input the engine applies, including its own gravity steps, if the game is being recorded
+     * @param type the input type
+     * @param source whether the input came from the player or the game clock
+     */
+    @Override
+    public void onInput(EventType type, EventSource source) {
+        if (recorder != null) {
+            recorder.record(type, source);
+        }
+    }
+
+    /**
+     * Advances the engine clock by one tick
+     * @return a {@link DownData} object containing the brick after the tick and the result of any landing
+     */
+    @Override
+    public DownData onTick() {
+        engine.step(null);
+        ClearRow clearRow = engine.getLastClearRow();
+        return new DownData(clearRow, engine.getViewData(), clearRow != null);
+    }
+
+    /**
+     * Publishes the statistics and, in a timed game, the countdown
+     */
+    @Override
+    public void onFrame() {
+        stats.publish(engine);
+        int remainingSeconds = engine.getRemainingSeconds();
+        if (remainingSeconds >= 0) {
+            viewGuiController.getRemainingSecondsProperty().set(remainingSeconds);
+        }
+    }
+
+    /**
+     * Returns how far the active brick has fallen from its row towards the next one
+     * @param alpha the fraction of the current logic tick that has elapsed
+     * @return a fraction of a row in {@code [0, 1]}, {@code 0} if the brick is resting
+     */
+    @Override
+    public double getFallProgress(double alpha) {
+        return engine.getFallProgress(alpha);
+    }
+
+    /**
+     * Returns the statistics published to the view
+     * @return the {@link StatsPublisher}
+     */
+    public StatsPublisher getStats() {
+        return stats;
+    }
+
     /**
      * Handles the down movement event
-     * Moves the brick down if possible, merges it into the background if it cannot move further, clears rows, and updates the score accordingly
+     * Moves the brick down if possible; otherwise the engine lands it, clears rows, and updates the score accordingly
      * @param event the {@link MoveEvent} representing the down action
      * @return a {@link DownData} object containing the result of the move
      */
     @Override
     public DownData onDownEvent(MoveEvent event) {
-        boolean canMove = board.moveBrickDown();
-        ClearRow clearRow = null;
-        boolean landed = false;
-        if (!canMove) {
-            board.mergeBrickToBackground();
-            clearRow = board.clearRows();
-            landed = true;
-            if (clearRow.getLinesRemoved() > 0) {
-                int points = clearRow.getScoreBonus();
-                board.getScore().add(points);
-            }
-            if (board.createNewBrick()) {
-                viewGuiController.gameOver();
-            }
-
-            viewGuiController.refreshGameBackground(board.getBoardMatrix());
-            holdBrickManager.setHasHeldThisTurn(false);
-        } 
-        return new DownData(clearRow, board.getViewData(), landed);
+        engine.apply(EventType.DOWN, event.getEventSource());
+        ClearRow clearRow = engine.getLastClearRow();
+        return new DownData(clearRow, engine.getViewData(), clearRow != null);
+    }
+
+    /**
+     * Handles the hard drop event
+     * Moves the brick straight to its landing position in one step using the board's drop distance, then lands it
+     * @param event the {@link MoveEvent} representing the hard drop action
+     * @return a {@link DownData} object containing the result of the landing
+     */
+    @Override
+    public DownData onHardDropEvent(MoveEvent event) {
+        engine.apply(EventType.HARD_DROP, event.getEventSource());
+        ClearRow clearRow = engine.getLastClearRow();
+        return new DownData(clearRow, engine.getViewData(), clearRow != null);
     }
 
     /**
@@ -106,8 +263,8 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onLeftEvent(MoveEvent event) {
-        board.moveBrickLeft();
-        return board.getViewData();
+        engine.apply(EventType.LEFT, event.getEventSource());
+        return engine.getViewData();
     }
 
     /**
@@ -117,32 +274,35 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onRightEvent(MoveEvent event) {
-        board.moveBrickRight();
-        return board.getViewData();
+        engine.apply(EventType.RIGHT, event.getEventSource());
+        return engine.getViewData();
     }
 
     /**
      * Handles the rotate event
+     * The event type selects the direction: {@link EventType#ROTATE}, {@link EventType#ROTATE_CCW} or {@link EventType#ROTATE_180}
      * @param event the {@link MoveEvent} representing the rotate action
      * @return the updated {@link ViewData} after rotation
      */
     @Override
     public ViewData onRotateEvent(MoveEvent event) {
-        board.rotateLeftBrick();
-        return board.getViewData();
+        engine.apply(event.getEventType(), event.getEventSource());
+        return engine.getViewData();
     }
 
     /**
-     * Starts a new game by resetting the board and refreshing the view
+     * Starts a new game by resetting the engine and refreshing the view
      * Resets or restarts the timer depending on the game mode
      */
     @Override
     public void createNewGame() {
-        board.newGame();
-        viewGuiController.refreshGameBackground(board.getBoardMatrix());
+        engine.newGame();
+        stats.publish(engine);
+        startRecording();
+        viewGuiController.refreshGameBackground(engine.getBoardMatrix());
 
         if (gameMode == GameMode.TWO_MINUTES) {
-        viewGuiController.startCountdown(120); // restart timer
+        viewGuiController.startCountdown(engine.getRemainingSeconds()); // restart timer
         } else {
         viewGuiController.resetTimer();        // keep at 00:00
         }
@@ -154,7 +314,7 @@ public class GameController implements InputEventListener {
      */
     @Override
     public int[][] getBoardMatrix() {
-        return board.getBoardMatrix();
+        return engine.getBoardMatrix();
     }
 
     /**
@@ -163,25 +323,57 @@ public class GameController implements InputEventListener {
      */
     @Override
     public void onHoldEvent() {
-        if (!(board instanceof SimpleBoard simpleBoard)) { 
-            return;
+        if (engine.apply(EventType.HOLD)) {
+            viewGuiController.refreshBrick(engine.getViewData());
+            viewGuiController.refreshGameBackground(engine.getBoardMatrix());
         }
+    }
 
-        if (holdBrickManager.hasHeldThisTurn()) {
-            return; 
+    /**
+     * Refreshes the background after the engine has locked a brick, and passes the recorded inputs to the replay writer
+     * @param clearRow the {@link ClearRow} result of the landing
+     */
+    @Override
+    public void onBrickLanded(ClearRow clearRow) {
+        viewGuiController.refreshGameBackground(engine.getBoardMatrix());
+        if (recorder != null) {
+            recorder.flush();   // Keep the file current to the last landing without waiting for a full chunk
         }
+    }
 
-            Brick currentBrick = simpleBoard.getBrickRotator().getBrick();
-            Brick newCurrent = holdBrickManager.holdBrick(currentBrick);
-            if (newCurrent != null) {
-                simpleBoard.getBrickRotator().setBrick(newCurrent);
-            } else {
-                simpleBoard.createNewBrick();   // If no brick was previously held, get a new one
-            }
+    /**
+     * Shows the newly held brick in the hold panel
+     * @param heldBrick the held {@link Brick}, or {@code null} if the slot was emptied
+     */
+    @Override
+    public void onHoldChanged(Brick heldBrick) {
+        holdBrickManager.showBrick(heldBrick);
+    }
+
+    /**
+     * Updates the next bricks preview
+     * @param nextBricks the upcoming bricks
+     */
+    @Override
+    public void onNextBricksChanged(List<Brick> nextBricks) {
+        viewGuiController.showNextBricksQueue(nextBricks);
+    }
 
-            holdBrickManager.setHasHeldThisTurn(true);
+    /**
+     * Finishes the replay of the abandoned game when the player leaves it
+     */
+    @Override
+    public void onExit() {
+        stopRecording();
+    }
 
-            viewGuiController.refreshBrick(board.getViewData());
-            viewGuiController.refreshGameBackground(board.getBoardMatrix());
-        }
+    /**
+     * Shows the game over panel when the engine ends the game
+     */
+    @Override
+    public void onGameOver() {
+        stopRecording();
+        onFrame();
+        viewGuiController.gameOver(engine.getScore());
+    }
 }
@@ -0,0 +1,716 @@
+package com.comp2042;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.bricks.WallKickTable;
+
+/**
+ * Headless game engine that owns the complete state of a single game
+ * <p>
+ * The {@code GameEngine} holds the board, the brick generator (through the board), the hold slot, the score and the game clock.
+ * It has no dependency on JavaFX, so games can be simulated on machines without a display, and it is driven through two calls:
+ * <ul>
+ *  <li>{@link #apply(EventType)} - applies a single input immediately</li>
+ *  <li>{@link #step(EventType)} - applies an optional input, then advances the clock by one tick and applies gravity</li>
+ * </ul>
+ * <p>
+ * The clock runs at a fixed rate chosen when the engine is created ({@link #TICKS_PER_SECOND} by default). Gravity and the time
+ * limit are defined in milliseconds and converted to ticks, so a faster clock (for example, for bots) plays the same game
+ * at a finer resolution.
+ * <p>
+ * Gravity follows a {@link GravityCurve}: the level rises with the lines cleared and the brick falls a fixed-point number of
+ * rows per tick, up to 20G. A brick that rests on the stack is not locked at once; it locks after {@link #LOCK_DELAY_MILLIS}
+ * on the ground, and each successful move or rotation during that time restarts the delay, up to {@link #MAX_LOCK_RESETS}
+ * times per brick. Reaching a lower row than before gives the brick a fresh set of resets. When the delay runs out the
+ * engine applies an {@link EventType#LOCK} input, so a replay of the reported inputs locks at the same moments.
+ * <p>
+ * Each lock is scored by {@link ScoringRules}. The engine remembers whether the current brick's last successful move was a
+ * rotation (and whether it used the T-spin upgrade kick), and carries the combo and back-to-back chains between locks in
+ * primitive fields, so T-spin, perfect clear, combo and back-to-back bonuses cost a constant amount of work per lock.
+ * <p>
+ * Front ends observe the engine through a {@link GameEngineListener} instead of being called by it.
+ * The engine is not thread-safe; each game should be confined to one thread.
+ *
+ */
+public class GameEngine {
+    /** Default number of clock ticks per simulated second */
+    public static final int TICKS_PER_SECOND = 60;
+    /** Time between two gravity steps, in milliseconds */
+    public static final int GRAVITY_MILLIS = 400;
+    /** Number of ticks between two gravity steps at the default tick rate, on level 1 */
+    public static final int GRAVITY_TICKS = GRAVITY_MILLIS * TICKS_PER_SECOND / 1000;
+    /** Time a brick may rest on the stack before it locks, in milliseconds */
+    public static final int LOCK_DELAY_MILLIS = 500;
+    /** Number of times moves and rotations may restart the lock delay of one brick */
+    public static final int MAX_LOCK_RESETS = 15;
+    /** Length of a {@link GameMode#TWO_MINUTES} game, in seconds */
+    public static final int TIME_LIMIT_SECONDS = 120;
+    /** Number of rows on a standard board */
+    private static final int BOARD_ROWS = 25;
+    /** Number of columns on a standard board */
+    private static final int BOARD_COLUMNS = 10;
+
+    /** The board holding the background, the current brick and the score */
+    private final SimpleBoard board;
+    /** The game mode, which decides whether the clock ends the game */
+    private final GameMode mode;
+    /** Number of clock ticks per simulated second */
+    private final int ticksPerSecond;
+    /** Fall speed per level at this tick rate */
+    private final GravityCurve gravity;
+    /** Lock delay at this tick rate, in ticks */
+    private final int lockDelayTicks;
+    /** Observer notified of state changes, or {@code null} */
+    private GameEngineListener listener;
+    /** The brick in the hold slot, or {@code null} if none is held */
+    private Brick heldBrick;
+    /** Flag indicating whether the hold slot has been used since the last landing */
+    private boolean heldThisTurn;
+    /** Clear result of the landing caused by the last input, or {@code null} if it did not land a brick */
+    private ClearRow lastClearRow;
+    /** Number of ticks elapsed since the game started */
+    private long tick;
+    /** Fixed-point fraction of a row fallen towards the next gravity step */
+    private long gravityProgress;
+    /** Ticks the current brick has spent on the ground since its lock delay last restarted */
+    private int lockTicks;
+    /** Number of lock-delay restarts used by the current brick */
+    private int lockResets;
+    /** Lowest row reached by the current brick */
+    private int lowestY;
+    /** Flag indicating whether the current brick's last successful move was a rotation */
+    private boolean lastMoveRotation;
+    /** Flag indicating whether that rotation used the {@link ScoringRules#UPGRADE_KICK} of a quarter turn */
+    private boolean spinUpgrade;
+    /** Number of locks in a row that cleared lines, minus one; {@code -1} when the last lock cleared nothing */
+    private int combo = -1;
+    /** Flag indicating whether the last line clear was a tetris or a T-spin */
+    private boolean backToBack;
+    /** Total number of lines cleared */
+    private int linesCleared;
+    /** Total number of bricks locked into the background */
+    private int piecesPlaced;
+    /** Flag indicating whether the game has ended */
+    private boolean gameOver;
+
+    /**
+     * Constructs a new {@code GameEngine} on a standard 25 x 10 board
+     * @param mode the {@link GameMode} defining gameplay rules
+     */
+    public GameEngine(GameMode mode) {
+        this(mode, new SimpleBoard(BOARD_ROWS, BOARD_COLUMNS));
+    }
+
+    /**
+     * Constructs a new {@code GameEngine} with a custom clock rate on a standard 25 x 10 board
+     * @param mode the {@link GameMode} defining gameplay rules
+     * @param ticksPerSecond the number of {@link #step(EventType)} calls per simulated second
+     * @throws IllegalArgumentException if the tick rate is not positive
+     */
+    public GameEngine(GameMode mode, int ticksPerSecond) {
+        this(mode, new SimpleBoard(BOARD_ROWS, BOARD_COLUMNS), ticksPerSecond);
+    }
+
+    /**
+     * Constructs a new {@code GameEngine} on the given board and spawns the first brick
+     * @param mode the {@link GameMode} defining gameplay rules
+     * @param board the board to play on (e.g., a {@link BitboardBoard} for simulations)
+     */
+    public GameEngine(GameMode mode, SimpleBoard board) {
+        this(mode, board, TICKS_PER_SECOND);
+    }
+
+    /**
+     * Constructs a new {@code GameEngine} with a custom clock rate on the given board and spawns the first brick
+     * @param mode the {@link GameMode} defining gameplay rules
+     * @param board the board to play on
+     * @param ticksPerSecond the number of {@link #step(EventType)} calls per simulated second
+     * @throws IllegalArgumentException if the tick rate is not positive
+     */
+    public GameEngine(GameMode mode, SimpleBoard board, int ticksPerSecond) {
+        if (ticksPerSecond < 1) {
+            throw new IllegalArgumentException("Tick rate must be positive, got " + ticksPerSecond);
+        }
+        this.mode = mode;
+        this.ticksPerSecond = ticksPerSecond;
+        this.gravity = new GravityCurve(ticksPerSecond);
+        this.lockDelayTicks = Math.max(1, (int) (((long) LOCK_DELAY_MILLIS * ticksPerSecond + 999) / 1000));
+        this.board = board;
+        board.setGameOverRow(0);
+        board.setNextBricksQueueConsumer(this::publishNextBricks);
+        gameOver = board.createNewBrick();
+        resetBrickState();
+    }
+
+    /**
+     * Sets the observer notified of state changes
+     * @param listener the {@link GameEngineListener}, or {@code null} to remove it
+     */
+    public void setListener(GameEngineListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Applies a single input to the current brick
+     * <p>
+     * Inputs are ignored once the game is over. {@link EventType#HARD_DROP} and {@link EventType#LOCK} lock the brick in place;
+     * {@link #getLastClearRow()} then reports the result of the landing. A {@link EventType#DOWN} input that cannot move the
+     * brick is rejected, leaving the lock to the lock delay.
+     *
+     * @param type the input to apply
+     * @return {@code true} if the input changed the game state, {@code false} if it was rejected
+     */
+    public boolean apply(EventType type) {
+        return apply(type, EventSource.USER);
+    }
+
+    /**
+     * Applies a single input to the current brick, reporting where it came from
+     * @param type the input to apply
+     * @param source whether the input came from the player or the game clock
+     * @return {@code true} if the input changed the game state, {@code false} if it was rejected
+     * @see #apply(EventType)
+     */
+    public boolean apply(EventType type, EventSource source) {
+        lastClearRow = null;
+        return applyInput(type, source);
+    }
+
+    /**
+     * Advances the game by one clock tick
+     * <p>
+     * The optional input is applied first, followed by the gravity of the current level and the lock delay.
+     * In {@link GameMode#TWO_MINUTES} the game ends once the time limit has elapsed.
+     *
+     * @param input the input to apply during this tick, or {@code null} for none
+     * @return {@code true} if the game is still running after the tick, {@code false} if it is over
+     */
+    public boolean step(EventType input) {
+        lastClearRow = null;
+        if (gameOver) {
+            return false;
+        }
+        if (input != null) {
+            applyInput(input, EventSource.USER);
+        }
+        tick++;
+        applyGravity();
+        if (mode == GameMode.TWO_MINUTES && !gameOver && getRemainingSeconds() == 0) {
+            endGame();
+        }
+        return !gameOver;
+    }
+
+    /**
+     * Lets the current brick fall for one tick and counts down its lock delay while it rests on the stack
+     * <p>
+     * Every row fallen is applied as a {@link EventType#DOWN} input and the lock as a {@link EventType#LOCK} input,
+     * both from {@link EventSource#THREAD}, so the listener sees the same inputs that a replay applies.
+     *
+     */
+    private void applyGravity() {
+        if (gameOver) {
+            return;
+        }
+        gravityProgress += gravity.cellsPerTick(getLevel());
+        int rows = (int) (gravityProgress >>> GravityCurve.FRACTION_BITS);
+        gravityProgress &= GravityCurve.FRACTION_MASK;
+        int distance = board.getDropDistance();
+        if (rows >= distance) {
+            gravityProgress = 0;    // Landed; do not carry a partial row into the next fall
+        }
+        for (int i = Math.min(rows, distance); i > 0; i--) {
+            applyInput(EventType.DOWN, EventSource.THREAD);
+        }
+        if (board.getDropDistance() == 0 && ++lockTicks >= lockDelayTicks) {
+            applyInput(EventType.LOCK, EventSource.THREAD);
+        }
+    }
+
+    /**
+     * Restarts the lock delay after a successful move or rotation, if the brick has resets left
+     */
+    private void onShifted() {
+        if (lockTicks > 0 && lockResets < MAX_LOCK_RESETS) {
+            lockTicks = 0;
+            lockResets++;
+        }
+    }
+
+    /**
+     * Records progress after the brick moved down; a new lowest row restarts the lock delay and its reset count
+     */
+    private void onFallen() {
+        int y = board.getCurrentY();
+        if (y > lowestY) {
+            lowestY = y;
+            lockTicks = 0;
+            lockResets = 0;
+        }
+    }
+
+    /**
+     * Clears the gravity, lock-delay and spin state for a newly spawned brick
+     */
+    private void resetBrickState() {
+        gravityProgress = 0;
+        lockTicks = 0;
+        lockResets = 0;
+        lowestY = board.getCurrentY();
+        lastMoveRotation = false;
+        spinUpgrade = false;
+    }
+
+    /**
+     * Applies an input without resetting the landing result
+     * @param type the input to apply
+     * @param source whether the input came from the player or the game clock
+     * @return {@code true} if the input changed the game state
+     */
+    private boolean applyInput(EventType type, EventSource source) {
+        if (gameOver) {
+            return false;
+        }
+        if (listener != null) {
+            listener.onInput(type, source);
+        }
+        boolean moved;
+        boolean rotation = false;
+        switch (type) {
+            case LEFT:
+                moved = board.moveBrickLeft();
+                break;
+            case RIGHT:
+                moved = board.moveBrickRight();
+                break;
+            case ROTATE:
+                moved = board.rotateBrick(WallKickTable.CLOCKWISE);
+                rotation = true;
+                break;
+            case ROTATE_CCW:
+                moved = board.rotateBrick(WallKickTable.COUNTER_CLOCKWISE);
+                rotation = true;
+                break;
+            case ROTATE_180:
+                moved = board.rotateBrick(WallKickTable.HALF_TURN);
+                rotation = true;
+                break;
+            case DOWN:
+                if (!board.moveBrickDown()) {
+                    return false;
+                }
+                lastMoveRotation = false;
+                onFallen();
+                return true;
+            case HARD_DROP:
+                if (board.dropBrick() > 0) {
+                    lastMoveRotation = false;
+                }
+                landBrick();
+                return true;
+            case LOCK:
+                if (board.getDropDistance() > 0) {
+                    return false;
+                }
+                landBrick();
+                return true;
+            case HOLD:
+                return holdBrick();
+            default:
+                return false;
+        }
+        if (moved) {
+            lastMoveRotation = rotation;
+            spinUpgrade = rotation && type != EventType.ROTATE_180 && board.getLastKick() == ScoringRules.UPGRADE_KICK;
+            onShifted();
+        }
+        return moved;
+    }
+
+    /**
+     * Merges the current brick into the background, clears rows, scores the lock and spawns the next brick
+     * <p>
+     * A lock that clears nothing ends the combo but keeps the back-to-back chain; a line clear that is neither a tetris nor a
+     * T-spin ends the chain.
+     *
+     */
+    private void landBrick() {
+        SpinType spin = detectSpin();
+        board.mergeBrickToBackground();
+        ClearRow clearRow = board.clearRows();
+        piecesPlaced++;
+        int lines = clearRow.getLinesRemoved();
+        boolean backToBackBonus = false;
+        if (lines > 0) {
+            linesCleared += lines;
+            combo++;
+            boolean difficult = ScoringRules.isDifficult(lines, spin);
+            backToBackBonus = difficult && backToBack;
+            backToBack = difficult;
+        } else {
+            combo = -1;
+        }
+        boolean perfectClear = lines > 0 && board.isEmpty();
+        int points = ScoringRules.lockPoints(lines, spin, backToBackBonus, combo, perfectClear);
+        board.getScore().add(points);
+        clearRow = clearRow.withScoring(points, spin, perfectClear, Math.max(0, combo), backToBackBonus);
+        lastClearRow = clearRow;
+        heldThisTurn = false;
+        boolean blocked = board.createNewBrick();
+        resetBrickState();
+
+        if (listener != null) {
+            listener.onBrickLanded(clearRow);
+        }
+        if (blocked) {
+            endGame();
+        }
+    }
+
+    /**
+     * Decides whether the current brick is locking as a T-spin, before it is merged
+     * @return the {@link SpinType}; only a T brick whose last successful move was a rotation can spin
+     */
+    private SpinType detectSpin() {
+        BrickRotator rotator = board.getBrickRotator();
+        if (!lastMoveRotation || rotator.getShapeTable().getId() != ScoringRules.T_BRICK_ID) {
+            return SpinType.NONE;
+        }
+        return ScoringRules.detectSpin(board.getCornerMask(), rotator.getCurrentShapeIndex(), spinUpgrade);
+    }
+
+    /**
+     * Swaps the current brick with the held brick, or with the next brick if the hold slot is empty
+     * <p>
+     * Holding is allowed once per landing.
+     *
+     * @return {@code true} if the bricks were swapped, {@code false} if the hold slot was already used this turn
+     */
+    private boolean holdBrick() {
+        if (heldThisTurn) {
+            return false;
+        }
+        Brick previous = heldBrick;
+        heldBrick = board.getBrickRotator().getBrick();
+        heldThisTurn = true;
+        boolean blocked = false;
+        if (previous != null) {
+            board.setCurrentBrick(previous);
+        } else {
+            blocked = board.createNewBrick();   // If no brick was previously held, get a new one
+        }
+        resetBrickState();
+
+        if (listener != null) {
+            listener.onHoldChanged(heldBrick);
+        }
+        if (blocked) {
+            endGame();
+        }
+        return true;
+    }
+
+    /**
+     * Marks the game as over and notifies the listener
+     */
+    private void endGame() {
+        gameOver = true;
+        if (listener != null) {
+            listener.onGameOver();
+        }
+    }
+
+    /**
+     * Forwards a change of the upcoming bricks to the listener
+     * @param nextBricks the bricks that will spawn next
+     */
+    private void publishNextBricks(List<Brick> nextBricks) {
+        if (listener != null) {
+            listener.onNextBricksChanged(nextBricks);
+        }
+    }
+
+    /**
+     * Starts a new game with a fresh random seed
+     * <p>
+     * Clears the board, score, hold slot, statistics and clock, and spawns a new brick
+     *
+     */
+    public void newGame() {
+        newGame(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Starts a new game whose brick sequence is reproduced exactly by the given seed
+     * @param seed the seed of the brick generator
+     */
+    public void newGame(long seed) {
+        resetState();
+        board.newGame(seed);
+        resetBrickState();
+        notifyNewGame();
+    }
+
+    /**
+     * Clears the hold slot, statistics and clock
+     */
+    private void resetState() {
+        heldBrick = null;
+        heldThisTurn = false;
+        lastClearRow = null;
+        tick = 0;
+        linesCleared = 0;
+        piecesPlaced = 0;
+        combo = -1;
+        backToBack = false;
+        gameOver = false;
+    }
+
+    /**
+     * Tells the listener that the hold slot has been emptied by a new game
+     */
+    private void notifyNewGame() {
+        if (listener != null) {
+            listener.onHoldChanged(null);
+        }
+    }
+
+    /**
+     * Captures the complete game state
+     * @return a {@link GameSnapshot} that {@link #restore(GameSnapshot)} can return to
+     * @throws IllegalStateException if the board does not draw from a {@link RandomBrickGenerator}
+     */
+    public GameSnapshot snapshot() {
+        return new GameSnapshot(MatrixOperations.copy(board.getBoardMatrix()), board.getBrickRotator().getBrick(),
+            board.getBrickRotator().getCurrentShapeIndex(), board.getCurrentX(), board.getCurrentY(), randomGenerator().saveState(),
+            getScore(), heldBrick, heldThisTurn, tick, gravityProgress, lockTicks, lockResets, lowestY, lastMoveRotation, spinUpgrade,
+            combo, backToBack, linesCleared, piecesPlaced, gameOver);
+    }
+
+    /**
+     * Returns the engine to a captured state
+     * <p>
+     * The listener is not notified; observers should re-read the engine afterwards.
+     *
+     * @param snapshot a {@link GameSnapshot} taken from an engine with the same board size and preview depth
+     * @throws IllegalStateException if the board does not draw from a {@link RandomBrickGenerator}
+     */
+    public void restore(GameSnapshot snapshot) {
+        board.restore(snapshot.matrix, snapshot.brick, snapshot.rotation, snapshot.x, snapshot.y);
+        randomGenerator().restoreState(snapshot.generator);
+        board.getScore().set(snapshot.score);
+        heldBrick = snapshot.heldBrick;
+        heldThisTurn = snapshot.heldThisTurn;
+        tick = snapshot.tick;
+        gravityProgress = snapshot.gravityProgress;
+        lockTicks = snapshot.lockTicks;
+        lockResets = snapshot.lockResets;
+        lowestY = snapshot.lowestY;
+        lastMoveRotation = snapshot.lastMoveRotation;
+        spinUpgrade = snapshot.spinUpgrade;
+        combo = snapshot.combo;
+        backToBack = snapshot.backToBack;
+        linesCleared = snapshot.linesCleared;
+        piecesPlaced = snapshot.piecesPlaced;
+        gameOver = snapshot.gameOver;
+        lastClearRow = null;
+    }
+
+    /**
+     * Returns the board's generator as a {@link RandomBrickGenerator}
+     * @return the generator
+     * @throws IllegalStateException if the board uses another generator, whose state cannot be captured
+     */
+    private RandomBrickGenerator randomGenerator() {
+        if (board.getBrickGenerator() instanceof RandomBrickGenerator generator) {
+            return generator;
+        }
+        throw new IllegalStateException("Snapshots require a RandomBrickGenerator");
+    }
+
+    /**
+     * Returns the board the engine plays on
+     * @return the {@link SimpleBoard}
+     */
+    public SimpleBoard getBoard() {
+        return board;
+    }
+
+    /**
+     * Returns the seed of the current brick sequence
+     * @return the seed, which replays the same bricks when passed to {@link #newGame(long)}
+     */
+    public long getSeed() {
+        return board.getBrickGenerator().getSeed();
+    }
+
+    /**
+     * Returns the clock rate
+     * @return the number of ticks per simulated second
+     */
+    public int getTicksPerSecond() {
+        return ticksPerSecond;
+    }
+
+    /**
+     * Returns the game mode
+     * @return the {@link GameMode}
+     */
+    public GameMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Returns the current board matrix
+     * @return a 2D array representing the board state
+     */
+    public int[][] getBoardMatrix() {
+        return board.getBoardMatrix();
+    }
+
+    /**
+     * Returns the data needed to render the current brick
+     * @return a new {@link ViewData} snapshot
+     */
+    public ViewData getViewData() {
+        return board.getViewData();
+    }
+
+    /**
+     * Returns the queue of upcoming bricks
+     * @return a list of the next {@link Brick} objects
+     */
+    public List<Brick> getNextBricksQueue() {
+        return board.getNextBricksQueue();
+    }
+
+    /**
+     * Returns the clear result of the landing caused by the last {@link #apply(EventType)} or {@link #step(EventType)} call
+     * @return the {@link ClearRow} of the landing, or {@code null} if the last call did not land a brick
+     */
+    public ClearRow getLastClearRow() {
+        return lastClearRow;
+    }
+
+    /**
+     * Returns the brick in the hold slot
+     * @return the held {@link Brick}, or {@code null} if none is held
+     */
+    public Brick getHeldBrick() {
+        return heldBrick;
+    }
+
+    /**
+     * Checks whether the hold slot has already been used since the last landing
+     * @return {@code true} if holding is blocked until the next landing
+     */
+    public boolean hasHeldThisTurn() {
+        return heldThisTurn;
+    }
+
+    /**
+     * Returns the current score
+     * @return the number of points scored
+     */
+    public int getScore() {
+        return board.getScore().getValue();
+    }
+
+    /**
+     * Returns the total number of lines cleared
+     * @return the line count
+     */
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+
+    /**
+     * Returns how far the current brick has fallen from its row towards the next one, for renderers that draw it between rows
+     * <p>
+     * The gravity accumulated since the brick last moved down is extended by {@code alpha} of one more tick, so a renderer
+     * that calls this once per frame with the fraction of the current tick that has elapsed sees the brick move steadily
+     * down over the whole time it takes to fall one row, instead of jumping from row to row. A brick resting on the stack,
+     * or a game that is over, reports {@code 0}.
+     *
+     * @param alpha the fraction of the current tick that has elapsed, in {@code [0, 1)}
+     * @return a fraction of a row in {@code [0, 1]}
+     */
+    public double getFallProgress(double alpha) {
+        if (gameOver || board.getDropDistance() == 0) {
+            return 0;
+        }
+        double progress = (gravityProgress + alpha * gravity.cellsPerTick(getLevel())) / (1L << GravityCurve.FRACTION_BITS);
+        return Math.min(1, progress);
+    }
+
+    /**
+     * Returns the current level, which sets the fall speed
+     * @return the level, between 1 and {@link GravityCurve#MAX_LEVEL}
+     */
+    public int getLevel() {
+        return GravityCurve.levelFor(linesCleared);
+    }
+
+    /**
+     * Returns the length of the current combo
+     * @return the number of locks in a row before the last one that cleared lines, or {@code -1} if the last lock cleared nothing
+     */
+    public int getCombo() {
+        return combo;
+    }
+
+    /**
+     * Checks whether the next tetris or T-spin clear earns the back-to-back bonus
+     * @return {@code true} if the last line clear was a tetris or a T-spin
+     */
+    public boolean isBackToBack() {
+        return backToBack;
+    }
+
+    /**
+     * Returns the total number of bricks locked into the background
+     * @return the piece count
+     */
+    public int getPiecesPlaced() {
+        return piecesPlaced;
+    }
+
+    /**
+     * Returns the placement rate over the game so far
+     * @return the pieces placed per second of game time, or {@code 0} before the first tick
+     */
+    public double getPiecesPerSecond() {
+        return tick == 0 ? 0 : (double) piecesPlaced * ticksPerSecond / tick;
+    }
+
+    /**
+     * Returns the number of ticks elapsed since the game started
+     * @return the tick count
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Returns the number of whole seconds left before the time limit
+     * @return the remaining seconds, or {@code -1} if the game mode has no time limit
+     */
+    public int getRemainingSeconds() {
+        if (mode != GameMode.TWO_MINUTES) {
+            return -1;
+        }
+        long remainingTicks = (long) TIME_LIMIT_SECONDS * ticksPerSecond - tick;
+        return (int) Math.max(0, (remainingTicks + ticksPerSecond - 1) / ticksPerSecond);
+    }
+
+    /**
+     * Checks whether the game has ended
+     * @return {@code true} if the game is over
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+}
@@ -0,0 +1,52 @@
+package com.comp2042;
+
+import java.util.List;
+
+import com.comp2042.logic.bricks.Brick;
+
+/**
+ * Receives notifications about state changes in a {@link GameEngine}
+ * <p>
+ * The engine never refers to a view directly; a front end (e.g., {@link GameController}) implements this interface to mirror the
+ * engine's state. Every method has an empty default implementation, so observers only override the events they care about.
+ * 
+ */
+public interface GameEngineListener {
+
+    /**
+     * Called before the engine applies an input, including the gravity steps it generates itself
+     * <p>
+     * Feeding the reported inputs back to {@link GameEngine#apply(EventType)} in order reproduces the game, which is how
+     * replays are recorded.
+     *
+     * @param type the input about to be applied
+     * @param source whether the input came from the player or the game clock
+     */
+    default void onInput(EventType type, EventSource source) {}
+
+    /**
+     * Called after the current brick has been merged into the background and full rows have been cleared
+     * <p>
+     * The result's matrix is the engine's live background and changes with the next lock; copy it with
+     * {@link ClearRow#getNewMatrix()} during this call if the board after this landing is needed later.
+     * @param clearRow the {@link ClearRow} result of the landing
+     */
+    default void onBrickLanded(ClearRow clearRow) {}
+
+    /**
+     * Called when the held brick changes
+     * @param heldBrick the newly held {@link Brick}, or {@code null} if the hold slot was emptied
+     */
+    default void onHoldChanged(Brick heldBrick) {}
+
+    /**
+     * Called when the queue of upcoming bricks changes
+     * @param nextBricks the bricks that will spawn next, in order
+     */
+    default void onNextBricksChanged(List<Brick> nextBricks) {}
+
+    /**
+     * Called once when the game ends, either because a new brick could not spawn or because the time limit ran out
+     */
+    default void onGameOver() {}
+}
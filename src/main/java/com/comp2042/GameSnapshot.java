@@ -0,0 +1,123 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+
+/**
+ * Immutable copy of the complete state of a {@link GameEngine}
+ * <p>
+ * A snapshot holds the background, the current brick and its position, the brick generator state (and therefore the preview
+ * queue), the hold slot, the score, the statistics, the clock, the gravity and lock-delay timers and the combo and back-to-back chains. Restoring it with {@link GameEngine#restore(GameSnapshot)}
+ * puts the engine back in exactly that state, so replays can seek without simulating from the start.
+ *
+ */
+public final class GameSnapshot {
+    /** Copy of the background matrix */
+    final int[][] matrix;
+    /** The current brick */
+    final Brick brick;
+    /** Rotation index of the current brick */
+    final int rotation;
+    /** X offset of the current brick */
+    final int x;
+    /** Y offset of the current brick */
+    final int y;
+    /** State of the brick generator */
+    final RandomBrickGenerator.State generator;
+    /** The score */
+    final int score;
+    /** The held brick, or {@code null} */
+    final Brick heldBrick;
+    /** Whether the hold slot was used since the last landing */
+    final boolean heldThisTurn;
+    /** Ticks elapsed */
+    final long tick;
+    /** Fixed-point fraction of a row fallen towards the next gravity step */
+    final long gravityProgress;
+    /** Ticks the current brick has spent in lock delay */
+    final int lockTicks;
+    /** Lock-delay resets used by the current brick */
+    final int lockResets;
+    /** Lowest row reached by the current brick */
+    final int lowestY;
+    /** Whether the current brick's last successful move was a rotation */
+    final boolean lastMoveRotation;
+    /** Whether that rotation used the T-spin upgrade kick */
+    final boolean spinUpgrade;
+    /** Combo counter */
+    final int combo;
+    /** Whether the last line clear was a tetris or a T-spin */
+    final boolean backToBack;
+    /** Lines cleared */
+    final int linesCleared;
+    /** Pieces placed */
+    final int piecesPlaced;
+    /** Whether the game had ended */
+    final boolean gameOver;
+
+    /**
+     * Creates a snapshot; the matrix must already be a private copy
+     * @param matrix copy of the background
+     * @param brick the current brick
+     * @param rotation the rotation index of the current brick
+     * @param x the X offset of the current brick
+     * @param y the Y offset of the current brick
+     * @param generator the brick generator state
+     * @param score the score
+     * @param heldBrick the held brick, or {@code null}
+     * @param heldThisTurn whether the hold slot was used since the last landing
+     * @param tick the ticks elapsed
+     * @param gravityProgress the fraction of a row fallen towards the next gravity step
+     * @param lockTicks the ticks spent in lock delay
+     * @param lockResets the lock-delay resets used
+     * @param lowestY the lowest row reached by the current brick
+     * @param lastMoveRotation whether the current brick's last successful move was a rotation
+     * @param spinUpgrade whether that rotation used the T-spin upgrade kick
+     * @param combo the combo counter
+     * @param backToBack whether the last line clear was a tetris or a T-spin
+     * @param linesCleared the lines cleared
+     * @param piecesPlaced the pieces placed
+     * @param gameOver whether the game had ended
+     */
+    GameSnapshot(int[][] matrix, Brick brick, int rotation, int x, int y, RandomBrickGenerator.State generator, int score,
+            Brick heldBrick, boolean heldThisTurn, long tick, long gravityProgress, int lockTicks, int lockResets, int lowestY,
+            boolean lastMoveRotation, boolean spinUpgrade, int combo, boolean backToBack, int linesCleared, int piecesPlaced, boolean gameOver) {
+        this.matrix = matrix;
+        this.brick = brick;
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+        this.generator = generator;
+        this.score = score;
+        this.heldBrick = heldBrick;
+        this.heldThisTurn = heldThisTurn;
+        this.tick = tick;
+        this.gravityProgress = gravityProgress;
+        this.lockTicks = lockTicks;
+        this.lockResets = lockResets;
+        this.lowestY = lowestY;
+        this.lastMoveRotation = lastMoveRotation;
+        this.spinUpgrade = spinUpgrade;
+        this.combo = combo;
+        this.backToBack = backToBack;
+        this.linesCleared = linesCleared;
+        this.piecesPlaced = piecesPlaced;
+        this.gameOver = gameOver;
+    }
+
+    /**
+     * Returns the score at the time of the snapshot
+     * @return the score
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Returns the number of pieces placed at the time of the snapshot
+     * @return the piece count
+     */
+    public int getPiecesPlaced() {
+        return piecesPlaced;
+    }
+}
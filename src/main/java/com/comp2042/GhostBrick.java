@@ -1,63 +1,111 @@
 package com.comp2042;
 
-import javafx.scene.paint.Color;
-import javafx.scene.shape.Rectangle;
+import com.comp2042.logic.bricks.ShapeTable;
 
 /**
  * Represents the "ghost" brick in the game
  * <p>
- * A ghost brick is a visual aid that shows where the current falling brick would land if dropped straight down
- * It is rendered as a set of transparent rectangles with white outlines
- * 
+ * A ghost brick is a visual aid that shows where the current falling brick would land if dropped straight down.
+ * This class only calculates and holds the board coordinates of the ghost's cells; the {@link BoardRenderer} draws them
+ * as white outlines.
+ * <p>
+ * The ghost remembers the cells it last lit. An update that leaves the landing position unchanged (for example, a gravity
+ * step, or a move blocked by a wall) keeps them and reports no change, so the renderer leaves the outlines alone; an update
+ * that moves the ghost keeps the old cells available through {@link #getPreviousX(int)} and {@link #getPreviousY(int)} so
+ * only those and the new cells are repainted.
+ *
  */
 public class GhostBrick {
-    /** The size of each brick cell in pixels */
-    private static final int BRICK_SIZE = 20;
-    /** 2D array of rectangles representing the ghost brick grid */
-    private final Rectangle[][] ghostRectangles;
-    
+    /** Largest number of cells a brick can have (a full 4x4 shape matrix) */
+    private static final int MAX_CELLS = 16;
+    /** Board column of each ghost cell */
+    private int[] cellX = new int[MAX_CELLS];
+    /** Board row of each ghost cell */
+    private int[] cellY = new int[MAX_CELLS];
+    /** Number of ghost cells */
+    private int cellCount;
+    /** Board column of each cell before the last move of the ghost */
+    private int[] previousX = new int[MAX_CELLS];
+    /** Board row of each cell before the last move of the ghost */
+    private int[] previousY = new int[MAX_CELLS];
+    /** Number of cells before the last move of the ghost */
+    private int previousCount;
+    /** Scratch columns of the cells being computed, swapped with {@link #cellX} when the ghost moves */
+    private int[] nextX = new int[MAX_CELLS];
+    /** Scratch rows of the cells being computed, swapped with {@link #cellY} when the ghost moves */
+    private int[] nextY = new int[MAX_CELLS];
+    /** Number of cells in {@link #nextX} and {@link #nextY} */
+    private int nextCount;
+    /** Flag indicating whether the last update moved the ghost */
+    private boolean changed;
+
     /**
-     * Constructs a new {@code GhostBrick} with the given dimensions
-     * <p>
-     * Initializes a grid of transparent rectangles that can later be styled to show ghost outlines
-     * 
-     * @param rows the number of rows in the ghost grid
-     * @param cols the number of columns in the ghost grid
+     * Constructs a new {@code GhostBrick} with no cells
      */
-    public GhostBrick (int rows, int cols) {
-        ghostRectangles = new Rectangle[rows][cols];
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                Rectangle rect = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rect.setFill(Color.TRANSPARENT);
-                rect.setStrokeWidth(1.5);
-                rect.setStroke(Color.TRANSPARENT);
-                ghostRectangles[i][j] = rect;
-            }
+    public GhostBrick() {}
+
+    /**
+     * Updates the ghost brick position based on the current board state and the active brick
+     * @param boardMatrix the current game board matrix
+     * @param brick the {@link ViewData} representing the active brick, or {@code null} to clear the ghost
+     * @return {@code true} if the ghost moved, {@code false} if it covers the same cells as before
+     */
+    public boolean updateGhost(int[][] boardMatrix, ViewData brick) {
+        nextCount = 0;
+        computeCells(boardMatrix, brick);
+        changed = !sameCells();
+        if (changed) {
+            int[] swap = previousX;
+            previousX = cellX;
+            cellX = nextX;
+            nextX = swap;
+            swap = previousY;
+            previousY = cellY;
+            cellY = nextY;
+            nextY = swap;
+            previousCount = cellCount;
+            cellCount = nextCount;
         }
+        return changed;
     }
 
     /**
-     * Returns the grid of rectangles representing the ghost brick
-     * @return a 2D array of {@link Rectangle} objects
+     * Checks whether the computed cells are the cells already lit
+     * @return {@code true} if both lists hold the same cells in the same order
      */
-    public Rectangle[][] getRectangles() {
-        return ghostRectangles;
+    private boolean sameCells() {
+        if (nextCount != cellCount) {
+            return false;
+        }
+        for (int k = 0; k < cellCount; k++) {
+            if (nextX[k] != cellX[k] || nextY[k] != cellY[k]) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
-     * Updates the ghost brick position based on the current board state and the active brick
-     * Clears old outlines and redraws the ghost at the lowest possible position
+     * Computes the landing cells of the active brick into the scratch lists
      * @param boardMatrix the current game board matrix
-     * @param brick the link {@link ViewData} representing the active brick
+     * @param brick the active brick, or {@code null}
      */
-    public void updateGhost (int[][] boardMatrix, ViewData brick) {
-        // Clear old outlines
-        for (Rectangle[] row : ghostRectangles) {
-            for (Rectangle rect : row) {
-                rect.setStroke(Color.TRANSPARENT);
-                rect.setFill(Color.TRANSPARENT);
+    private void computeCells(int[][] boardMatrix, ViewData brick) {
+        if (brick == null || boardMatrix == null) {
+            return;
+        }
+
+        ShapeTable shape = brick.getShapeTable();
+        if (shape != null) {
+            // Walk the 4 occupied cells instead of the padded 4x4 matrix
+            int rotation = brick.getRotation();
+            int offsetY = brick.getDropDistance() >= 0
+                    ? brick.getDropDistance()
+                    : MatrixOperations.dropDistance(boardMatrix, shape, rotation, brick.getxPosition(), brick.getyPosition());
+            for (int k = 0; k < shape.cellCount(rotation); k++) {
+                addCell(brick.getyPosition() + shape.cellY(rotation, k) + offsetY, brick.getxPosition() + shape.cellX(rotation, k));
             }
+            return;
         }
 
         int offsetY = 0;
@@ -65,34 +113,101 @@ public class GhostBrick {
             offsetY++;
         }
 
-        int[][] brickData = brick.getBrickData();
-        for (int i = 0; i < brickData.length; i++) {
-            for (int j = 0; j < brickData[i].length; j++) {
-                if (brickData[i][j] != 0) {
-                    int y = brick.getyPosition() + i + offsetY;
-                    int x = brick.getxPosition() + j;
-                    if (y >= 2 && y < ghostRectangles.length && x >= 0 && x < ghostRectangles[0].length) {
-                        ghostRectangles[y][x].setStroke(Color.WHITE);
-                    }
+        MatrixView brickData = brick.getBrickView();
+        for (int i = 0; i < brickData.height(); i++) {
+            for (int j = 0; j < brickData.width(); j++) {
+                if (brickData.cell(i, j) != 0) {
+                    addCell(brick.getyPosition() + i + offsetY, brick.getxPosition() + j);
                 }
             }
         }
     }
 
+    /**
+     * Records one computed ghost cell
+     * @param y the board row
+     * @param x the board column
+     */
+    private void addCell(int y, int x) {
+        nextX[nextCount] = x;
+        nextY[nextCount] = y;
+        nextCount++;
+    }
+
+    /**
+     * Checks whether the last update moved the ghost
+     * @return {@code true} if the ghost's cells changed on the last {@link #updateGhost(int[][], ViewData)} call
+     */
+    public boolean isChanged() {
+        return changed;
+    }
+
+    /**
+     * Returns the number of cells of the ghost
+     * @return the cell count, {@code 0} if no ghost is shown
+     */
+    public int getCellCount() {
+        return cellCount;
+    }
+
+    /**
+     * Returns the board column of a ghost cell
+     * @param k the cell index, from 0 to {@link #getCellCount()} - 1
+     * @return the column
+     */
+    public int getX(int k) {
+        return cellX[k];
+    }
+
+    /**
+     * Returns the board row of a ghost cell
+     * @param k the cell index, from 0 to {@link #getCellCount()} - 1
+     * @return the row
+     */
+    public int getY(int k) {
+        return cellY[k];
+    }
+
+    /**
+     * Returns the number of cells the ghost covered before its last move
+     * @return the previous cell count
+     */
+    public int getPreviousCount() {
+        return previousCount;
+    }
+
+    /**
+     * Returns the board column of a cell the ghost covered before its last move
+     * @param k the cell index, from 0 to {@link #getPreviousCount()} - 1
+     * @return the column
+     */
+    public int getPreviousX(int k) {
+        return previousX[k];
+    }
+
+    /**
+     * Returns the board row of a cell the ghost covered before its last move
+     * @param k the cell index, from 0 to {@link #getPreviousCount()} - 1
+     * @return the row
+     */
+    public int getPreviousY(int k) {
+        return previousY[k];
+    }
+
     /**
      * Determines whether the brick can move further down without colliding with the bottom edge or existing blocks
      * @param boardMatrix the current game board matrix
-     * @param brick the link {@link ViewData} representing the active brick 
+     * @param brick the link {@link ViewData} representing the active brick
      * @param offset the vertical offset applied to the brick
-     * @return {@code true} if the brick can move down, {@code false} otherwise 
+     * @return {@code true} if the brick can move down, {@code false} otherwise
      */
     private boolean canMoveDown(int[][] boardMatrix, ViewData brick, int offset) {
-        int[][] brickData = brick.getBrickData();
+        MatrixView brickData = brick.getBrickView();
         int x = brick.getxPosition();
         int y = brick.getyPosition() + offset;
-        for (int i = 0; i < brickData.length; i++) {
-            for (int j = 0; j < brickData[i].length; j++) {
-                if (brickData[i][j] != 0) {
+        for (int i = 0; i < brickData.height(); i++) {
+            for (int j = 0; j < brickData.width(); j++) {
+                if (brickData.cell(i, j) != 0) {
                     int boardY = y + i + 1;
                     int boardX = x + j;
 
@@ -104,7 +219,7 @@ public class GhostBrick {
                     // If touching another brick
                     if (boardMatrix[boardY][boardX] != 0) {
                         return false;
-                    } 
+                    }
                 }
             }
         }
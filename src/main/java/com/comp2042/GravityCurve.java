@@ -0,0 +1,69 @@
+package com.comp2042;
+
+/**
+ * Fall speed of the current brick as a function of the level, in fixed-point cells per tick
+ * <p>
+ * The level goes up every {@link #LINES_PER_LEVEL} cleared lines, from 1 to {@link #MAX_LEVEL}. Level 1 falls one row every
+ * {@link GameEngine#GRAVITY_MILLIS} milliseconds, and each following level speeds up along the usual guideline curve
+ * {@code (0.8 - (level - 1) * 0.007) ^ (level - 1)}, until the speed is capped at 20G: twenty rows per 1/60 s, which drops a
+ * new brick onto the stack on the first tick.
+ * <p>
+ * Speeds are stored as fixed-point numbers with {@link #FRACTION_BITS} fractional bits, so a speed below one row per tick
+ * adds up over several ticks without rounding drift, and a speed of several rows per tick is a plain integer part. Each
+ * entry is rounded up, so a row falls no later than the exact curve says.
+ *
+ */
+public final class GravityCurve {
+    /** Number of fractional bits of the fixed-point speeds */
+    public static final int FRACTION_BITS = 32;
+    /** Mask selecting the fractional part of a fixed-point speed */
+    public static final long FRACTION_MASK = (1L << FRACTION_BITS) - 1;
+    /** Highest level */
+    public static final int MAX_LEVEL = 20;
+    /** Number of cleared lines needed to advance one level */
+    public static final int LINES_PER_LEVEL = 10;
+    /** Fastest speed, in rows per 1/60 s */
+    public static final int MAX_ROWS_PER_FRAME = 20;
+
+    /** Fixed-point rows per tick, indexed by level */
+    private final long[] cellsPerTick = new long[MAX_LEVEL + 1];
+
+    /**
+     * Builds the speed table for a clock rate
+     * @param ticksPerSecond the number of engine ticks per second
+     */
+    public GravityCurve(int ticksPerSecond) {
+        long cap = ((long) MAX_ROWS_PER_FRAME * 60 << FRACTION_BITS) / ticksPerSecond;
+        for (int level = 1; level <= MAX_LEVEL; level++) {
+            double rowsPerTick = 1000.0 / (millisPerRow(level) * ticksPerSecond);
+            cellsPerTick[level] = Math.min(cap, (long) Math.ceil(Math.scalb(rowsPerTick, FRACTION_BITS)));
+        }
+    }
+
+    /**
+     * Returns the level reached after clearing a number of lines
+     * @param linesCleared the total number of lines cleared
+     * @return the level, between 1 and {@link #MAX_LEVEL}
+     */
+    public static int levelFor(int linesCleared) {
+        return Math.min(MAX_LEVEL, 1 + linesCleared / LINES_PER_LEVEL);
+    }
+
+    /**
+     * Returns the time a brick takes to fall one row at a level, before the 20G cap
+     * @param level the level, from 1
+     * @return the time per row in milliseconds
+     */
+    public static double millisPerRow(int level) {
+        return GameEngine.GRAVITY_MILLIS * Math.pow(0.8 - (level - 1) * 0.007, level - 1);
+    }
+
+    /**
+     * Returns the fall speed at a level
+     * @param level the level, between 1 and {@link #MAX_LEVEL}
+     * @return the rows fallen per tick, with {@link #FRACTION_BITS} fractional bits
+     */
+    public long cellsPerTick(int level) {
+        return cellsPerTick[level];
+    }
+}
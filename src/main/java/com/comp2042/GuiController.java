@@ -1,22 +1,22 @@
 package com.comp2042;
 
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.ResourceBundle;
 
 import com.comp2042.logic.bricks.Brick;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import javafx.animation.AnimationTimer;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
-import javafx.geometry.Bounds;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
 import javafx.scene.Scene;
@@ -27,15 +27,10 @@ import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.GridPane;
-import javafx.scene.layout.Pane;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
-import javafx.scene.paint.Color;
-import javafx.scene.paint.Paint;
-import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Font;
 import javafx.stage.Stage;
-import javafx.util.Duration;
 
 /**
  * JavaFX controller class responsible for managing the game interface
@@ -45,12 +40,36 @@ import javafx.util.Duration;
  * 
  * <p>
  * This class is linked to the FXML layout and initializes UI components such as panels, overlays, and labels
+ * <p>
+ * Game time is kept by a {@link FixedTimestepLoop} polled from an {@link AnimationTimer}: each render pulse runs however many logic
+ * ticks are due by {@link System#nanoTime()}, then redraws the brick once, so gravity and the countdown keep their pace
+ * even when pulses arrive late.
+ * <p>
+ * While the loop runs, the board is only drawn by the pulse. Key handlers and engine callbacks just record the newest brick
+ * and background and mark a frame as pending; {@link #pulse(long)} then presents everything that changed since the previous
+ * pulse in one render, so a burst of inputs costs one redraw per vsync however fast it arrives. With
+ * {@link #setInterpolation(boolean)} turned on (the I key toggles it), the falling brick is drawn between its row and the
+ * next one according to the engine's gravity progress and {@link FixedTimestepLoop#getAlpha()}, so it slides down steadily
+ * instead of jumping a row at a time. When the loop is stopped (paused, game over, or before the first game) refreshes are
+ * drawn at once.
+ * <p>
+ * The board, the ghost and the active brick are drawn onto a single canvas by a {@link BoardRenderer} instead of one
+ * {@code Rectangle} node per cell.
+ * <p>
+ * The board, the next-bricks previews and the hold slot all draw from the sprites of one {@link Theme}; pressing T cycles
+ * through the built-in palettes while the game runs.
  * 
  */
 public class GuiController implements Initializable {
 
     /** The size of each brick cell in pixels */
     private static final int BRICK_SIZE = 20;
+    /** The size of each cell of the next-bricks previews in pixels */
+    private static final int PREVIEW_SIZE = 18;
+    /** Number of columns and rows of one next-brick preview */
+    private static final int PREVIEW_CELLS = 4;
+    /** Space between two next-brick previews in pixels */
+    private static final int PREVIEW_SPACING = 24;
 
     // --- FXML-injected UI components ---
     @FXML private GridPane gamePanel;
@@ -71,17 +90,48 @@ public class GuiController implements Initializable {
     @FXML private Label nextLabel;
     @FXML private StackPane centerStack;
     @FXML private Label timerLabel;
+    @FXML private Label linesLabel;
+    @FXML private Label levelLabel;
+    @FXML private Label ppsLabel;
 
     // --- Internal state ---
-    private Rectangle[][] displayMatrix;
+    /** Draws the board, ghost and active brick */
+    private BoardRenderer renderer;
+    /** The live background matrix last passed to {@link #refreshGameBackground(int[][])} */
+    private int[][] boardMatrix;
+    /** The active brick last passed to {@link #refreshBrick(ViewData)} */
+    private ViewData currentBrick;
+    /** Background cells changed since the last redraw, or {@code null} to redraw the whole board every time */
+    private DirtyCells dirtyCells;
     private InputEventListener eventListener;
-    private Rectangle[][] rectangles;
-    private Timeline timeLine;
+    /** Render pulse that drives {@link #tickLoop} */
+    private AnimationTimer gameLoop;
+    /** Fixed-timestep scheduler of the logic ticks */
+    private FixedTimestepLoop tickLoop;
+    /** Number of logic ticks per second */
+    private int tickRate = GameEngine.TICKS_PER_SECOND;
+    /** Brick after the latest tick of the current pulse, or {@code null} if no tick has run */
+    private ViewData tickView;
+    /** Flag indicating whether {@link #gameLoop} is running */
+    private boolean looping;
+    /** Flag indicating whether the brick or background changed since the board was last drawn */
+    private boolean framePending;
+    /** Number of frames drawn by {@link #redraw()} */
+    private int framesPresented;
+    /** Flag indicating whether a falling brick is drawn between rows */
+    private boolean interpolation;
+    /** Fraction of a row below its cell at which the brick was last drawn */
+    private double drawnFall;
     private final BooleanProperty isPause = new SimpleBooleanProperty();
     private final BooleanProperty isGameOver = new SimpleBooleanProperty();
-    private GhostBrick ghostBrick;
+    private final GhostBrick ghostBrick = new GhostBrick();
+    /** Reusable line-clear popups, created on the first clear */
+    private NotificationPool notifications;
+    /** Palette and sprites shared by the board, the previews and the hold slot */
+    private final Theme theme = new Theme();
+    /** One preview per entry of the next-bricks queue, reused across updates */
+    private final List<BrickPreview> nextPreviews = new ArrayList<>();
     private Board board; 
-    private Timeline countdownTimer;
     private final IntegerProperty remainingSecondsProperty = new SimpleIntegerProperty();
     private Scene menuScene;
 
@@ -141,6 +191,14 @@ public class GuiController implements Initializable {
                         refreshBrick(eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER)));
                         keyEvent.consume();
                     }
+                    if (keyEvent.getCode() == KeyCode.Z || keyEvent.getCode() == KeyCode.Q) {
+                        refreshBrick(eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE_CCW, EventSource.USER)));
+                        keyEvent.consume();
+                    }
+                    if (keyEvent.getCode() == KeyCode.E) {
+                        refreshBrick(eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE_180, EventSource.USER)));
+                        keyEvent.consume();
+                    }
                     if (keyEvent.getCode() == KeyCode.DOWN || keyEvent.getCode() == KeyCode.S) {
                         moveDown(new MoveEvent(EventType.DOWN, EventSource.USER));
                         keyEvent.consume();
@@ -157,6 +215,14 @@ public class GuiController implements Initializable {
                 if (keyEvent.getCode() == KeyCode.N) {
                     newGame(null);
                 }
+                if (keyEvent.getCode() == KeyCode.I) {
+                    setInterpolation(!interpolation);
+                    keyEvent.consume();
+                }
+                if (keyEvent.getCode() == KeyCode.T) {
+                    setPalette(theme.getPalette().next());
+                    keyEvent.consume();
+                }
             }
         });
 
@@ -187,7 +253,7 @@ public class GuiController implements Initializable {
         pauseBtn.setOnAction(e -> {
             isPause.set(true);
             if (pauseOverlay != null) pauseOverlay.setVisible(true);
-            if (timeLine != null) timeLine.pause();
+            stopGameLoop();
             gamePanel.requestFocus(); 
         });
 
@@ -196,11 +262,15 @@ public class GuiController implements Initializable {
             isPause.set(false);
             if (pauseOverlay != null) pauseOverlay.setVisible(false);
             gamePanel.requestFocus();
-            if (timeLine != null) timeLine.play();
+            startGameLoop();
         });
 
-        // EXIT Action
+        // EXIT Action: abandon the game, so it stops stepping and its replay is finished
         exitBtn.setOnAction(e -> {
+            stopGameLoop();
+            if (eventListener != null) {
+                eventListener.onExit();
+            }
             Stage currentStage = (Stage) ((Node) e.getSource()).getScene().getWindow();
             if (currentStage != null) {
                 currentStage.setScene(getMenuScene());;
@@ -214,69 +284,87 @@ public class GuiController implements Initializable {
     }
 
     /**
-     * Displays a notification when rows are cleared
+     * Displays a notification when rows are cleared or a T-spin is performed
+     * <p>
+     * The text names the clear, prefixed with the T-spin and back-to-back bonus if any, followed by the combo count
+     * and a perfect clear.
+     *
      * @param clearRow the {@link ClearRow} result containing cleared lines and score bonus
      */
     public void clearRow(ClearRow clearRow) {
-        if (clearRow == null || clearRow.getLinesRemoved() == 0) return;
+        if (clearRow == null || (clearRow.getLinesRemoved() == 0 && clearRow.getSpin() == SpinType.NONE)) return;
 
         int lines = clearRow.getLinesRemoved();
-        String notificationText;
+        String clearName;
         switch (lines) {
-            case 1: notificationText = "SINGLE"; break;
-            case 2: notificationText = "DOUBLE"; break;
-            case 3: notificationText = "TRIPLE"; break;
-            case 4: notificationText = "TETRIS!"; break;
-            default: notificationText = "+" + clearRow.getScoreBonus(); break;
+            case 0: clearName = ""; break;
+            case 1: clearName = "SINGLE"; break;
+            case 2: clearName = "DOUBLE"; break;
+            case 3: clearName = "TRIPLE"; break;
+            case 4: clearName = "TETRIS!"; break;
+            default: clearName = "+" + clearRow.getScoreBonus(); break;
+        }
+        StringBuilder text = new StringBuilder();
+        if (clearRow.isBackToBack()) {
+            text.append("B2B ");
         }
+        if (clearRow.getSpin() == SpinType.FULL) {
+            text.append("T-SPIN ");
+        } else if (clearRow.getSpin() == SpinType.MINI) {
+            text.append("MINI T-SPIN ");
+        }
+        text.append(clearName);
+        if (clearRow.getCombo() > 0) {
+            text.append("\n").append(clearRow.getCombo()).append(" COMBO");
+        }
+        if (clearRow.isPerfectClear()) {
+            text.append("\nPERFECT CLEAR");
+        }
+        String notificationText = text.toString().trim();
 
-        NotificationPanel notificationPanel = new NotificationPanel(notificationText);
-        
         if (groupNotification != null) {
             groupNotification.setVisible(true);
             groupNotification.setStyle("-fx-background-color: transparent;"); 
-            groupNotification.getChildren().add(notificationPanel);
-            notificationPanel.showScore(groupNotification.getChildren());
+            getNotifications().show(notificationText);
         }
     }
 
+    /**
+     * Returns the pool of line-clear popups, creating it in the notification layer on first use
+     * @return the {@link NotificationPool}, or {@code null} if there is no notification layer
+     */
+    NotificationPool getNotifications() {
+        if (notifications == null && groupNotification != null) {
+            notifications = new NotificationPool(groupNotification, NotificationPool.DEFAULT_CAPACITY);
+        }
+        return notifications;
+    }
+
     /**
      * Displays the upcoming bricks queue in the preview panel
+     * <p>
+     * Each entry of the queue is shown by a {@link BrickPreview} created the first time the queue reaches that length;
+     * later updates only repaint the previews whose brick changed and hide the ones past the end of the queue.
      * @param nextBricksQueue the list of upcoming {@link Brick} objects
      */
     public void showNextBricksQueue (List<Brick> nextBricksQueue) {
         if (nextBrickPanel == null) return;
-        nextBrickPanel.getChildren().clear();
-
-        if (nextBricksQueue == null || nextBricksQueue.isEmpty()) return;
-
-        int previewSize = 18;
-        // Vertical accumulator to stack bricks 
-        int yAccumulator = 0;
-
-        for (Brick brick : nextBricksQueue) {
-            int[][] shape = brick.getShapeMatrix().get(0);
-            int brickId = brick.getId();
-            Paint color = getFillColor(brickId);
-
-            int shapeHeight = shape.length;
-            int shapeWidth = shape[0].length;
-            int offsetX = (4 - shapeWidth) / 2; // Center in a 4-wide panel
-
-            // Add brick to grid
-            for (int i = 0; i < shapeHeight; i++) {
-                for (int j = 0; j < shapeWidth; j++) {
-                    if (shape[i][j] != 0) {
-                        Rectangle rect = new Rectangle(previewSize, previewSize, color);
-                        rect.setStroke(Color.BLACK);
-                        nextBrickPanel.add(rect, j + offsetX, i + yAccumulator);
-                    }
-                }
-            }
-            // Move down for the next brick (height + 1 spacing)
-            yAccumulator += shapeHeight + 30;
+        int size = nextBricksQueue == null ? 0 : nextBricksQueue.size();
+
+        for (int k = nextPreviews.size(); k < size; k++) {
+            GridPane slot = new GridPane();
+            slot.setHgap(nextBrickPanel.getHgap());
+            slot.setVgap(nextBrickPanel.getHgap());
+            nextPreviews.add(new BrickPreview(slot, PREVIEW_CELLS, PREVIEW_CELLS, PREVIEW_SIZE, theme));
+            nextBrickPanel.add(slot, 0, k);
         }
-        nextBrickPanel.setAlignment(Pos.CENTER);
+        for (int k = 0; k < nextPreviews.size(); k++) {
+            BrickPreview preview = nextPreviews.get(k);
+            preview.getPanel().setVisible(k < size);
+            preview.show(k < size ? nextBricksQueue.get(k) : null);
+        }
+        nextBrickPanel.setVgap(PREVIEW_SPACING);
+        nextBrickPanel.setAlignment(Pos.TOP_CENTER);
     }
 
     /**
@@ -285,184 +373,151 @@ public class GuiController implements Initializable {
      * @param brick the active {@link ViewData} brick
      */
     public void initGameView(int[][] boardMatrix, ViewData brick) {
-        gamePanel.getChildren().clear(); 
-        
-        displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
-        for (int i = 2; i < boardMatrix.length; i++) {
-            for (int j = 0; j < boardMatrix[i].length; j++) {
-                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rectangle.setFill(Color.TRANSPARENT);
-                displayMatrix[i][j] = rectangle;
-                gamePanel.add(rectangle, j, i - 2); 
-            }
-        }
-
-        // --- FIX START: Reparent brickPanel to stable container ---
-        // This moves brickPanel out of the dynamic 'Group' (which resizes and causes jumping)
-        // and into the stable 'centerStack'.
-        if (brickPanel != null && centerStack != null) {
-             if (brickPanel.getParent() != centerStack) {
-                 if (brickPanel.getParent() instanceof Pane oldParent) {
-                     oldParent.getChildren().remove(brickPanel);
-                 }
-                 centerStack.getChildren().add(brickPanel);
-                 brickPanel.setManaged(false); // Floating, does not affect layout
-                 brickPanel.setMouseTransparent(true);
-             }
-        }
-
-        // Initialize ghost brick
-        ghostBrick = new GhostBrick(boardMatrix.length, boardMatrix[0].length);
-
-        for (int i = 2; i < boardMatrix.length; i++) {
-            for (int j = 0; j < boardMatrix[i].length; j++) {
-                Rectangle ghostRect = ghostBrick.getRectangles()[i][j];
-                ghostRect.setManaged(false);
-                ghostRect.setMouseTransparent(true);
-                
-                // NOTE: We add ghost bricks to centerStack as well for stable positioning
-                if (centerStack != null && !centerStack.getChildren().contains(ghostRect)) {
-                    centerStack.getChildren().add(ghostRect);
-                }
-            }
-        }
+        gamePanel.getChildren().clear();
+        renderer = new BoardRenderer(boardMatrix.length, boardMatrix[0].length, BRICK_SIZE, gamePanel.getHgap(), theme);
+        gamePanel.add(renderer.getCanvas(), 0, 0);
 
-        rectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                rectangle.setFill(getFillColor(brick.getBrickData()[i][j]));
-                rectangles[i][j] = rectangle;
-                brickPanel.add(rectangle, j, i);
-            }
+        // The active brick is drawn on the canvas; a brick panel left in the layout is not used
+        if (brickPanel != null) {
+            brickPanel.setVisible(false);
+            brickPanel.setManaged(false);
         }
 
-        // Initial positioning update
-        updateLayerPositions(brick);
+        this.boardMatrix = boardMatrix;
+        this.currentBrick = brick;
+        redraw();
 
-        timeLine = new Timeline(new KeyFrame(
-                Duration.millis(400),
-                ae -> moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD))
-        ));
-        timeLine.setCycleCount(Timeline.INDEFINITE);
-        timeLine.play();
+        stopGameLoop();
+        tickLoop = new FixedTimestepLoop(tickRate, this::tick);
+        gameLoop = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                pulse(now);
+            }
+        };
+        startGameLoop();
     }
 
     /**
-     * Updates the ghost brick view based on the current board state and active brick
+     * Runs one render pulse: the logic ticks that are due, the per-frame statistics, then at most one redraw
      * <p>
-     * Delegates to {@link GhostBrick#updateGhost(int[][], ViewData)} to redraw
-     * The ghost outline at the lowest possible landing position
-     * 
-     * @param boardMatrix the current game board matrix
-     * @param brick the {@link ViewData} representing the active brick 
+     * Called by the {@link AnimationTimer} once per vsync. The board is redrawn only if something changed since the previous
+     * pulse, or if a falling brick is being interpolated.
+     *
+     * @param now the pulse time, in {@link System#nanoTime()} units
      */
-    private void updateGhostView(int[][] boardMatrix, ViewData brick) {
-        if (ghostBrick != null && boardMatrix != null && brick != null) {
-            ghostBrick.updateGhost(boardMatrix, brick);
+    public void pulse(long now) {
+        if (tickLoop == null) {
+            return;
+        }
+        tickView = null;
+        tickLoop.advance(now);
+        if (tickView != null && isGameOver.getValue() == Boolean.FALSE) {
+            refreshBrick(tickView);
+        }
+        if (isGameOver.getValue() == Boolean.FALSE) {
+            eventListener.onFrame();
+        }
+        if (framePending || fallOffset() != drawnFall) {
+            redraw();
         }
     }
-    
+
     /**
-     * Helper method to calculate absolute positions for floating layers (BrickPanel & GhostBrick) relative to the stable
-     * {@code centerStack} container
+     * Runs one logic tick; called by the {@link FixedTimestepLoop} as many times per pulse as the clock requires
      * <p>
-     * This prevents jitter by ensuring that the brick and ghost overlays are aligned correctly with the underlying {@code gamePanel}
-     * 
-     * @param brick the {@link ViewData} representing the active brick
+     * Only the resulting brick is kept, so the view is refreshed once per pulse however many ticks ran.
+     *
      */
-    private void updateLayerPositions(ViewData brick) {
-        if (centerStack == null || gamePanel == null) return;
-        
-        // Ensure we have bounds to work with. If scene isn't ready, this might be 0, 
-        // but refreshBrick calls this constantly so it will correct itself.
-        Bounds gameBounds = gamePanel.getBoundsInParent();
-        // If gamePanel is wrapped in other containers inside centerStack, we might need recursive calculation.
-        // But since gamePanel is inside BorderPane inside Group inside VBox inside centerStack...
-        // Using localToScene is the safest way to find the visual difference.
-        
-        if (gamePanel.getScene() == null) return;
-        
-        Bounds gameToScene = gamePanel.localToScene(gamePanel.getLayoutBounds());
-        Bounds stackToScene = centerStack.localToScene(centerStack.getLayoutBounds());
-        
-        double offsetX = gameToScene.getMinX() - stackToScene.getMinX();
-        double offsetY = gameToScene.getMinY() - stackToScene.getMinY();
+    private void tick() {
+        DownData downData = eventListener.onTick();
+        if (downData.getClearRow() != null) {
+            clearRow(downData.getClearRow());
+        }
+        tickView = downData.getViewData();
+    }
 
-        double cellWidth = BRICK_SIZE + gamePanel.getHgap();
-        double cellHeight = BRICK_SIZE + gamePanel.getVgap();
-        
-        // 1. Update Falling Brick Panel
-        if (brickPanel != null) {
-            brickPanel.setTranslateX(offsetX + brick.getxPosition() * cellWidth);
-            // -42 (approx 2 rows) offset logic preserved but adapted to translation
-            brickPanel.setTranslateY(offsetY + (brick.getyPosition() * cellHeight) - (2 * cellHeight));
+    /**
+     * Returns how far below its row the falling brick is drawn
+     * <p>
+     * The offset is the engine's gravity progress towards the next row, extended by the part of the current tick that has
+     * elapsed, so the brick slides down over the whole time it takes to fall one row and reaches the next row just as
+     * gravity moves it there.
+     *
+     * @return a fraction of a row in {@code [0, 1]}, {@code 0} unless interpolation is on and the game loop is running
+     */
+    private double fallOffset() {
+        if (!interpolation || !looping || tickLoop == null || eventListener == null || isGameOver.get()) {
+            return 0;
         }
-        
-        // 2. Update Ghost Brick positions
-        // GhostBrick update logic handles its own internal structure, we just need to ensure 
-        // the individual rectangles are translated to the right spot on the screen.
-        // However, GhostBrick implementation usually sets properties on the rectangles directly.
-        // We iterate to update them relative to centerStack.
-        
-        // Note: To avoid iterating the whole grid every frame just for offsets, 
-        // usually ghost bricks are updated via 'updateGhostView' which changes their stroke.
-        // We just need to ensure their TRANSLATION is correct.
-        // Since GhostBrick logic sets offsets assuming (0,0), we add the centerStack offset.
-        
-        if (ghostBrick != null) {
-             Rectangle[][] gRects = ghostBrick.getRectangles();
-             for (int i = 0; i < gRects.length; i++) {
-                for (int j = 0; j < gRects[0].length; j++) {
-                    // Logic from GhostBrick usually sets position? 
-                    // If not, we set it here:
-                    // Ghost brick grid logic uses full matrix (including hidden top rows)
-                    // so row 'i' corresponds to actual grid row 'i'.
-                    // We subtract 2 rows height to align with visible grid starting at row 2.
-                    
-                    double gX = offsetX + j * cellWidth;
-                    double gY = offsetY + (i - 2) * cellHeight;
-                    
-                    gRects[i][j].setTranslateX(gX);
-                    gRects[i][j].setTranslateY(gY);
-                }
-             }
+        return eventListener.getFallProgress(tickLoop.getAlpha());
+    }
+
+    /**
+     * Turns smooth movement of the falling brick between rows on or off
+     * @param interpolation {@code true} to draw the falling brick between its row and the next one as gravity progresses
+     */
+    public void setInterpolation(boolean interpolation) {
+        this.interpolation = interpolation;
+        requestFrame();
+    }
+
+    /**
+     * Checks whether the falling brick is drawn between rows
+     * @return {@code true} if interpolation is on
+     */
+    public boolean isInterpolation() {
+        return interpolation;
+    }
+
+    /**
+     * Returns how far below its row the brick was drawn by the latest frame
+     * @return a fraction of a row in {@code [0, 1]}
+     */
+    public double getDrawnFall() {
+        return drawnFall;
+    }
+
+    /**
+     * Returns the number of frames drawn since the view was created
+     * @return the number of board renders
+     */
+    public int getFramesPresented() {
+        return framesPresented;
+    }
+
+    /**
+     * Starts or resumes the game loop, without catching up on the time it was stopped
+     */
+    private void startGameLoop() {
+        if (gameLoop != null) {
+            tickLoop.reset();
+            gameLoop.start();
+            looping = true;
         }
     }
 
     /**
-     * Maps an integer value to a fill color for rendering bricks
-     * <p>
-     * Each integer corresponds to a specific color used in the game 
-     * <ul>
-     *  <li> 0 -> Transparent </li>
-     *  <li> 1 -> Aqua </li>
-     *  <li> 2 -> BlueViolet </li>
-     *  <li> 3 -> DarkGreen </li>
-     *  <li> 4 -> Yellow </li>
-     *  <li> 5 -> Red </li>
-     *  <li> 6 -> Beige </li>
-     *  <li> 7 -> BurlyWood </li>
-     *  <li> Default -> White </li>
-     * </ul>
-     * 
-     * @param i the integer representing a brick type
-     * @return the {@link Paint} color associated with the brick type
+     * Stops the game loop
      */
-    private Paint getFillColor(int i) {
-        Paint returnPaint;
-        switch (i) {
-            case 0: returnPaint = Color.TRANSPARENT; break;
-            case 1: returnPaint = Color.AQUA; break;
-            case 2: returnPaint = Color.BLUEVIOLET; break;
-            case 3: returnPaint = Color.DARKGREEN; break;
-            case 4: returnPaint = Color.YELLOW; break;
-            case 5: returnPaint = Color.RED; break;
-            case 6: returnPaint = Color.BEIGE; break;
-            case 7: returnPaint = Color.BURLYWOOD; break;
-            default: returnPaint = Color.WHITE; break;
+    private void stopGameLoop() {
+        if (gameLoop != null) {
+            gameLoop.stop();
+            looping = false;
+        }
+        // Show whatever the last pulse did not get to, such as the landing that ended the game, and settle a brick drawn
+        // between rows
+        if (framePending || drawnFall != 0) {
+            redraw();
         }
-        return returnPaint;
+    }
+
+    /**
+     * Sets the logic tick rate used by the game loop created in {@link #initGameView(int[][], ViewData)}
+     * @param ticksPerSecond the number of ticks per second, matching the engine's clock
+     */
+    public void setTickRate(int ticksPerSecond) {
+        this.tickRate = ticksPerSecond;
     }
 
     /**
@@ -471,16 +526,8 @@ public class GuiController implements Initializable {
      */
     public void refreshBrick(ViewData brick) {
         if (isPause.getValue() == Boolean.FALSE) {
-            
-            // Update absolute positions based on current layout
-            updateLayerPositions(brick);
-            
-            for (int i = 0; i < brick.getBrickData().length; i++) {
-                for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                    setRectangleData(brick.getBrickData()[i][j], rectangles[i][j]);
-                }
-            }
-            updateGhostView(eventListener.getBoardMatrix(), brick);
+            currentBrick = brick;
+            requestFrame();
         }
     }
 
@@ -489,25 +536,41 @@ public class GuiController implements Initializable {
      * @param board the board matrix
      */
     public void refreshGameBackground(int[][] board) {
-        for (int i = 2; i < board.length; i++) {
-            for (int j = 0; j < board[i].length; j++) {
-                setRectangleData(board[i][j], displayMatrix[i][j]);
-            }
+        boardMatrix = board;
+        requestFrame();
+    }
+
+    /**
+     * Marks the board as changed: while the game loop runs the next pulse draws it, otherwise it is drawn at once
+     */
+    private void requestFrame() {
+        if (looping) {
+            framePending = true;
+        } else {
+            redraw();
         }
     }
 
     /**
-     * Updates the visual properties of a rectangle representing a brick cell
-     * <p>
-     * Sets the fill color based on the given integer value using {@link #getFillcolor(int)}, applies rounded corners for a smoother visual appearance
-     * 
-     * @param color the integer representing the brick type or state
-     * @param rectangle the {@link Rectangle} to update
+     * Recomputes the ghost and redraws the board canvas from the latest background and brick
+     */
+    private void redraw() {
+        framePending = false;
+        if (renderer == null) {
+            return;
+        }
+        drawnFall = fallOffset();
+        ghostBrick.updateGhost(boardMatrix, currentBrick);
+        renderer.render(boardMatrix, dirtyCells, currentBrick, ghostBrick, drawnFall);
+        framesPresented++;
+    }
+
+    /**
+     * Sets the record of changed background cells kept by the board, so redraws only repaint those cells
+     * @param dirtyCells the board's {@link DirtyCells}, or {@code null} to redraw the whole board every time
      */
-    private void setRectangleData(int color, Rectangle rectangle) {
-        rectangle.setFill(getFillColor(color));
-        rectangle.setArcHeight(9);
-        rectangle.setArcWidth(9);
+    public void setDirtyCells(DirtyCells dirtyCells) {
+        this.dirtyCells = dirtyCells;
     }
 
     /**
@@ -517,7 +580,7 @@ public class GuiController implements Initializable {
     private void moveDown(MoveEvent event) {
         if (isPause.getValue() == Boolean.FALSE) {
             DownData downData = eventListener.onDownEvent(event);
-            if (downData.getClearRow() != null && downData.getClearRow().getLinesRemoved() > 0) {
+            if (downData.getClearRow() != null) {
                 clearRow(downData.getClearRow());
             }
             refreshBrick(downData.getViewData());
@@ -541,10 +604,30 @@ public class GuiController implements Initializable {
      * Binds the score label to the given property
      * @param integerProperty the score property
      */
-    public void bindScore(IntegerProperty integerProperty) {
+    public void bindScore(ReadOnlyIntegerProperty integerProperty) {
         scoreLabel.textProperty().bind(integerProperty.asString("%d"));
     }
 
+    /**
+     * Binds the score and statistics labels to the properties of a {@link StatsPublisher}
+     * <p>
+     * Labels that are not present in the layout are skipped.
+     *
+     * @param stats the published statistics
+     */
+    public void bindStats(StatsPublisher stats) {
+        bindScore(stats.scoreProperty());
+        if (linesLabel != null) {
+            linesLabel.textProperty().bind(stats.linesProperty().asString("%d"));
+        }
+        if (levelLabel != null) {
+            levelLabel.textProperty().bind(stats.levelProperty().asString("%d"));
+        }
+        if (ppsLabel != null) {
+            ppsLabel.textProperty().bind(stats.piecesPerSecondProperty().asString("%.2f"));
+        }
+    }
+
     /**
      * Binds the timer label to the given property
      * @param secondsProperty the countdown property
@@ -560,13 +643,12 @@ public class GuiController implements Initializable {
     /**
      * Handles game over state: stops timers, shows overlay, and displays final score
      * <p>
-     * Stops the active timeline, displays the game over overlay, shows the final score on the {@link GameOverPanel}, and marks the game as over
+     * Stops the game loop, displays the game over overlay, shows the final score on the {@link GameOverPanel}, and marks the game as over
      * 
+     * @param finalScore the score at the end of the game
      */
-    public void gameOver() {
-        if (timeLine != null) {
-            timeLine.stop();
-        }
+    public void gameOver(int finalScore) {
+        stopGameLoop();
         if (groupNotification != null) {
             groupNotification.setVisible(true);
             groupNotification.setStyle("-fx-background-color: rgba(0, 0, 0, 0.85);");
@@ -574,7 +656,6 @@ public class GuiController implements Initializable {
             groupNotification.setPickOnBounds(true);
         } 
         if (gameOverPanel != null) {
-            int finalScore = Integer.parseInt(scoreLabel.getText());
             gameOverPanel.showFinalScore(finalScore);
             gameOverPanel.setVisible(true);
         } 
@@ -589,7 +670,10 @@ public class GuiController implements Initializable {
      * @param actionEvent the triggering event 
      */
     public void newGame(ActionEvent actionEvent) {
-        if (timeLine != null) timeLine.stop();
+        stopGameLoop();
+        if (notifications != null) {
+            notifications.clear();
+        }
         if (groupNotification != null) {
             groupNotification.setVisible(true);
             groupNotification.setStyle("-fx-background-color: transparent;");
@@ -606,7 +690,7 @@ public class GuiController implements Initializable {
         }
 
         gamePanel.requestFocus();
-        if (timeLine != null) timeLine.playFromStart();
+        startGameLoop();
         isPause.setValue(Boolean.FALSE);
         isGameOver.setValue(Boolean.FALSE);
 
@@ -630,7 +714,7 @@ public class GuiController implements Initializable {
     /**
      * Performs a hard drop of the active brick
      * <p>
-     * Continuosly moves the brick downward until it lands, refreshing the view at each step
+     * The brick is moved to its landing position in a single step and the view is refreshed once
      * Updates the background and clears rows if necessary
      * 
      */
@@ -639,20 +723,14 @@ public class GuiController implements Initializable {
             return;
         }
 
-        DownData downData;
-        boolean landed = false;
-
-        do { 
-            downData = eventListener.onDownEvent(new MoveEvent (EventType.DOWN, EventSource.USER));
-            landed = downData.isLanded();
-            refreshBrick(downData.getViewData());
-        } while (!landed);
+        DownData downData = eventListener.onHardDropEvent(new MoveEvent (EventType.HARD_DROP, EventSource.USER));
+        refreshBrick(downData.getViewData());
 
         if (eventListener.getBoardMatrix() != null) {
             refreshGameBackground(eventListener.getBoardMatrix());
         }
 
-        if (downData.getClearRow() != null && downData.getClearRow().getLinesRemoved() > 0) {
+        if (downData.getClearRow() != null) {
             clearRow(downData.getClearRow());
         }
         gamePanel.requestFocus();
@@ -682,6 +760,31 @@ public class GuiController implements Initializable {
         this.holdBrickPanel = panel;
     }
 
+    /**
+     * Returns the theme shared by the board, the previews and the hold slot
+     * @return the view's {@link Theme}
+     */
+    public Theme getTheme() {
+        return theme;
+    }
+
+    /**
+     * Switches every part of the view to another palette and redraws the board
+     * @param palette the new {@link Palette}
+     */
+    public void setPalette(Palette palette) {
+        theme.setPalette(palette);
+        requestFrame();
+    }
+
+    /**
+     * Sets the panel used to display the upcoming bricks
+     * @param panel the {@link GridPane} to assign as the next bricks panel
+     */
+    public void setNextBrickPanel(GridPane panel) {
+        this.nextBrickPanel = panel;
+    }
+
     /**
      * Sets the main game panel where the board is rendered
      * @param panel the {@link GridPane} representing the game panel
@@ -691,7 +794,11 @@ public class GuiController implements Initializable {
     }
 
     /**
-     * Sets the panel used to render the active brick
+     * Sets the panel that used to render the active brick
+     * <p>
+     * The active brick is now drawn by the {@link BoardRenderer}; a panel set here is hidden by
+     * {@link #initGameView(int[][], ViewData)}.
+     *
      * @param panel the {@link GridPane} representing the brick panel
      */
     public void setBrickPanel(GridPane panel) {
@@ -715,31 +822,15 @@ public class GuiController implements Initializable {
     }
 
     /**
-     * Starts a countdown timer for timed game mode
+     * Starts the countdown display for timed game mode
      * <p>
-     * Updated the {@code remainingSecondsProperty} every second and trigger {@link #gameOver()} when the timer reaches zero
+     * Sets the {@code remainingSecondsProperty} to the starting time. The countdown itself is kept by the engine clock,
+     * which ends the game when the time runs out; the property is updated from the engine once per frame
      * 
      * @param startSeconds the starting time in seconds
      */
     public void startCountdown(int startSeconds) {
-        if (countdownTimer != null) {
-            countdownTimer.stop();
-        }
-        
         remainingSecondsProperty.set(startSeconds);
-
-        countdownTimer = new Timeline(
-            new KeyFrame(Duration.seconds(1), e -> {
-                remainingSecondsProperty.set(remainingSecondsProperty.get() - 1);
-
-                if (remainingSecondsProperty.get() <= 0) {
-                    countdownTimer.stop();
-                    gameOver();
-                }
-            })
-        );    
-        countdownTimer.setCycleCount(startSeconds);
-        countdownTimer.playFromStart();
     }
 
     /**
@@ -762,12 +853,9 @@ public class GuiController implements Initializable {
     }
 
     /**
-     * Resets the countdown timer to zero and stops it if running
+     * Resets the countdown display to zero
      */
     public void resetTimer() {
-        if (countdownTimer != null) {
-            countdownTimer.stop();
-        }
         remainingSecondsProperty.set(0);
     }
 
@@ -793,6 +881,7 @@ public class GuiController implements Initializable {
      */
     public void setGroupNotification(StackPane groupNotification) {
         this.groupNotification = groupNotification;
+        this.notifications = null;
     }
 
     /**
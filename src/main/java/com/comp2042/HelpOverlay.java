@@ -97,6 +97,7 @@ public class HelpOverlay extends StackPane {
         controlsBtn.setOnAction(e -> description.setText(
             "Controls:\n\n" +
             "Use the arrow keys or WASD to move and rotate pieces. " +
+            "Press Z or Q to rotate counter-clockwise, and E to turn a piece around. " +
             "Press SPACE or ENTER to drop a piece instantly, and SHIFT to hold a piece for later. " +
             "These controls give you flexibility to plan ahead and react quickly."
         ));
@@ -110,11 +111,12 @@ public class HelpOverlay extends StackPane {
 
         scoringBtn.setOnAction(e -> description.setText(
             "Scoring:\n\n" +
-            "Points are awarded based on how many lines you clear at once:\n" +
-            " - Single Line: (50 * 1) points\n" +
-            " - Double Line: (50 * 2) points\n" +
-            " - Triple Line: (50 * 3)) points\n" +
-            " - Tetris (4 lines): (50 * 4) points\n\n" +
+            "Lines cleared at once: Single 50, Double 200, Triple 450, Tetris 800.\n" +
+            " - T-Spin (rotating a T into a tight slot): 400, plus 400 per line\n" +
+            " - T-Spin Mini: 100, 200 with one line, 400 with two\n" +
+            " - Back-to-Back: a Tetris or line-clearing T-spin right after another earns half again\n" +
+            " - Combo: 50 per clear in a row after the first\n" +
+            " - Perfect Clear (empty board): 800 to 2000 extra, 3200 for a back-to-back Tetris\n\n" +
             "Clearing multiple lines at once gives you a big bonus, so aim for Tetrises!"
         ));
     }
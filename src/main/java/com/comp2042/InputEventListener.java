@@ -16,6 +16,37 @@ public interface InputEventListener {
      */
     DownData onDownEvent(MoveEvent event);
 
+    /**
+     * Advances the game clock by one tick, applying gravity when it is due
+     * <p>
+     * Called by the GUI's fixed-timestep loop at the engine's tick rate, independently of the display refresh rate.
+     *
+     * @return a {@link DownData} object containing the updated brick and the result of any landing during the tick
+     */
+    DownData onTick();
+
+    /**
+     * Publishes the game state that changed during a render pulse to the view
+     * <p>
+     * Called once per pulse, after that pulse's ticks, so bound properties change at most once per frame.
+     *
+     */
+    void onFrame();
+
+    /**
+     * Returns how far the active brick has fallen from its row towards the next one
+     * @param alpha the fraction of the current logic tick that has elapsed, in {@code [0, 1)}
+     * @return a fraction of a row in {@code [0, 1]}, {@code 0} if the brick is resting
+     */
+    double getFallProgress(double alpha);
+
+    /**
+     * Handles a hard drop event
+     * @param event the {@link MoveEvent} representing the hard drop action
+     * @return a {@link DownData} object containing the updated game state after the brick has landed
+     */
+    DownData onHardDropEvent(MoveEvent event);
+
     /**
      * Handles a left movement event
      * @param event the {@link MoveEvent} representing the left action
@@ -32,7 +63,7 @@ public interface InputEventListener {
 
     /**
      * Handles a rotation event
-     * @param event the {@link MoveEvent} representing the rotation action
+     * @param event the {@link MoveEvent} representing the rotation action; its type gives the direction
      * @return a {@link ViewData} object representing the updated brick orientation
      */
     ViewData onRotateEvent(MoveEvent event);
@@ -58,4 +89,13 @@ public interface InputEventListener {
      * 
      */
     void onHoldEvent();
+
+    /**
+     * Handles the player leaving the game for the menu
+     * <p>
+     * Called after the view has stopped its game loop; the game is abandoned, so anything it still holds open, such as its
+     * replay file, is finished.
+     *
+     */
+    void onExit();
 }
@@ -0,0 +1,36 @@
+package com.comp2042;
+
+/**
+ * Decides which input a simulated player gives on each tick of a {@link GameEngine}
+ * <p>
+ * Policies are used by {@link BatchSimulator} to play games without a keyboard. A policy instance drives one game at a time
+ * and may keep state between calls (for example, a planned sequence of moves for the current brick). An instance can be
+ * reused for several games; {@link #reset()} is called at the start of each one, so a policy that keeps state must clear it
+ * there to play every game the same way regardless of which games it played before.
+ *
+ */
+@FunctionalInterface
+public interface InputPolicy {
+
+    /**
+     * Chooses the input for the next tick
+     * @param engine the engine being played; policies may read its state but must not drive it themselves
+     * @return the input to apply, or {@code null} to let the tick pass without input
+     */
+    EventType nextInput(GameEngine engine);
+
+    /**
+     * Forgets any state kept from a previous game; called after the engine has started a new game and before its first input
+     * <p>
+     * The default does nothing, which suits stateless policies.
+     */
+    default void reset() {}
+
+    /**
+     * Returns a policy that hard-drops every brick where it spawns
+     * @return a stateless {@link InputPolicy}
+     */
+    static InputPolicy hardDrop() {
+        return engine -> EventType.HARD_DROP;
+    }
+}
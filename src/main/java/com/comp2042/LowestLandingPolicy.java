@@ -0,0 +1,108 @@
+package com.comp2042;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.ShapeTable;
+
+/**
+ * A greedy {@link InputPolicy} that sends each brick to the placement where it lands lowest
+ * <p>
+ * When a new brick appears, every rotation and column is tested against the live board with the {@link ShapeTable}
+ * collision and drop-distance helpers. The policy then emits the rotations, the sideways moves and a hard drop, one per tick.
+ * It does not look ahead and ignores holes, so it is a cheap baseline for statistics rather than a strong player.
+ *
+ */
+public class LowestLandingPolicy implements InputPolicy {
+    /** Piece count of the engine when the current plan was made, or {@code -1} before the first plan */
+    private int plannedPiece = -1;
+    /** The brick the current plan was made for, so that a hold triggers a new plan */
+    private Brick plannedBrick;
+    /** Rotations still to be emitted */
+    private int rotations;
+    /** Column the brick should reach once rotated */
+    private int targetX;
+    /** Sideways moves still to be emitted (negative for left, positive for right), counted once the rotations are done */
+    private int shift;
+    /** Flag indicating whether {@link #shift} has been counted for the current plan */
+    private boolean shiftCounted;
+
+    /** Creates a new {@code LowestLandingPolicy} */
+    public LowestLandingPolicy() {}
+
+    /**
+     * Emits the next input of the plan for the current brick, planning a new one when a brick has spawned or been swapped
+     * @param engine the engine being played
+     * @return the next rotation, sideways move or hard drop
+     */
+    @Override
+    public EventType nextInput(GameEngine engine) {
+        if (engine.getPiecesPlaced() != plannedPiece || engine.getBoard().getBrickRotator().getBrick() != plannedBrick) {
+            plan(engine);
+        }
+        if (rotations > 0) {
+            rotations--;
+            return EventType.ROTATE;
+        }
+        if (!shiftCounted) {
+            shift = targetX - engine.getBoard().getCurrentX();     // A wall kick may have moved the brick while rotating
+            shiftCounted = true;
+        }
+        if (shift < 0) {
+            shift++;
+            return EventType.LEFT;
+        }
+        if (shift > 0) {
+            shift--;
+            return EventType.RIGHT;
+        }
+        plannedPiece = -1;
+        return EventType.HARD_DROP;
+    }
+
+    /**
+     * Drops the plan left over from the previous game
+     */
+    @Override
+    public void reset() {
+        plannedPiece = -1;
+        plannedBrick = null;
+        rotations = 0;
+        targetX = 0;
+        shift = 0;
+        shiftCounted = false;
+    }
+
+    /**
+     * Finds the lowest landing placement for the current brick
+     * @param engine the engine being played
+     */
+    private void plan(GameEngine engine) {
+        SimpleBoard board = engine.getBoard();
+        int[][] matrix = board.getBoardMatrix();
+        ShapeTable shape = board.getBrickRotator().getShapeTable();
+        ViewData view = board.getViewData();
+        int x = view.getxPosition();
+        int y = view.getyPosition();
+        int start = view.getRotation();
+
+        int bestDepth = -1;
+        rotations = 0;
+        targetX = x;
+        shiftCounted = false;
+        for (int r = 0; r < shape.rotationCount(); r++) {
+            int rotation = (start + r) % shape.rotationCount();
+            for (int target = -shape.minX(rotation); target + shape.maxX(rotation) < matrix[0].length; target++) {
+                if (MatrixOperations.intersect(matrix, shape, rotation, target, y)) {
+                    continue;
+                }
+                int depth = y + MatrixOperations.dropDistance(matrix, shape, rotation, target, y) + shape.maxY(rotation);
+                if (depth > bestDepth) {
+                    bestDepth = depth;
+                    rotations = r;
+                    targetX = target;
+                }
+            }
+        }
+        plannedPiece = engine.getPiecesPlaced();
+        plannedBrick = board.getBrickRotator().getBrick();
+    }
+}
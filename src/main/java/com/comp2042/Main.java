@@ -21,6 +21,8 @@ public class Main extends Application {
     private int currentScore = 0;
     /** The main menu scene, used for navigation back to the menu */
     private Scene menuScene;
+    /** Controller of the latest game started, or {@code null} before the first game */
+    private GameController game;
     
     /** 
      * Creates a new {@code Main} instance
@@ -86,7 +88,22 @@ public class Main extends Application {
         Scene scene = new Scene(root, 1100, 650);
         stage.setScene(scene);
         // Start the GameController
-        new GameController(c, mode);
+        game = new GameController(c, mode);
+        game.enableReplayRecording(ReplayRecorder.defaultDirectory());
+    }
+
+    /**
+     * Stops the JavaFX application
+     * <p>
+     * Called when the window is closed. Finishes the replay of the game in progress and waits until every replay has been
+     * written, so no recorded inputs are lost when the JVM exits.
+     *
+     */
+    @Override
+    public void stop() {
+        if (game != null) {
+            game.finishRecording();
+        }
     }
     
     /**
@@ -1,11 +1,10 @@
 package com.comp2042;
 
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.Deque;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import com.comp2042.logic.bricks.ShapeTable;
+
 /**
  * Utility class providing matrix operations for the game board
  * <p>
@@ -61,6 +60,60 @@ public class MatrixOperations {
         return false;
     }
 
+    /**
+     * Checks whether a brick rotation intersects with the game board at a given position
+     * <p>
+     * Same rule as {@link #intersect(int[][], int[][], int, int)}, but only the occupied cells listed in the {@link ShapeTable} are visited.
+     * 
+     * @param matrix the game board matrix
+     * @param shape the precomputed shape table of the brick
+     * @param rotation the rotation index
+     * @param x the X position (column offset)
+     * @param y the Y position (row offset)
+     * @return {@code true} if the brick intersects with the board, {@code false} otherwise
+     */
+    public static boolean intersect(final int[][] matrix, final ShapeTable shape, int rotation, int x, int y) {
+        for (int k = 0, n = shape.cellCount(rotation); k < n; k++) {
+            int targetY = y + shape.cellY(rotation, k);
+            int targetX = x + shape.cellX(rotation, k);
+            if (checkOutOfBound(matrix, targetX, targetY) || matrix[targetY][targetX] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Calculates how many rows a brick rotation can fall from the given position before it lands
+     * <p>
+     * Only the lowest cell of each occupied shape column can land first, so the search walks down those columns using the
+     * {@link ShapeTable} bottom profile instead of re-testing the whole shape one row at a time.
+     * 
+     * @param matrix the game board matrix
+     * @param shape the precomputed shape table of the brick
+     * @param rotation the rotation index
+     * @param x the X position (column offset)
+     * @param y the Y position (row offset)
+     * @return the number of free rows below the brick (0 if it is already resting on something)
+     */
+    public static int dropDistance(final int[][] matrix, final ShapeTable shape, int rotation, int x, int y) {
+        int distance = Integer.MAX_VALUE;
+        for (int j = shape.minX(rotation); j <= shape.maxX(rotation); j++) {
+            int bottom = shape.bottom(rotation, j);
+            if (bottom == ShapeTable.EMPTY_COLUMN) {
+                continue;
+            }
+            int column = x + j;
+            int row = y + bottom + 1;
+            int free = 0;
+            while (row + free < matrix.length && matrix[row + free][column] == 0 && free < distance) {
+                free++;
+            }
+            distance = Math.min(distance, free);
+        }
+        return distance == Integer.MAX_VALUE ? 0 : distance;
+    }
+
     /**
      * Checks if a target coordinate (X, Y) is outside the bounds of the matrix 
      * <p>
@@ -137,11 +190,14 @@ public class MatrixOperations {
      * <p>
      * Rows that are fully filled are cleared, and the remaining rows are shifted downward.
      * A score bonus is calculated based on the number of cleared rows using the formula {@code 50 * lines^2}.
+     * This scans and copies the whole matrix; {@link SimpleBoard} uses its own incremental path and only needs this for
+     * callers that work on detached matrices.
      * 
      * @param matrix the game board matrix
      * @return a {@link ClearRow} object containing:
      *         <ul>
      *              <li>the number of lines cleared</li>
+     *              <li>the indices of the cleared rows</li>
      *              <li>the updated board matrix</li>
      *              <li>the score bonus</li>
      *         </ul>
@@ -150,13 +206,13 @@ public class MatrixOperations {
         // Initialize temporary matrix for the new state
         int rows = matrix.length;
         int cols = matrix[0].length;
-        int[][] tmp = new int[rows][cols]; 
-        
-        // Use a Deque to collect rows that are NOT cleared, preserving order
-        Deque<int[]> nonClearedRows = new ArrayDeque<>();
-        List<Integer> clearedRows = new ArrayList<>();
+        int[][] tmp = new int[rows][]; 
+        int[] clearedRows = new int[rows];
+        int cleared = 0;
 
-        for (int i = 0; i < rows; i++) {
+        // Walk from the bottom up, copying each row that is not full to the next free slot
+        int currentRowIndex = rows - 1;
+        for (int i = rows - 1; i >= 0; i--) {
             boolean rowToClear = true;
             for (int j = 0; j < cols; j++) {
                 if (matrix[i][j] == 0) {
@@ -166,29 +222,32 @@ public class MatrixOperations {
             }
             
             if (rowToClear) {
-                clearedRows.add(i);
+                clearedRows[cleared++] = i;
             } else {
-                // If not cleared, copy the row and add it to the front of the Deque
-                int[] tmpRow = new int[cols];
-                System.arraycopy(matrix[i], 0, tmpRow, 0, cols);
-                nonClearedRows.add(tmpRow); 
+                tmp[currentRowIndex--] = matrix[i].clone();
             }
         }
-        
-        // Fill the temporary matrix from the bottom up using the non-cleared rows.
-        int currentRowIndex = rows - 1; 
-        while(!nonClearedRows.isEmpty()){
-            // We use removeLast() because ArrayDeque implements Deque, 
-            // and we added rows sequentially (top to bottom).
-            tmp[currentRowIndex] = nonClearedRows.removeLast(); 
-            currentRowIndex--;
+        while (currentRowIndex >= 0) {
+            tmp[currentRowIndex--] = new int[cols];
         }
-        
-        // Calculate score based on number of cleared lines (e.g., 50 * lines^2)
-        int scoreBonus = 50 * clearedRows.size() * clearedRows.size(); 
-        
+
+        // Indices were collected bottom-up; report them in ascending order
+        int[] indices = new int[cleared];
+        for (int k = 0; k < cleared; k++) {
+            indices[k] = clearedRows[cleared - 1 - k];
+        }
+
         // ClearRow should return the lines cleared, the new matrix, and the score bonus
-        return new ClearRow(clearedRows.size(), tmp, scoreBonus); 
+        return new ClearRow(cleared, tmp, lineClearBonus(cleared), indices); 
+    }
+
+    /**
+     * Calculates the score bonus for clearing a number of lines at once, using the formula {@code 50 * lines^2}
+     * @param lines the number of lines cleared
+     * @return the score bonus
+     */
+    public static int lineClearBonus(int lines) {
+        return 50 * lines * lines;
     }
 
     /**
@@ -0,0 +1,61 @@
+package com.comp2042;
+
+/**
+ * Read-only, index-based view over a matrix of cell values
+ * <p>
+ * A {@code MatrixView} exposes a board or brick shape through {@link #cell(int, int)}, {@link #width()} and {@link #height()}
+ * without copying it. The underlying array is never handed out, so callers cannot modify it through the view.
+ *
+ * <p>
+ * Views are cheap wrappers meant for the render path, where the defensive copies made by
+ * {@link ViewData#getBrickData()} and {@link ClearRow#getNewMatrix()} used to dominate allocation.
+ * A view reflects later changes to the matrix it wraps (for example, a live board that is updated in place), so a view
+ * obtained from a {@link ClearRow} or a board shows the current board, not a snapshot; callers that need a snapshot copy it.
+ *
+ */
+public final class MatrixView {
+    /** The wrapped matrix, indexed as {@code [row][column]} */
+    private final int[][] matrix;
+
+    /**
+     * Creates a view over the given matrix
+     * @param matrix the matrix to wrap, indexed as {@code [row][column]}; it is not copied
+     */
+    public MatrixView(int[][] matrix) {
+        this.matrix = matrix;
+    }
+
+    /**
+     * Returns the value of a single cell
+     * @param row the row index
+     * @param col the column index
+     * @return the cell value (0 for an empty cell)
+     */
+    public int cell(int row, int col) {
+        return matrix[row][col];
+    }
+
+    /**
+     * Returns the number of columns
+     * @return the width of the matrix
+     */
+    public int width() {
+        return matrix.length == 0 ? 0 : matrix[0].length;
+    }
+
+    /**
+     * Returns the number of rows
+     * @return the height of the matrix
+     */
+    public int height() {
+        return matrix.length;
+    }
+
+    /**
+     * Returns a defensive copy of the viewed matrix, for callers that need an array they can keep
+     * @return a copied 2D integer array
+     */
+    public int[][] toMatrix() {
+        return MatrixOperations.copy(matrix);
+    }
+}
@@ -18,31 +18,72 @@ import javafx.util.Duration;
  * A panel that displays animated score notification.
  * <p>
  * The {@code NotificationPanel} is used to show temporary messages (such as bonus points) with visual effects.
- * It fades out and translates upward before being removed from the scene graph.
+ * It fades out and translates upward before being hidden or removed from the scene graph.
  * 
  * <p>
- * The panel is styled with a glowing label and white text, and automatically cleans itself up after the animation finishes.
+ * The panel is styled with a glowing label and white text. Its label, glow and transitions are created once, so a
+ * {@link NotificationPool} can show the same panel again and again with {@link #play(String, Runnable)} without allocating.
  * 
  */
 public class NotificationPanel extends BorderPane {
+    /** Duration of the fade out */
+    private static final Duration FADE_DURATION = Duration.millis(2000);
+    /** Duration of the upward movement */
+    private static final Duration RISE_DURATION = Duration.millis(2500);
+    /** Distance the panel moves upward, in pixels */
+    private static final double RISE_DISTANCE = 40;
+
+    /** The label holding the text */
+    private final Label score;
+    /** Fade and upward movement, played together */
+    private final ParallelTransition transition;
+    /** Action to run once the current animation has finished, or {@code null} */
+    private Runnable onFinished;
 
     /**
-     * Constructs a new {@code NotificationPanel} with the given text
+     * Constructs a new, empty {@code NotificationPanel}
      * <p>
      * The text is displayed in a centered label with a glow effect and styled using {@code bonusStyle} CSS class.
-     * 
-     * @param text the message or score string to display
      */
-    public NotificationPanel(String text) {
+    public NotificationPanel() {
         setMinHeight(200);
         setMinWidth(220);
-        final Label score = new Label(text);
+        score = new Label();
         score.getStyleClass().add("bonusStyle");
         final Effect glow = new Glow(0.6);
         score.setEffect(glow);
         score.setTextFill(Color.WHITE);
         setCenter(score);
 
+        FadeTransition ft = new FadeTransition(FADE_DURATION, this);
+        ft.setFromValue(1);
+        ft.setToValue(0);
+        TranslateTransition tt = new TranslateTransition(RISE_DURATION, this);
+        tt.setFromY(0);
+        tt.setToY(-RISE_DISTANCE);
+        transition = new ParallelTransition(tt, ft);
+        transition.setOnFinished(new EventHandler<ActionEvent>() {
+            @Override
+            public void handle(ActionEvent event) {
+                Runnable action = onFinished;
+                onFinished = null;
+                if (action != null) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    /**
+     * Constructs a new {@code NotificationPanel} with the given text
+     * <p>
+     * The text is displayed in a centered label with a glow effect and styled using {@code bonusStyle} CSS class.
+     * 
+     * @param text the message or score string to display
+     */
+    public NotificationPanel(String text) {
+        this();
+        score.setText(text);
     }
 
     /**
@@ -58,18 +99,40 @@ public class NotificationPanel extends BorderPane {
      * @param list the {@link ObservableList} of nodes from which this panel should be removed after the animation
      */
     public void showScore(ObservableList<Node> list) {
-        FadeTransition ft = new FadeTransition(Duration.millis(2000), this);
-        TranslateTransition tt = new TranslateTransition(Duration.millis(2500), this);
-        tt.setToY(this.getLayoutY() - 40);
-        ft.setFromValue(1);
-        ft.setToValue(0);
-        ParallelTransition transition = new ParallelTransition(tt, ft);
-        transition.setOnFinished(new EventHandler<ActionEvent>() {
-            @Override
-            public void handle(ActionEvent event) {
-                list.remove(NotificationPanel.this);
-            }
-        });
-        transition.play();
+        play(score.getText(), () -> list.remove(NotificationPanel.this));
+    }
+
+    /**
+     * Shows the given text and plays the notification animation from the start
+     * <p>
+     * If the panel is still animating, the animation restarts and the previous finish action is dropped.
+     *
+     * @param text the message or score string to display
+     * @param onFinished the action to run once the animation completes, or {@code null}
+     */
+    public void play(String text, Runnable onFinished) {
+        score.setText(text);
+        this.onFinished = onFinished;
+        setOpacity(1);
+        setTranslateY(0);
+        setVisible(true);
+        transition.playFromStart();
+    }
+
+    /**
+     * Stops the animation and hides the panel without running its finish action
+     */
+    public void stop() {
+        onFinished = null;
+        transition.stop();
+        setVisible(false);
+    }
+
+    /**
+     * Returns the text on display
+     * @return the notification text
+     */
+    public String getText() {
+        return score.getText();
     }
 }
@@ -0,0 +1,121 @@
+package com.comp2042;
+
+import java.util.ArrayDeque;
+
+import javafx.scene.layout.Pane;
+
+/**
+ * A fixed set of {@link NotificationPanel}s reused for every line-clear popup
+ * <p>
+ * A new panel used to be built for every clear, each with its own label, glow effect and three transitions, and removed from
+ * the scene graph once its animation ended; rapid clears stacked up glowing panels and allocated them each time. The pool
+ * creates all of its panels up front, adds them to the notification layer once, and keeps them there hidden when idle. Showing
+ * a notification takes an idle panel and replays its transitions; when every panel is busy, the oldest popup is cut short and
+ * its panel reused, so no more than {@link #getCapacity()} popups are ever on screen and the node count stays fixed.
+ *
+ */
+public final class NotificationPool {
+    /** Number of popups that may be on screen at once by default */
+    public static final int DEFAULT_CAPACITY = 3;
+
+    /** The layer the panels live in */
+    private final Pane layer;
+    /** Panels not on screen */
+    private final ArrayDeque<Slot> idle;
+    /** Panels on screen, oldest first */
+    private final ArrayDeque<Slot> active;
+    /** Number of panels in the pool */
+    private final int capacity;
+
+    /**
+     * Creates the pool and adds its hidden panels to the given layer
+     * @param layer the {@link Pane} that shows the notifications
+     * @param capacity the number of popups that may be on screen at once
+     */
+    public NotificationPool(Pane layer, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1");
+        }
+        this.layer = layer;
+        this.capacity = capacity;
+        this.idle = new ArrayDeque<>(capacity);
+        this.active = new ArrayDeque<>(capacity);
+        for (int k = 0; k < capacity; k++) {
+            Slot slot = new Slot();
+            slot.panel.setVisible(false);
+            slot.panel.setMouseTransparent(true);
+            layer.getChildren().add(slot.panel);
+            idle.add(slot);
+        }
+    }
+
+    /**
+     * Shows a notification, reusing the oldest popup if every panel is on screen
+     * @param text the message to display
+     */
+    public void show(String text) {
+        Slot slot = idle.poll();
+        if (slot == null) {
+            slot = active.poll();
+        }
+        active.add(slot);
+        slot.panel.toFront();
+        slot.panel.play(text, slot.release);
+    }
+
+    /**
+     * Hides every popup at once, for example when a new game starts
+     */
+    public void clear() {
+        Slot slot;
+        while ((slot = active.poll()) != null) {
+            slot.panel.stop();
+            idle.add(slot);
+        }
+    }
+
+    /**
+     * Returns the layer the panels live in
+     * @return the notification layer
+     */
+    public Pane getLayer() {
+        return layer;
+    }
+
+    /**
+     * Returns the number of popups that may be on screen at once
+     * @return the pool capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of popups on screen
+     * @return the number of panels currently animating
+     */
+    public int getActiveCount() {
+        return active.size();
+    }
+
+    /**
+     * Returns a panel to the idle set once its animation has finished
+     * @param slot the finished panel's slot
+     */
+    private void release(Slot slot) {
+        if (active.remove(slot)) {
+            slot.panel.setVisible(false);
+            idle.add(slot);
+        }
+    }
+
+    /**
+     * One pooled panel and the finish action handed to it, both created once
+     */
+    private final class Slot {
+        /** The pooled panel */
+        final NotificationPanel panel = new NotificationPanel();
+        /** Returns this slot to the idle set */
+        final Runnable release = () -> release(this);
+    }
+}
@@ -0,0 +1,91 @@
+package com.comp2042;
+
+import java.util.List;
+
+import javafx.scene.paint.Color;
+
+/**
+ * The colors of the bricks and of the ghost outline
+ * <p>
+ * Brick ids map to colors as follows: {@code 0} is an empty, transparent cell, ids {@code 1} to {@link #getBrickCount()} take
+ * the brick colors in order, and any other id is drawn white. A {@link SpriteAtlas} rasterizes a palette once per cell size,
+ * and a {@link Theme} lets the palette be swapped while the game is running.
+ *
+ */
+public final class Palette {
+    /** The original colors of the game */
+    public static final Palette CLASSIC = new Palette("Classic", Color.WHITE,
+            Color.AQUA, Color.BLUEVIOLET, Color.DARKGREEN, Color.YELLOW, Color.RED, Color.BEIGE, Color.BURLYWOOD);
+    /** The colors most Tetris games use: cyan I, blue J, orange L, yellow O, green S, purple T and red Z */
+    public static final Palette GUIDELINE = new Palette("Guideline", Color.WHITE,
+            Color.CYAN, Color.DODGERBLUE, Color.ORANGE, Color.YELLOW, Color.LIMEGREEN, Color.MEDIUMORCHID, Color.RED);
+    /** The palettes the game ships with, in the order they are cycled through */
+    public static final List<Palette> BUILT_IN = List.of(CLASSIC, GUIDELINE);
+
+    /** Color used for ids outside the palette */
+    private static final Color UNKNOWN = Color.WHITE;
+
+    /** Display name of the palette */
+    private final String name;
+    /** Color of the ghost outline */
+    private final Color ghost;
+    /** Brick colors, indexed by {@code id - 1} */
+    private final Color[] bricks;
+
+    /**
+     * Creates a palette
+     * @param name the display name
+     * @param ghost the color of the ghost outline
+     * @param bricks the colors of brick ids {@code 1}, {@code 2} and so on
+     */
+    public Palette(String name, Color ghost, Color... bricks) {
+        this.name = name;
+        this.ghost = ghost;
+        this.bricks = bricks.clone();
+    }
+
+    /**
+     * Returns the display name of the palette
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the number of brick colors
+     * @return the highest brick id with a color of its own
+     */
+    public int getBrickCount() {
+        return bricks.length;
+    }
+
+    /**
+     * Maps a brick id to its color
+     * @param id the brick id, or {@code 0} for an empty cell
+     * @return the color of the brick, {@link Color#TRANSPARENT} for an empty cell, or white for an unknown id
+     */
+    public Color fill(int id) {
+        if (id == 0) {
+            return Color.TRANSPARENT;
+        }
+        return id > 0 && id <= bricks.length ? bricks[id - 1] : UNKNOWN;
+    }
+
+    /**
+     * Returns the color of the ghost outline
+     * @return the ghost color
+     */
+    public Color getGhost() {
+        return ghost;
+    }
+
+    /**
+     * Returns the built-in palette that follows this one
+     * @return the next entry of {@link #BUILT_IN}, wrapping around; {@link #CLASSIC} for a palette that is not built in
+     */
+    public Palette next() {
+        int index = BUILT_IN.indexOf(this);
+        return BUILT_IN.get((index + 1) % BUILT_IN.size());
+    }
+}
@@ -0,0 +1,78 @@
+package com.comp2042;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Constants and varint helpers shared by {@link ReplayRecorder} and {@link ReplayReader}
+ * <p>
+ * A replay file is a fixed header followed by one varint per input:
+ * <ul>
+ *  <li>Header: the magic {@code "TRPL"}, a version byte, the {@link GameMode} ordinal, the brick
+ *      {@link com.comp2042.logic.bricks.Randomizer} ordinal and the 8-byte generator seed</li>
+ *  <li>Event: {@code (deltaMillis << 5) | (eventType << 1) | eventSource}, written as an unsigned LEB128 varint</li>
+ * </ul>
+ * <p>
+ * Inputs a few hundred milliseconds apart fit in two bytes, so a long session stays in the tens of kilobytes.
+ *
+ */
+final class ReplayFormat {
+    /** File magic, {@code "TRPL"} in ASCII */
+    static final int MAGIC = 0x5452504c;
+    /**
+     * Current format version; version 2 records lock-delay expiries as {@link EventType#LOCK} inputs,
+     * and version 3 uses SRS rotation states and wall kicks
+     */
+    static final byte VERSION = 3;
+    /** Size of the header in bytes */
+    static final int HEADER_SIZE = 4 + 1 + 1 + 1 + 8;
+    /** Bits used for the {@link EventSource} ordinal */
+    static final int SOURCE_BITS = 1;
+    /** Bits used for the {@link EventType} ordinal */
+    static final int TYPE_BITS = 4;
+    /** Longest encoding of a 64-bit varint */
+    static final int MAX_VARINT_BYTES = 10;
+
+    /** Prevents instantiation of this constants class */
+    private ReplayFormat() {}
+
+    /**
+     * Packs an input into the value written for it
+     * @param deltaMillis milliseconds since the previous input
+     * @param type the input type
+     * @param source the input source
+     * @return the packed event value
+     */
+    static long pack(long deltaMillis, EventType type, EventSource source) {
+        return (deltaMillis << (TYPE_BITS + SOURCE_BITS)) | ((long) type.ordinal() << SOURCE_BITS) | source.ordinal();
+    }
+
+    /**
+     * Writes an unsigned LEB128 varint
+     * @param buffer the buffer to write to; it must have {@link #MAX_VARINT_BYTES} bytes remaining
+     * @param value the value to write, treated as unsigned
+     */
+    static void writeVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Reads an unsigned LEB128 varint
+     * @param buffer the buffer to read from
+     * @return the decoded value, or {@code -1} if the buffer ends in the middle of the varint
+     */
+    static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64 && buffer.hasRemaining(); shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        return -1;
+    }
+}
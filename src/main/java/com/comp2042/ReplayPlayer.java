@@ -0,0 +1,239 @@
+package com.comp2042;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+
+/**
+ * Plays back a recorded replay on a headless {@link GameEngine}, with fast seeking
+ * <p>
+ * When the player is created, the replay is decoded into two primitive arrays (input types and timestamps) and simulated once
+ * from start to finish. Every {@code keyframeInterval} inputs a {@link GameSnapshot} is stored along the way. Seeking then
+ * restores the nearest keyframe at or before the target and simulates the remaining inputs, so any seek costs at most one
+ * keyframe interval of simulation, however long the replay is.
+ * <p>
+ * For validation without seeking (for example, checking leaderboard scores), {@link #simulate(ReplayReader)} runs the replay
+ * once without storing keyframes.
+ *
+ */
+public final class ReplayPlayer {
+    /** Number of inputs between two keyframes when none is specified */
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 256;
+    /** Number of rows on a replay board */
+    private static final int BOARD_ROWS = 25;
+    /** Number of columns on a replay board */
+    private static final int BOARD_COLUMNS = 10;
+    /** Event types indexed by ordinal */
+    private static final EventType[] TYPES = EventType.values();
+
+    /** The engine showing the replay at the current position */
+    private final GameEngine engine;
+    /** Ordinal of the type of each input */
+    private final byte[] types;
+    /** Time of each input since the start of the recording, in milliseconds */
+    private final long[] times;
+    /** Number of decoded inputs */
+    private final int inputCount;
+    /** Number of inputs between two keyframes */
+    private final int keyframeInterval;
+    /** Keyframe {@code k} is the state after {@code k * keyframeInterval} inputs */
+    private final List<GameSnapshot> keyframes = new ArrayList<>();
+    /** Score at the end of the replay */
+    private final int finalScore;
+    /** Number of pieces placed by the end of the replay */
+    private final int finalPieces;
+    /** Number of inputs applied to reach the current state */
+    private int position;
+
+    /**
+     * Creates a player with the default keyframe interval
+     * @param reader the replay to play; it is read to the end
+     */
+    public ReplayPlayer(ReplayReader reader) {
+        this(reader, DEFAULT_KEYFRAME_INTERVAL);
+    }
+
+    /**
+     * Creates a player, decoding and simulating the whole replay once to build its keyframes
+     * @param reader the replay to play; it is read to the end
+     * @param keyframeInterval the number of inputs between two keyframes
+     * @throws IllegalArgumentException if the interval is not positive
+     */
+    public ReplayPlayer(ReplayReader reader, int keyframeInterval) {
+        if (keyframeInterval < 1) {
+            throw new IllegalArgumentException("Keyframe interval must be positive, got " + keyframeInterval);
+        }
+        this.keyframeInterval = keyframeInterval;
+
+        byte[] decodedTypes = new byte[256];
+        long[] decodedTimes = new long[256];
+        int count = 0;
+        reader.rewind();
+        while (reader.next()) {
+            if (count == decodedTypes.length) {
+                decodedTypes = Arrays.copyOf(decodedTypes, count * 2);
+                decodedTimes = Arrays.copyOf(decodedTimes, count * 2);
+            }
+            decodedTypes[count] = (byte) reader.getEventType().ordinal();
+            decodedTimes[count] = reader.getTimeMillis();
+            count++;
+        }
+        this.types = decodedTypes;
+        this.times = decodedTimes;
+        this.inputCount = count;
+
+        this.engine = createEngine(reader);
+        keyframes.add(engine.snapshot());
+        while (position < inputCount) {
+            engine.apply(TYPES[types[position++]]);
+            if (position % keyframeInterval == 0) {
+                keyframes.add(engine.snapshot());
+            }
+        }
+        this.finalScore = engine.getScore();
+        this.finalPieces = engine.getPiecesPlaced();
+    }
+
+    /**
+     * Creates an engine set up for the start of a replay
+     * @param reader the replay
+     * @return a {@link GameEngine} on a {@link BitboardBoard} with the recorded mode, randomizer and seed
+     */
+    private static GameEngine createEngine(ReplayReader reader) {
+        RandomBrickGenerator generator = new RandomBrickGenerator(reader.getRandomizer(), reader.getSeed(),
+            RandomBrickGenerator.DEFAULT_PREVIEW_DEPTH);
+        GameEngine engine = new GameEngine(reader.getMode(), new BitboardBoard(BOARD_ROWS, BOARD_COLUMNS, generator));
+        engine.newGame(reader.getSeed());
+        return engine;
+    }
+
+    /**
+     * Simulates a replay from start to finish without storing keyframes
+     * @param reader the replay to simulate; it is rewound first
+     * @return the engine in its final state
+     */
+    public static GameEngine simulate(ReplayReader reader) {
+        GameEngine engine = createEngine(reader);
+        reader.rewind();
+        while (reader.next()) {
+            engine.apply(reader.getEventType());
+        }
+        return engine;
+    }
+
+    /**
+     * Moves the playback to the state after the given number of inputs
+     * @param target the number of inputs to have applied, clamped to {@code [0, getInputCount()]}
+     */
+    public void seek(int target) {
+        target = Math.max(0, Math.min(inputCount, target));
+        if (target < position || target - position > keyframeInterval) {
+            int keyframe = target / keyframeInterval;
+            engine.restore(keyframes.get(keyframe));
+            position = keyframe * keyframeInterval;
+        }
+        while (position < target) {
+            engine.apply(TYPES[types[position++]]);
+        }
+    }
+
+    /**
+     * Moves the playback to the state at the given time, including every input recorded at or before it
+     * @param millis the time since the start of the recording, in milliseconds
+     */
+    public void seekToTime(long millis) {
+        seek(inputsUpTo(millis));
+    }
+
+    /**
+     * Applies the next input
+     * @return {@code true} if an input was applied, {@code false} at the end of the replay
+     */
+    public boolean stepForward() {
+        if (position >= inputCount) {
+            return false;
+        }
+        engine.apply(TYPES[types[position++]]);
+        return true;
+    }
+
+    /**
+     * Counts the inputs recorded at or before a time
+     * @param millis the time since the start of the recording, in milliseconds
+     * @return the number of inputs with a timestamp of at most {@code millis}
+     */
+    private int inputsUpTo(long millis) {
+        int low = 0;
+        int high = inputCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (times[mid] <= millis) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the engine showing the replay at the current position
+     * <p>
+     * The engine should only be read; applying inputs to it directly desynchronizes the player.
+     *
+     * @return the {@link GameEngine}
+     */
+    public GameEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Returns the number of inputs applied to reach the current state
+     * @return the playback position
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * Returns the number of inputs in the replay
+     * @return the input count
+     */
+    public int getInputCount() {
+        return inputCount;
+    }
+
+    /**
+     * Returns the time of the last applied input
+     * @return the playback time in milliseconds, or {@code 0} at the start
+     */
+    public long getTimeMillis() {
+        return position == 0 ? 0 : times[position - 1];
+    }
+
+    /**
+     * Returns the length of the replay
+     * @return the time of the last input in milliseconds, or {@code 0} for an empty replay
+     */
+    public long getDurationMillis() {
+        return inputCount == 0 ? 0 : times[inputCount - 1];
+    }
+
+    /**
+     * Returns the score at the end of the replay
+     * @return the final score
+     */
+    public int getFinalScore() {
+        return finalScore;
+    }
+
+    /**
+     * Returns the number of pieces placed by the end of the replay
+     * @return the final piece count
+     */
+    public int getFinalPieces() {
+        return finalPieces;
+    }
+}
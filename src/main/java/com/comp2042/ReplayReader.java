@@ -0,0 +1,179 @@
+package com.comp2042;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.comp2042.logic.bricks.Randomizer;
+
+/**
+ * Decodes a replay file written by {@link ReplayRecorder}
+ * <p>
+ * The header is parsed when the reader is created. Inputs are then read one at a time with {@link #next()}, which decodes
+ * the next varint in place and exposes it through {@link #getEventType()}, {@link #getEventSource()} and the timing getters,
+ * so iterating over a replay allocates nothing. A replay whose last input was cut off (for example, by a crash) ends at the
+ * last complete input.
+ *
+ */
+public final class ReplayReader {
+    /** Event types indexed by ordinal */
+    private static final EventType[] TYPES = EventType.values();
+    /** Event sources indexed by ordinal */
+    private static final EventSource[] SOURCES = EventSource.values();
+
+    /** The encoded replay */
+    private final ByteBuffer data;
+    /** Game mode of the recorded game */
+    private final GameMode mode;
+    /** Brick randomizer of the recorded game */
+    private final Randomizer randomizer;
+    /** Brick generator seed of the recorded game */
+    private final long seed;
+    /** Type of the current input */
+    private EventType eventType;
+    /** Source of the current input */
+    private EventSource eventSource;
+    /** Milliseconds between the previous input and the current one */
+    private long deltaMillis;
+    /** Milliseconds between the start of the recording and the current input */
+    private long timeMillis;
+    /** Number of inputs read so far */
+    private int eventIndex;
+
+    /**
+     * Creates a reader over an encoded replay
+     * @param bytes the contents of a replay file; the array is not copied
+     * @throws IOException if the data does not start with a valid replay header
+     */
+    public ReplayReader(byte[] bytes) throws IOException {
+        this.data = ByteBuffer.wrap(bytes);
+        if (bytes.length < ReplayFormat.HEADER_SIZE || data.getInt() != ReplayFormat.MAGIC) {
+            throw new IOException("Not a replay file");
+        }
+        byte version = data.get();
+        if (version != ReplayFormat.VERSION) {
+            throw new IOException("Unsupported replay version " + version);
+        }
+        int modeIndex = data.get();
+        int randomizerIndex = data.get();
+        if (modeIndex < 0 || modeIndex >= GameMode.values().length || randomizerIndex < 0 || randomizerIndex >= Randomizer.values().length) {
+            throw new IOException("Corrupt replay header");
+        }
+        this.mode = GameMode.values()[modeIndex];
+        this.randomizer = Randomizer.values()[randomizerIndex];
+        this.seed = data.getLong();
+    }
+
+    /**
+     * Reads a replay file
+     * @param file the replay file
+     * @return a reader positioned before the first input
+     * @throws IOException if the file cannot be read or is not a replay
+     */
+    public static ReplayReader open(Path file) throws IOException {
+        return new ReplayReader(Files.readAllBytes(file));
+    }
+
+    /**
+     * Advances to the next input
+     * @return {@code true} if an input was read, {@code false} at the end of the replay
+     * @throws IllegalStateException if the input does not decode to a known event
+     */
+    public boolean next() {
+        if (!data.hasRemaining()) {
+            return false;
+        }
+        long value = ReplayFormat.readVarLong(data);
+        if (value < 0) {
+            return false;
+        }
+        int type = (int) (value >>> ReplayFormat.SOURCE_BITS) & ((1 << ReplayFormat.TYPE_BITS) - 1);
+        int source = (int) value & ((1 << ReplayFormat.SOURCE_BITS) - 1);
+        if (type >= TYPES.length || source >= SOURCES.length) {
+            throw new IllegalStateException("Unknown event " + type + "/" + source + " at input " + eventIndex);
+        }
+        eventType = TYPES[type];
+        eventSource = SOURCES[source];
+        deltaMillis = value >>> (ReplayFormat.TYPE_BITS + ReplayFormat.SOURCE_BITS);
+        timeMillis += deltaMillis;
+        eventIndex++;
+        return true;
+    }
+
+    /**
+     * Moves back to the first input
+     */
+    public void rewind() {
+        data.position(ReplayFormat.HEADER_SIZE);
+        eventType = null;
+        eventSource = null;
+        deltaMillis = 0;
+        timeMillis = 0;
+        eventIndex = 0;
+    }
+
+    /**
+     * Returns the game mode of the recorded game
+     * @return the {@link GameMode}
+     */
+    public GameMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Returns the brick randomizer of the recorded game
+     * @return the {@link Randomizer}
+     */
+    public Randomizer getRandomizer() {
+        return randomizer;
+    }
+
+    /**
+     * Returns the brick generator seed of the recorded game
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the type of the current input
+     * @return the {@link EventType}, or {@code null} before the first call to {@link #next()}
+     */
+    public EventType getEventType() {
+        return eventType;
+    }
+
+    /**
+     * Returns the source of the current input
+     * @return the {@link EventSource}, or {@code null} before the first call to {@link #next()}
+     */
+    public EventSource getEventSource() {
+        return eventSource;
+    }
+
+    /**
+     * Returns the time between the previous input and the current one
+     * @return the delay in milliseconds
+     */
+    public long getDeltaMillis() {
+        return deltaMillis;
+    }
+
+    /**
+     * Returns the time of the current input since the recording started
+     * @return the timestamp in milliseconds
+     */
+    public long getTimeMillis() {
+        return timeMillis;
+    }
+
+    /**
+     * Returns the number of inputs read so far
+     * @return the index of the current input plus one
+     */
+    public int getEventIndex() {
+        return eventIndex;
+    }
+}
@@ -0,0 +1,232 @@
+package com.comp2042;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.comp2042.logic.bricks.Randomizer;
+
+/**
+ * Records the inputs of one game into a compact binary replay file
+ * <p>
+ * Each input is packed with the milliseconds elapsed since the previous one and encoded as a varint (see {@link ReplayFormat}).
+ * Encoding happens on the calling thread into an in-memory chunk; full chunks are handed to a shared background writer thread
+ * that appends them to a {@link FileChannel}, so recording never blocks the caller on disk I/O.
+ * <p>
+ * Together with the seed and game mode in the header, the recorded inputs reproduce the game exactly when fed to a
+ * {@link GameEngine}. Instances are not thread-safe; all inputs should be recorded from one thread.
+ *
+ */
+public final class ReplayRecorder implements AutoCloseable {
+    /** File name extension used for replays */
+    public static final String FILE_EXTENSION = ".replay";
+    /** Size of the chunks handed to the writer thread */
+    private static final int CHUNK_SIZE = 4096;
+    /** Single background thread shared by every recorder; tasks run in submission order */
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "replay-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** The replay file */
+    private final Path file;
+    /** Channel the writer thread appends to */
+    private final FileChannel channel;
+    /** Chunk currently being filled on the recording thread */
+    private ByteBuffer pending;
+    /** Time of the previous input, in {@link System#nanoTime()} units */
+    private long lastNanos;
+    /** Number of inputs recorded */
+    private int eventCount;
+    /** Flag indicating whether {@link #closeAsync()} has been called */
+    private boolean closed;
+    /** First error raised by the writer thread, or {@code null} */
+    private volatile IOException failure;
+
+    /**
+     * Creates a recorder on an open channel and writes the header
+     * @param file the replay file
+     * @param channel the channel to append to
+     * @param mode the game mode of the recorded game
+     * @param seed the brick generator seed of the recorded game
+     * @param randomizer the brick randomizer of the recorded game
+     */
+    private ReplayRecorder(Path file, FileChannel channel, GameMode mode, long seed, Randomizer randomizer) {
+        this.file = file;
+        this.channel = channel;
+        this.pending = ByteBuffer.allocate(CHUNK_SIZE);
+        pending.putInt(ReplayFormat.MAGIC);
+        pending.put(ReplayFormat.VERSION);
+        pending.put((byte) mode.ordinal());
+        pending.put((byte) randomizer.ordinal());
+        pending.putLong(seed);
+        this.lastNanos = System.nanoTime();
+    }
+
+    /**
+     * Creates a replay file and starts recording into it
+     * @param file the file to create; an existing file is replaced
+     * @param mode the game mode of the recorded game
+     * @param seed the brick generator seed of the recorded game
+     * @param randomizer the brick randomizer of the recorded game
+     * @return a new {@code ReplayRecorder}
+     * @throws IOException if the file cannot be created
+     */
+    public static ReplayRecorder open(Path file, GameMode mode, long seed, Randomizer randomizer) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        FileChannel channel = FileChannel.open(file,
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        return new ReplayRecorder(file, channel, mode, seed, randomizer);
+    }
+
+    /**
+     * Returns the directory replays are saved to by default
+     * <p>
+     * The {@code tetris.replay.dir} system property overrides the default of {@code ~/.tetrisjfx/replays}.
+     *
+     * @return the replay directory
+     */
+    public static Path defaultDirectory() {
+        String configured = System.getProperty("tetris.replay.dir");
+        if (configured != null) {
+            return Paths.get(configured);
+        }
+        return Paths.get(System.getProperty("user.home"), ".tetrisjfx", "replays");
+    }
+
+    /**
+     * Builds a unique file name for a new replay
+     * @param directory the directory to place the replay in
+     * @param seed the seed of the recorded game
+     * @return the replay path, named after the current time and the seed
+     */
+    public static Path newReplayFile(Path directory, long seed) {
+        String time = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        return directory.resolve("replay-" + time + "-" + Long.toHexString(seed) + FILE_EXTENSION);
+    }
+
+    /**
+     * Records an input at the current time
+     * @param type the input type
+     * @param source whether the input came from the player or the game clock
+     */
+    public void record(EventType type, EventSource source) {
+        record(type, source, System.nanoTime());
+    }
+
+    /**
+     * Records an input at the given time
+     * @param type the input type
+     * @param source whether the input came from the player or the game clock
+     * @param nanoTime the time of the input, in {@link System#nanoTime()} units
+     */
+    public void record(EventType type, EventSource source, long nanoTime) {
+        if (closed) {
+            return;
+        }
+        long deltaMillis = Math.max(0, (nanoTime - lastNanos) / 1_000_000);
+        lastNanos += deltaMillis * 1_000_000;     // Keep the sub-millisecond remainder so rounding does not drift
+        if (pending.remaining() < ReplayFormat.MAX_VARINT_BYTES) {
+            flush();
+        }
+        ReplayFormat.writeVarLong(pending, ReplayFormat.pack(deltaMillis, type, source));
+        eventCount++;
+    }
+
+    /**
+     * Hands the recorded bytes to the writer thread without waiting for them to reach the file
+     */
+    public void flush() {
+        if (pending.position() == 0) {
+            return;
+        }
+        ByteBuffer chunk = pending.flip();
+        pending = ByteBuffer.allocate(CHUNK_SIZE);
+        WRITER.execute(() -> write(chunk));
+    }
+
+    /**
+     * Appends a chunk to the file; runs on the writer thread
+     * @param chunk the bytes to write
+     */
+    private void write(ByteBuffer chunk) {
+        if (failure != null) {
+            return;
+        }
+        try {
+            while (chunk.hasRemaining()) {
+                channel.write(chunk);
+            }
+        } catch (IOException e) {
+            failure = e;
+        }
+    }
+
+    /**
+     * Flushes the remaining bytes and closes the file in the background
+     * <p>
+     * Further inputs are ignored. The returned future completes when the file has been closed.
+     *
+     * @return a {@link Future} of the close, which fails with the first write error if there was one
+     */
+    public Future<Void> closeAsync() {
+        flush();
+        closed = true;
+        return WRITER.submit(() -> {
+            channel.close();
+            if (failure != null) {
+                throw failure;
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Flushes the remaining bytes and waits until the file has been closed
+     * @throws IOException if a write or the close failed
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            closeAsync().get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            throw new IOException("Failed to close replay " + file, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while closing replay " + file, e);
+        }
+    }
+
+    /**
+     * Returns the replay file
+     * @return the path being recorded to
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Returns the number of inputs recorded so far
+     * @return the event count
+     */
+    public int getEventCount() {
+        return eventCount;
+    }
+}
@@ -1,33 +1,29 @@
 package com.comp2042;
 
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleIntegerProperty;
-
 /**
  * Represents the player's score in the game
  * <p>
- * The {@code Score} class encapsulates the score as a JavaFX {@link IntegerProperty}, 
- * allowing it to be bound directly to UI components (e.g., {@link javafx.scene.control.Label}) for automatic when the score changes.
+ * The {@code Score} class keeps the score as a plain {@code int} and notifies nobody when it changes, so the game logic runs
+ * without the JavaFX runtime and adding points costs nothing beyond the addition. The GUI reads the score once per frame
+ * through a {@link StatsPublisher}.
  * 
  * <p>
  * Provides methods to increments and reset the score
  * 
  */
 public final class Score {
-    private final IntegerProperty score = new SimpleIntegerProperty(0);
+    /** The current score */
+    private int value;
 
     /** Creates a new {@code Score} instance with the score initialized to zero */
     public Score() {}
 
     /**
-     * Returns the score property
-     * <p>
-     * This property can be bound to UI elements to reflect score changes automatically.
-     * 
-     * @return the {@link IntegerProperty} representing the score
+     * Returns the current score
+     * @return the number of points scored so far
      */
-    public IntegerProperty scoreProperty() {
-        return score;
+    public int getValue() {
+        return value;
     }
 
     /**
@@ -35,13 +31,21 @@ public final class Score {
      * @param i the number of points to add
      */
     public void add(int i){
-        score.setValue(score.getValue() + i);
+        value += i;
     }
 
     /**
      * Resets the score to zero
      */
     public void reset() {
-        score.setValue(0);
+        set(0);
+    }
+
+    /**
+     * Sets the score, for example when restoring a saved game state
+     * @param newValue the new score
+     */
+    public void set(int newValue) {
+        value = newValue;
     }
 }
@@ -0,0 +1,125 @@
+package com.comp2042;
+
+/**
+ * Scoring rules applied each time a brick locks: line clears, T-spins, perfect clears, combos and back-to-back bonuses
+ * <p>
+ * Everything here is a table lookup or a few integer operations, so scoring a lock costs the same however full the board is.
+ * <ul>
+ *  <li>T-spins are found with the usual three-corner rule: the four cells diagonal to the T brick's center are read into a
+ *      4-bit mask (see {@link SimpleBoard#getCornerMask()}), and the precomputed mask of the two corners the T points to in
+ *      its current state decides between a full T-spin and a mini</li>
+ *  <li>A perfect clear is a lock that clears lines and leaves the board empty, which the board reports from its occupancy
+ *      counter</li>
+ *  <li>A combo is a run of consecutive locks that clear lines; every lock after the first earns {@link #COMBO_POINTS}
+ *      per step of the run</li>
+ *  <li>Tetrises and T-spins that clear lines are "difficult" clears; a difficult clear that follows another one, with no
+ *      easier line clear in between, earns half its points again</li>
+ * </ul>
+ * <p>
+ * Plain line clears keep the original {@code 50 * lines^2} points of {@link MatrixOperations#lineClearBonus(int)}.
+ *
+ */
+public final class ScoringRules {
+    /** Bit of the corner above and to the left of the T brick's center */
+    public static final int CORNER_TOP_LEFT = 1;
+    /** Bit of the corner above and to the right of the T brick's center */
+    public static final int CORNER_TOP_RIGHT = 1 << 1;
+    /** Bit of the corner below and to the right of the T brick's center */
+    public static final int CORNER_BOTTOM_RIGHT = 1 << 2;
+    /** Bit of the corner below and to the left of the T brick's center */
+    public static final int CORNER_BOTTOM_LEFT = 1 << 3;
+    /** Id of the T brick */
+    public static final int T_BRICK_ID = 6;
+    /** Index of the last quarter-turn kick, which always counts as a full T-spin */
+    public static final int UPGRADE_KICK = 4;
+    /** Points per step of a combo */
+    public static final int COMBO_POINTS = 50;
+
+    /** The two corners on the side the T brick points to, indexed by SRS state */
+    private static final int[] FRONT_CORNERS = {
+        CORNER_TOP_LEFT | CORNER_TOP_RIGHT,         // 0: points up
+        CORNER_TOP_RIGHT | CORNER_BOTTOM_RIGHT,     // R: points right
+        CORNER_BOTTOM_RIGHT | CORNER_BOTTOM_LEFT,   // 2: points down
+        CORNER_BOTTOM_LEFT | CORNER_TOP_LEFT        // L: points left
+    };
+    /** Points of a full T-spin, indexed by lines cleared */
+    private static final int[] T_SPIN_POINTS = {400, 800, 1200, 1600};
+    /** Points of a T-spin mini, indexed by lines cleared */
+    private static final int[] T_SPIN_MINI_POINTS = {100, 200, 400};
+    /** Perfect clear bonus, indexed by lines cleared */
+    private static final int[] PERFECT_CLEAR_POINTS = {0, 800, 1200, 1800, 2000};
+    /** Perfect clear bonus of a back-to-back tetris */
+    private static final int BACK_TO_BACK_PERFECT_TETRIS_POINTS = 3200;
+
+    /**
+     * Prevents instantiation of this utility class
+     */
+    private ScoringRules() {
+    }
+
+    /**
+     * Classifies a T-spin from the corners around the T brick's center
+     * @param cornerMask the occupied corners, as a combination of the {@code CORNER_*} bits
+     * @param rotation the SRS state of the T brick, between 0 and 3
+     * @param upgradeKick whether the brick was rotated into place with the {@link #UPGRADE_KICK} of a quarter turn
+     * @return {@link SpinType#FULL} if at least three corners are occupied, including both front corners (or the upgrade kick
+     *         was used), {@link SpinType#MINI} if only one front corner is, {@link SpinType#NONE} otherwise
+     */
+    public static SpinType detectSpin(int cornerMask, int rotation, boolean upgradeKick) {
+        if (Integer.bitCount(cornerMask) < 3) {
+            return SpinType.NONE;
+        }
+        int front = FRONT_CORNERS[rotation];
+        return (cornerMask & front) == front || upgradeKick ? SpinType.FULL : SpinType.MINI;
+    }
+
+    /**
+     * Checks whether a clear keeps a back-to-back chain going
+     * @param lines the number of lines cleared
+     * @param spin the T-spin performed
+     * @return {@code true} for a tetris or a T-spin that clears lines
+     */
+    public static boolean isDifficult(int lines, SpinType spin) {
+        return lines == 4 || (lines > 0 && spin != SpinType.NONE);
+    }
+
+    /**
+     * Returns the points of a clear before bonuses
+     * @param lines the number of lines cleared
+     * @param spin the T-spin performed
+     * @return the points of the T-spin if there was one, otherwise {@code 50 * lines^2}
+     */
+    public static int clearPoints(int lines, SpinType spin) {
+        switch (spin) {
+            case FULL:
+                return T_SPIN_POINTS[Math.min(lines, T_SPIN_POINTS.length - 1)];
+            case MINI:
+                return T_SPIN_MINI_POINTS[Math.min(lines, T_SPIN_MINI_POINTS.length - 1)];
+            default:
+                return MatrixOperations.lineClearBonus(lines);
+        }
+    }
+
+    /**
+     * Returns the total points of a lock
+     * @param lines the number of lines cleared
+     * @param spin the T-spin performed
+     * @param backToBack whether the clear continues a back-to-back chain
+     * @param combo the number of locks in a row before this one that also cleared lines
+     * @param perfectClear whether the lock left the board empty
+     * @return the points to add to the score
+     */
+    public static int lockPoints(int lines, SpinType spin, boolean backToBack, int combo, boolean perfectClear) {
+        int points = clearPoints(lines, spin);
+        if (backToBack) {
+            points += points / 2;
+        }
+        if (combo > 0) {
+            points += COMBO_POINTS * combo;
+        }
+        if (perfectClear) {
+            points += backToBack && lines == 4 ? BACK_TO_BACK_PERFECT_TETRIS_POINTS : PERFECT_CLEAR_POINTS[lines];
+        }
+        return points;
+    }
+}
@@ -1,12 +1,14 @@
 package com.comp2042;
 
-import java.awt.Point;
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Consumer;
 
 import com.comp2042.logic.bricks.Brick;
 import com.comp2042.logic.bricks.BrickGenerator;
 import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.bricks.ShapeTable;
+import com.comp2042.logic.bricks.WallKickTable;
 
 /**
  * A simple implementation of the {@link Board} interface
@@ -32,10 +34,30 @@ public class SimpleBoard implements Board {
     private final BrickGenerator brickGenerator;
     /** Handles rotation of the current brick */
     private final BrickRotator brickRotator;
-    /** The current game matrix representing the board state */
-    private int[][] currentGameMatrix;
-    /** The current brick's offset (position on the board) */
-    private Point currentOffset;
+    /** The current game matrix representing the board state; rows are updated and shifted in place */
+    private final int[][] currentGameMatrix;
+    /** Number of occupied cells in each row, kept in step with {@link #currentGameMatrix} */
+    private final int[] rowFill;
+    /** Total number of occupied cells, kept in step with {@link #rowFill} */
+    private int occupiedCells;
+    /** First row touched by the last merge (inclusive) */
+    private int touchedTop;
+    /** Last row touched by the last merge (inclusive), or {@code -1} if no merge is pending a line check */
+    private int touchedBottom = -1;
+    /** Scratch list of full rows found by {@link #clearRows()}, reused between landings */
+    private final int[] fullRows;
+    /** Skyline index: the topmost occupied row of each column, or the row count if the column is empty */
+    private final int[] columnTop;
+    /** Read-only view of the live board matrix */
+    private final MatrixView boardView;
+    /** Cells changed since a view last drew the board */
+    private final DirtyCells dirtyCells;
+    /** The current brick's X offset (column) on the board */
+    private int currentX;
+    /** The current brick's Y offset (row) on the board */
+    private int currentY;
+    /** Index of the wall kick used by the last successful rotation */
+    private int lastKick;
     /** Tracks the player's score */
     private final Score score;
     /** Consumer used to update the GUI with the next bricks queue preview */
@@ -49,10 +71,26 @@ public class SimpleBoard implements Board {
      * @param height the height of the board (rows)
      */
     public SimpleBoard(int width, int height) {
+        this(width, height, new RandomBrickGenerator());
+    }
+
+    /**
+     * Constructs a new {@code SimpleBoard} that draws its bricks from the given generator
+     * @param width the width of the board (columns)
+     * @param height the height of the board (rows)
+     * @param brickGenerator the {@link BrickGenerator} supplying new bricks (e.g., a seeded {@link RandomBrickGenerator})
+     */
+    public SimpleBoard(int width, int height, BrickGenerator brickGenerator) {
         this.width = width;
         this.height = height;
         currentGameMatrix = new int[width][height];
-        brickGenerator = new RandomBrickGenerator();
+        rowFill = new int[width];
+        fullRows = new int[width];
+        columnTop = new int[height];
+        Arrays.fill(columnTop, width);
+        boardView = new MatrixView(currentGameMatrix);
+        dirtyCells = new DirtyCells(width, height);
+        this.brickGenerator = brickGenerator;
         brickRotator = new BrickRotator();
         score = new Score();
     }
@@ -89,6 +127,14 @@ public class SimpleBoard implements Board {
         this.gameOverRow = row;
     }
 
+    /**
+     * Returns the brick generator
+     * @return the {@link BrickGenerator} supplying new bricks
+     */
+    public BrickGenerator getBrickGenerator() {
+        return brickGenerator;
+    }
+
     /**
      * Returns the brick rotator
      * @return the {@link BrickRotator}
@@ -103,7 +149,8 @@ public class SimpleBoard implements Board {
      */
     public void setCurrentBrick(Brick brick) {
         brickRotator.setBrick(brick);
-        currentOffset = new Point (4, gameOverRow); // Reset spawn position
+        currentX = 4;   // Reset spawn position
+        currentY = gameOverRow;
     }
 
     /**
@@ -113,14 +160,11 @@ public class SimpleBoard implements Board {
      */
     @Override
     public boolean moveBrickDown() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point p = new Point(currentOffset);
-        p.translate(0, 1);
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
+        boolean conflict = isBlocked(brickRotator.getCurrentShapeIndex(), currentX, currentY + 1);
         if (conflict) {
             return false;
         } else {
-            currentOffset = p;
+            currentY++;
             return true;
         }
     }
@@ -132,14 +176,11 @@ public class SimpleBoard implements Board {
      */
     @Override
     public boolean moveBrickLeft() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point p = new Point(currentOffset);
-        p.translate(-1, 0);
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
+        boolean conflict = isBlocked(brickRotator.getCurrentShapeIndex(), currentX - 1, currentY);
         if (conflict) {
             return false;
         } else {
-            currentOffset = p;
+            currentX--;
             return true;
         }
     }
@@ -151,37 +192,64 @@ public class SimpleBoard implements Board {
      */
     @Override
     public boolean moveBrickRight() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point p = new Point(currentOffset);
-        p.translate(1, 0);
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
+        boolean conflict = isBlocked(brickRotator.getCurrentShapeIndex(), currentX + 1, currentY);
         if (conflict) {
             return false;
         } else {
-            currentOffset = p;
+            currentX++;
             return true;
         }
     }
 
     /**
-     * Attempts to rotate the current brick to its next orientation
-     * <p>
-     * Uses {@link BrickRotator#getNextShape()} to preview the rotation and checks for collisions before applying it
-     * 
+     * Attempts to rotate the current brick to its next orientation, which is one clockwise quarter turn
      * @return {@code true} if the brick was successfully rotated,
      *         {@code false} if a collision prevents rotation
+     * @see #rotateBrick(int)
      */
     @Override
     public boolean rotateLeftBrick() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        NextShapeInfo nextShape = brickRotator.getNextShape();
-        boolean conflict = MatrixOperations.intersect(currentMatrix, nextShape.getShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
-        if (conflict) {
+        return rotateBrick(WallKickTable.CLOCKWISE);
+    }
+
+    /**
+     * Attempts to rotate the current brick, trying the SRS wall kicks of the transition in order
+     * <p>
+     * Each kick is tested with {@link #isBlocked(int, int, int)}, so a {@link BitboardBoard} checks every kick with a few
+     * mask operations. The first position that fits is kept.
+     *
+     * @param quarterTurns {@code 1} for clockwise, {@code 2} for a half turn, {@code 3} for counter-clockwise
+     * @return {@code true} if the brick was rotated, {@code false} if it has a single orientation or every kick is blocked
+     */
+    @Override
+    public boolean rotateBrick(int quarterTurns) {
+        int rotations = brickRotator.getShapeTable().rotationCount();
+        int from = brickRotator.getCurrentShapeIndex();
+        int to = (from + quarterTurns) % rotations;
+        if (to == from) {
             return false;
-        } else {
-            brickRotator.setCurrentShape(nextShape.getPosition());
-            return true;
         }
+        WallKickTable kicks = brickRotator.getKickTable();
+        for (int k = 0, count = kicks.kickCount(from, quarterTurns); k < count; k++) {
+            int x = currentX + kicks.offsetX(from, quarterTurns, k);
+            int y = currentY + kicks.offsetY(from, quarterTurns, k);
+            if (!isBlocked(to, x, y)) {
+                brickRotator.setCurrentShape(to);
+                currentX = x;
+                currentY = y;
+                lastKick = k;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns which wall kick the last successful rotation used
+     * @return the kick index, {@code 0} for the unkicked position
+     */
+    public int getLastKick() {
+        return lastKick;
     }
 
     /**
@@ -195,14 +263,47 @@ public class SimpleBoard implements Board {
     public boolean createNewBrick() {
         Brick currentBrick = brickGenerator.getBrick();
         brickRotator.setBrick(currentBrick);
-        currentOffset = new Point(4, gameOverRow);
+        currentX = 4;
+        currentY = gameOverRow;
 
         // Notify the GUI with the new queue
         if (nextBricksQueueConsumer != null) {
             nextBricksQueueConsumer.accept(brickGenerator.getNextBricksQueue());
         }
 
-        return MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        return isBlocked(brickRotator.getCurrentShapeIndex(), currentX, currentY);
+    }
+
+    /**
+     * Checks whether the current brick, in the given orientation, would collide at the given position
+     * <p>
+     * This is the single collision primitive used by every move, rotation and spawn.
+     * It reads the live board matrix and allocates nothing, so moves do not produce garbage.
+     * Subclasses with a different board representation (e.g., {@link BitboardBoard}) override it to supply a faster test.
+     * 
+     * @param shapeIndex the rotation index of the current brick to test
+     * @param x the X position (column offset)
+     * @param y the Y position (row offset)
+     * @return {@code true} if the brick would intersect the board or its boundaries, {@code false} otherwise
+     */
+    protected boolean isBlocked(int shapeIndex, int x, int y) {
+        return MatrixOperations.intersect(currentGameMatrix, brickRotator.getShapeTable(), shapeIndex, x, y);
+    }
+
+    /**
+     * Returns the current brick's X position
+     * @return the column offset of the current brick
+     */
+    protected int getCurrentX() {
+        return currentX;
+    }
+
+    /**
+     * Returns the current brick's Y position
+     * @return the row offset of the current brick
+     */
+    protected int getCurrentY() {
+        return currentY;
     }
 
     /**
@@ -214,42 +315,301 @@ public class SimpleBoard implements Board {
         return currentGameMatrix;
     }
 
+    /**
+     * Returns a read-only view of the live board matrix
+     * @return a {@link MatrixView} that always reflects the current board state
+     */
+    @Override
+    public MatrixView getBoardView() {
+        return boardView;
+    }
+
+    /**
+     * Returns the record of background cells changed since a view last drew the board
+     * <p>
+     * Merges mark the cells they fill, line clears mark every row that moved, and new games and restores mark the whole board.
+     * The view that draws the board clears the record afterwards.
+     *
+     * @return the board's {@link DirtyCells}
+     */
+    public DirtyCells getDirtyCells() {
+        return dirtyCells;
+    }
+
     /**
      * Returns a snapshot of the current view data
      * <p>
-     * Includes the current brick shape, its position, and the next brick preview shape
+     * Includes the current brick shape, its position, its drop distance, and the next brick preview shape
      * 
      * @return a {@link ViewData} object representing the current state
      */
     @Override
     public ViewData getViewData() {
-        return new ViewData(brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY(), brickGenerator.getNextBrick().getShapeMatrix().get(0));
+        return new ViewData(brickRotator.getCurrentShape(), currentX, currentY, brickGenerator.getNextBrick().getShapeMatrix().get(0),
+                brickRotator.getShapeTable(), brickRotator.getCurrentShapeIndex(), getDropDistance());
     }
 
     /**
      * Merges the current brick into the background board matrix
      * <p>
-     * This is typically called when the brick can no longer move down
+     * This is typically called when the brick can no longer move down.
+     * The brick's cells are written into the live matrix, the per-row fill counters are updated,
+     * and the rows the brick touched are remembered so that {@link #clearRows()} only has to check those.
      * 
      */
     @Override
     public void mergeBrickToBackground() {
-        currentGameMatrix = MatrixOperations.merge(currentGameMatrix, brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        ShapeTable shape = brickRotator.getShapeTable();
+        int rotation = brickRotator.getCurrentShapeIndex();
+        int[][] brick = brickRotator.getCurrentShape();
+        for (int k = 0, n = shape.cellCount(rotation); k < n; k++) {
+            int i = shape.cellY(rotation, k);
+            int j = shape.cellX(rotation, k);
+            int targetY = currentY + i;
+            int targetX = currentX + j;
+            if (targetY >= 0 && targetY < currentGameMatrix.length && targetX >= 0 && targetX < currentGameMatrix[targetY].length) {
+                if (currentGameMatrix[targetY][targetX] == 0) {
+                    rowFill[targetY]++;
+                    occupiedCells++;
+                }
+                currentGameMatrix[targetY][targetX] = brick[i][j];
+                dirtyCells.markCell(targetY, targetX);
+                if (targetY < columnTop[targetX]) {
+                    columnTop[targetX] = targetY;
+                }
+            }
+        }
+        touchedTop = Math.max(0, currentY + shape.minY(rotation));
+        touchedBottom = Math.min(currentGameMatrix.length - 1, currentY + shape.maxY(rotation));
     }
 
     /**
      * Clears any completed rows from the board
      * <p>
-     * Uses {@link MatrixOperations#checkRemoving(int[][])} to detect and remove full rows, shifting remaining rows downward
+     * Only the rows touched by the last merge can have become full, so only their fill counters are checked.
+     * Full rows are removed by shifting row references downward in place and recycling the cleared row arrays at the top,
+     * so a landing that clears nothing does no matrix work at all.
      * 
-     * @return a {@link ClearRow} object containing the number of rows cleared, the updated matrix, and the score bonus
+     * @return a {@link ClearRow} object containing the number of rows cleared, their indices, the score bonus, and the live
+     *         background matrix, which is only valid as the board after this clear until the next brick locks
      */
     @Override
     public ClearRow clearRows() {
-        ClearRow clearRow = MatrixOperations.checkRemoving(currentGameMatrix);
-        currentGameMatrix = clearRow.getNewMatrix();
-        return clearRow;
+        int count = 0;
+        for (int row = touchedTop; row <= touchedBottom; row++) {
+            if (isRowFull(row)) {
+                fullRows[count++] = row;
+            }
+        }
+        touchedBottom = -1;
 
+        if (count == 0) {
+            return new ClearRow(0, currentGameMatrix, 0);
+        }
+        int[] cleared = Arrays.copyOf(fullRows, count);
+        removeRows(cleared);
+        return new ClearRow(count, currentGameMatrix, MatrixOperations.lineClearBonus(count), cleared);
+    }
+
+    /**
+     * Checks whether a row is completely filled
+     * @param row the row index
+     * @return {@code true} if every cell of the row is occupied
+     */
+    protected boolean isRowFull(int row) {
+        return rowFill[row] == currentGameMatrix[row].length;
+    }
+
+    /**
+     * Removes the given full rows and shifts every row above them downward
+     * <p>
+     * Row arrays are moved by reference; the removed arrays are zeroed and reused as the new empty rows at the top.
+     * Subclasses that keep additional per-row state override this and shift it with {@link #compactRows(int[], int[], int)}.
+     * 
+     * @param cleared the indices of the rows to remove, in ascending order
+     */
+    protected void removeRows(int[] cleared) {
+        int[][] recycled = new int[cleared.length][];
+        for (int k = 0; k < cleared.length; k++) {
+            recycled[k] = currentGameMatrix[cleared[k]];
+            Arrays.fill(recycled[k], 0);
+        }
+        int write = cleared[cleared.length - 1];
+        int next = cleared.length - 1;
+        for (int read = write; read >= 0; read--) {
+            if (next >= 0 && cleared[next] == read) {
+                next--;
+                continue;
+            }
+            currentGameMatrix[write--] = currentGameMatrix[read];
+        }
+        for (int k = 0; write >= 0; k++) {
+            currentGameMatrix[write--] = recycled[k];
+        }
+        occupiedCells -= cleared.length * recycled[0].length;
+        dirtyCells.markRows(0, cleared[cleared.length - 1]);    // Every row down to the lowest cleared one has moved
+        compactRows(rowFill, cleared, 0);
+        updateSkyline(cleared);
+    }
+
+    /**
+     * Brings the skyline index up to date after rows were removed
+     * <p>
+     * Every removed row was full, so it lies at or below each column's top. A column whose top cell survived simply drops by
+     * the number of removed rows; only a column whose top cell was itself removed has to look down for its new top.
+     * 
+     * @param cleared the indices of the removed rows, in ascending order
+     */
+    private void updateSkyline(int[] cleared) {
+        int rows = currentGameMatrix.length;
+        for (int col = 0; col < columnTop.length; col++) {
+            if (columnTop[col] != cleared[0]) {
+                columnTop[col] += cleared.length;
+                continue;
+            }
+            int row = cleared.length;
+            while (row < rows && currentGameMatrix[row][col] == 0) {
+                row++;
+            }
+            columnTop[col] = row;
+        }
+    }
+
+    /**
+     * Checks whether the background is empty, for example after a perfect clear
+     * <p>
+     * Reads the occupancy counter kept by merges and row removals, so the board is never scanned.
+     *
+     * @return {@code true} if no cell of the background is occupied
+     */
+    public boolean isEmpty() {
+        return occupiedCells == 0;
+    }
+
+    /**
+     * Returns the number of occupied cells in the background
+     * @return the occupied cell count
+     */
+    public int getOccupiedCells() {
+        return occupiedCells;
+    }
+
+    /**
+     * Reads the four corners of the 3 x 3 box around the current brick's center
+     * <p>
+     * The center is the cell at offset (1, 1) of the brick's shape, which is the pivot of the T brick in every state.
+     * The walls and the floor count as occupied; the space above the board does not.
+     *
+     * @return a combination of the {@code ScoringRules.CORNER_*} bits of the occupied corners
+     */
+    public int getCornerMask() {
+        int mask = 0;
+        if (isOccupied(currentX, currentY)) {
+            mask |= ScoringRules.CORNER_TOP_LEFT;
+        }
+        if (isOccupied(currentX + 2, currentY)) {
+            mask |= ScoringRules.CORNER_TOP_RIGHT;
+        }
+        if (isOccupied(currentX + 2, currentY + 2)) {
+            mask |= ScoringRules.CORNER_BOTTOM_RIGHT;
+        }
+        if (isOccupied(currentX, currentY + 2)) {
+            mask |= ScoringRules.CORNER_BOTTOM_LEFT;
+        }
+        return mask;
+    }
+
+    /**
+     * Checks whether a cell is blocked, counting the walls and the floor as blocked
+     * @param col the column index
+     * @param row the row index
+     * @return {@code true} if the cell is occupied or lies beside or below the board
+     */
+    private boolean isOccupied(int col, int row) {
+        if (row >= currentGameMatrix.length || col < 0 || col >= currentGameMatrix[0].length) {
+            return true;
+        }
+        return row >= 0 && currentGameMatrix[row][col] != 0;
+    }
+
+    /**
+     * Returns the height of the stack in a column
+     * @param column the column index
+     * @return the number of rows from the floor up to and including the column's topmost occupied cell (0 if empty)
+     */
+    public int getColumnHeight(int column) {
+        return currentGameMatrix.length - columnTop[column];
+    }
+
+    /**
+     * Calculates how far the current brick can fall from its current position
+     * @return the number of rows the brick can move down before it lands
+     */
+    @Override
+    public int getDropDistance() {
+        return getDropDistance(brickRotator.getCurrentShapeIndex(), currentX, currentY);
+    }
+
+    /**
+     * Calculates how far the current brick, in the given orientation and position, could fall
+     * <p>
+     * Uses the skyline index together with the {@link ShapeTable} bottom profile, so the answer costs one comparison per
+     * occupied shape column. Only when part of the brick is already below a column's top (tucked under an overhang) does it
+     * fall back to walking the board.
+     * 
+     * @param shapeIndex the rotation index of the current brick
+     * @param x the X position (column offset)
+     * @param y the Y position (row offset)
+     * @return the number of rows the brick can move down before it lands
+     */
+    public int getDropDistance(int shapeIndex, int x, int y) {
+        ShapeTable shape = brickRotator.getShapeTable();
+        int distance = Integer.MAX_VALUE;
+        for (int j = shape.minX(shapeIndex); j <= shape.maxX(shapeIndex); j++) {
+            int bottom = shape.bottom(shapeIndex, j);
+            if (bottom == ShapeTable.EMPTY_COLUMN) {
+                continue;
+            }
+            int cellRow = y + bottom;
+            int surface = columnTop[x + j];
+            if (cellRow >= surface) {
+                return MatrixOperations.dropDistance(currentGameMatrix, shape, shapeIndex, x, y);
+            }
+            distance = Math.min(distance, surface - cellRow - 1);
+        }
+        return distance == Integer.MAX_VALUE ? 0 : distance;
+    }
+
+    /**
+     * Moves the current brick straight down to its landing position in one step
+     * @return the number of rows the brick moved
+     */
+    @Override
+    public int dropBrick() {
+        int distance = getDropDistance();
+        currentY += distance;
+        return distance;
+    }
+
+    /**
+     * Applies a row removal to a per-row array, shifting the surviving values downward in place
+     * @param values the per-row values, indexed by row
+     * @param cleared the indices of the removed rows, in ascending order
+     * @param emptyValue the value given to the new rows at the top
+     */
+    protected static void compactRows(int[] values, int[] cleared, int emptyValue) {
+        int write = cleared[cleared.length - 1];
+        int next = cleared.length - 1;
+        for (int read = write; read >= 0; read--) {
+            if (next >= 0 && cleared[next] == read) {
+                next--;
+                continue;
+            }
+            values[write--] = values[read];
+        }
+        while (write >= 0) {
+            values[write--] = emptyValue;
+        }
     }
 
     /**
@@ -264,13 +624,66 @@ public class SimpleBoard implements Board {
     /**
      * Resets the board for a new game
      * <p>
-     * Clears the matrix, resets the score, spawns a new brick
+     * Clears the matrix in place, resets the score, spawns a new brick
      * 
      */
     @Override
     public void newGame() {
-        currentGameMatrix = new int[width][height];
+        for (int[] row : currentGameMatrix) {
+            Arrays.fill(row, 0);
+        }
+        Arrays.fill(rowFill, 0);
+        occupiedCells = 0;
+        Arrays.fill(columnTop, currentGameMatrix.length);
+        touchedBottom = -1;
+        dirtyCells.markAll();
         score.reset();
         createNewBrick();
     }
+
+    /**
+     * Replaces the background and the current brick, for example to restore a saved game state
+     * <p>
+     * The matrix is copied into the live board and the fill counters and skyline are rebuilt from it.
+     * The brick generator and score are left untouched.
+     *
+     * @param matrix the background to copy, with the same dimensions as the board
+     * @param brick the current {@link Brick}
+     * @param rotation the rotation index of the current brick
+     * @param x the X offset (column) of the current brick
+     * @param y the Y offset (row) of the current brick
+     */
+    public void restore(int[][] matrix, Brick brick, int rotation, int x, int y) {
+        Arrays.fill(columnTop, currentGameMatrix.length);
+        occupiedCells = 0;
+        for (int row = 0; row < currentGameMatrix.length; row++) {
+            System.arraycopy(matrix[row], 0, currentGameMatrix[row], 0, currentGameMatrix[row].length);
+            int fill = 0;
+            for (int col = 0; col < currentGameMatrix[row].length; col++) {
+                if (currentGameMatrix[row][col] != 0) {
+                    fill++;
+                    if (row < columnTop[col]) {
+                        columnTop[col] = row;
+                    }
+                }
+            }
+            rowFill[row] = fill;
+            occupiedCells += fill;
+        }
+        touchedBottom = -1;
+        dirtyCells.markAll();
+        brickRotator.setBrick(brick);
+        brickRotator.setCurrentShape(rotation);
+        currentX = x;
+        currentY = y;
+    }
+
+    /**
+     * Resets the board for a new game whose brick sequence starts from the given seed
+     * @param seed the seed passed to {@link BrickGenerator#reset(long)}
+     */
+    public void newGame(long seed) {
+        brickGenerator.reset(seed);
+        newGame();
+    }
 }
@@ -0,0 +1,113 @@
+package com.comp2042;
+
+/**
+ * Aggregated results of a batch of simulated games
+ * <p>
+ * Holds one {@link SummaryStatistics} per measured quantity: final score, lines cleared, pieces placed and game length in ticks.
+ * Summaries are filled by {@link BatchSimulator}; callers only read them.
+ *
+ */
+public final class SimulationSummary {
+    /** Final score of each game */
+    private final SummaryStatistics score = new SummaryStatistics();
+    /** Lines cleared in each game */
+    private final SummaryStatistics lines = new SummaryStatistics();
+    /** Pieces placed in each game */
+    private final SummaryStatistics pieces = new SummaryStatistics();
+    /** Length of each game, in engine ticks */
+    private final SummaryStatistics ticks = new SummaryStatistics();
+    /** Number of games that ended by reaching the tick limit rather than by game over */
+    private long truncatedGames;
+
+    /** Creates an empty summary */
+    SimulationSummary() {}
+
+    /**
+     * Records the final state of a finished game
+     * @param engine the engine of the game
+     */
+    void record(GameEngine engine) {
+        score.accept(engine.getScore());
+        lines.accept(engine.getLinesCleared());
+        pieces.accept(engine.getPiecesPlaced());
+        ticks.accept(engine.getTick());
+        if (!engine.isGameOver()) {
+            truncatedGames++;
+        }
+    }
+
+    /**
+     * Merges the results of another batch into this summary
+     * @param other the summary to merge
+     * @return this summary
+     */
+    SimulationSummary combine(SimulationSummary other) {
+        score.combine(other.score);
+        lines.combine(other.lines);
+        pieces.combine(other.pieces);
+        ticks.combine(other.ticks);
+        truncatedGames += other.truncatedGames;
+        return this;
+    }
+
+    /**
+     * Returns the number of games played
+     * @return the game count
+     */
+    public long getGames() {
+        return score.getCount();
+    }
+
+    /**
+     * Returns the number of games stopped at the tick limit
+     * @return the truncated game count
+     */
+    public long getTruncatedGames() {
+        return truncatedGames;
+    }
+
+    /**
+     * Returns the statistics of the final scores
+     * @return the score {@link SummaryStatistics}
+     */
+    public SummaryStatistics getScore() {
+        return score;
+    }
+
+    /**
+     * Returns the statistics of the lines cleared per game
+     * @return the line {@link SummaryStatistics}
+     */
+    public SummaryStatistics getLines() {
+        return lines;
+    }
+
+    /**
+     * Returns the statistics of the pieces placed per game
+     * @return the piece {@link SummaryStatistics}
+     */
+    public SummaryStatistics getPieces() {
+        return pieces;
+    }
+
+    /**
+     * Returns the statistics of the game lengths
+     * @return the game length {@link SummaryStatistics}, in ticks of {@link GameEngine#TICKS_PER_SECOND}
+     */
+    public SummaryStatistics getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Returns a multi-line report of the summary
+     * @return one line per measured quantity
+     */
+    @Override
+    public String toString() {
+        return "games:  " + getGames() + " (" + truncatedGames + " truncated)" + System.lineSeparator()
+            + "score:  " + score + System.lineSeparator()
+            + "lines:  " + lines + System.lineSeparator()
+            + "pieces: " + pieces + System.lineSeparator()
+            + "ticks:  " + ticks;
+    }
+}
@@ -0,0 +1,24 @@
+package com.comp2042;
+
+/**
+ * Represents the kind of T-spin performed by the last brick to lock
+ * <p>
+ * The {@code SpinType} enum is decided by {@link ScoringRules#detectSpin(int, int, boolean)} from the corner cells around the
+ * T brick's center at the moment it locks.
+ */
+public enum SpinType {
+    /**
+     * The brick was not a T brick, was not rotated into place, or fewer than three corners were occupied
+     */
+    NONE,
+
+    /**
+     * A T-spin mini: three corners occupied, but only one of the two corners on the side the T points to
+     */
+    MINI,
+
+    /**
+     * A full T-spin: three corners occupied, including both corners on the side the T points to
+     */
+    FULL
+}
@@ -0,0 +1,185 @@
+package com.comp2042;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+/**
+ * One image holding a pre-rendered cell of every brick color of a {@link Palette}, plus the ghost outline
+ * <p>
+ * Cells used to be styled one by one: each board cell was filled as a rounded rectangle with its own fill state, and each
+ * preview cell was a {@code Rectangle} node with its own fill and stroke. The atlas rasterizes every sprite once, at one cell
+ * size, into a single row of a {@link WritableImage}, so a renderer draws a cell by copying a square of that image and a
+ * preview shows one by pointing an {@code ImageView} at it. The sprites are anti-aliased by sampling each pixel on a 4x4 grid,
+ * which needs no canvas and can therefore run on any thread.
+ * <p>
+ * Sprites are laid out left to right: the empty cell (id {@code 0}), brick ids {@code 1} to {@link Palette#getBrickCount()},
+ * the sprite for unknown ids, then the ghost outline.
+ *
+ */
+public final class SpriteAtlas {
+    /** Corner diameter of a brick cell */
+    public static final double ARC = 9;
+    /** Line width of the ghost outline */
+    public static final double GHOST_STROKE = 1.5;
+    /** Samples per pixel along each axis when rasterizing */
+    private static final int SUBSAMPLES = 4;
+
+    /** The palette the sprites were drawn from */
+    private final Palette palette;
+    /** Width and height of one sprite in pixels */
+    private final int cellSize;
+    /** The sprites, side by side */
+    private final WritableImage image;
+    /** Source rectangle of each sprite, indexed like the sprites */
+    private final Rectangle2D[] viewports;
+
+    /**
+     * Rasterizes the sprites of a palette
+     * @param palette the colors to draw
+     * @param cellSize the width and height of one sprite in pixels
+     */
+    public SpriteAtlas(Palette palette, int cellSize) {
+        this.palette = palette;
+        this.cellSize = cellSize;
+        int count = palette.getBrickCount() + 3;
+        this.image = new WritableImage(cellSize * count, cellSize);
+        this.viewports = new Rectangle2D[count];
+        PixelWriter writer = image.getPixelWriter();
+        for (int index = 0; index < count; index++) {
+            viewports[index] = new Rectangle2D(index * cellSize, 0, cellSize, cellSize);
+        }
+        for (int id = 1; id <= palette.getBrickCount() + 1; id++) {
+            drawBlock(writer, id * cellSize, palette.fill(id));
+        }
+        drawOutline(writer, getGhostIndex() * cellSize, palette.getGhost());
+    }
+
+    /**
+     * Returns the palette the sprites were drawn from
+     * @return the palette
+     */
+    public Palette getPalette() {
+        return palette;
+    }
+
+    /**
+     * Returns the width and height of one sprite
+     * @return the cell size in pixels
+     */
+    public int getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Returns the image holding every sprite
+     * @return the atlas image
+     */
+    public Image getImage() {
+        return image;
+    }
+
+    /**
+     * Returns the sprite index of a brick id
+     * @param id the brick id, or {@code 0} for an empty cell
+     * @return the index of the id's sprite; unknown ids share one sprite
+     */
+    public int getIndex(int id) {
+        return id >= 0 && id <= palette.getBrickCount() ? id : palette.getBrickCount() + 1;
+    }
+
+    /**
+     * Returns the sprite index of the ghost outline
+     * @return the index of the ghost sprite
+     */
+    public int getGhostIndex() {
+        return palette.getBrickCount() + 2;
+    }
+
+    /**
+     * Returns the left edge of a sprite within the image
+     * @param index the sprite index, from {@link #getIndex(int)} or {@link #getGhostIndex()}
+     * @return the x coordinate in pixels
+     */
+    public double getSourceX(int index) {
+        return index * cellSize;
+    }
+
+    /**
+     * Returns the source rectangle of a sprite, for use as an {@code ImageView} viewport
+     * @param index the sprite index, from {@link #getIndex(int)} or {@link #getGhostIndex()}
+     * @return the sprite's rectangle within the image
+     */
+    public Rectangle2D getViewport(int index) {
+        return viewports[index];
+    }
+
+    /**
+     * Draws a filled cell with rounded corners
+     * @param writer the image writer
+     * @param left the left edge of the sprite
+     * @param color the fill
+     */
+    private void drawBlock(PixelWriter writer, int left, Color color) {
+        double radius = ARC / 2;
+        for (int y = 0; y < cellSize; y++) {
+            for (int x = 0; x < cellSize; x++) {
+                int covered = 0;
+                for (int sy = 0; sy < SUBSAMPLES; sy++) {
+                    for (int sx = 0; sx < SUBSAMPLES; sx++) {
+                        double px = x + (sx + 0.5) / SUBSAMPLES;
+                        double py = y + (sy + 0.5) / SUBSAMPLES;
+                        double dx = Math.max(0, Math.max(radius - px, px - (cellSize - radius)));
+                        double dy = Math.max(0, Math.max(radius - py, py - (cellSize - radius)));
+                        if (dx * dx + dy * dy <= radius * radius) {
+                            covered++;
+                        }
+                    }
+                }
+                write(writer, left + x, y, color, covered);
+            }
+        }
+    }
+
+    /**
+     * Draws the outline of a cell, {@link #GHOST_STROKE} pixels wide along its inner edge
+     * @param writer the image writer
+     * @param left the left edge of the sprite
+     * @param color the outline color
+     */
+    private void drawOutline(PixelWriter writer, int left, Color color) {
+        double inner = cellSize - GHOST_STROKE;
+        for (int y = 0; y < cellSize; y++) {
+            for (int x = 0; x < cellSize; x++) {
+                int covered = 0;
+                for (int sy = 0; sy < SUBSAMPLES; sy++) {
+                    for (int sx = 0; sx < SUBSAMPLES; sx++) {
+                        double px = x + (sx + 0.5) / SUBSAMPLES;
+                        double py = y + (sy + 0.5) / SUBSAMPLES;
+                        if (px < GHOST_STROKE || px > inner || py < GHOST_STROKE || py > inner) {
+                            covered++;
+                        }
+                    }
+                }
+                write(writer, left + x, y, color, covered);
+            }
+        }
+    }
+
+    /**
+     * Writes one pixel with the opacity scaled by its coverage
+     * @param writer the image writer
+     * @param x the x coordinate in the image
+     * @param y the y coordinate in the image
+     * @param color the color
+     * @param covered the number of covered samples
+     */
+    private static void write(PixelWriter writer, int x, int y, Color color, int covered) {
+        if (covered > 0) {
+            double coverage = (double) covered / (SUBSAMPLES * SUBSAMPLES);
+            writer.setColor(x, y, Color.color(color.getRed(), color.getGreen(), color.getBlue(), color.getOpacity() * coverage));
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.comp2042;
+
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+
+/**
+ * Mirrors the statistics of a {@link GameEngine} into JavaFX properties, once per rendered frame
+ * <p>
+ * The engine keeps its score, lines, combo and piece count in plain {@code int} fields and never notifies observers when they
+ * change. The GUI calls {@link #publish(GameEngine)} once per pulse, after all of that pulse's ticks have run, so bound labels
+ * and listeners see at most one change per frame however fast the engine ticks. Properties whose value has not changed are
+ * not touched, and so fire nothing.
+ * <p>
+ * Pieces per second is rounded to hundredths before it is published, so it does not redraw its label on every frame.
+ *
+ */
+public final class StatsPublisher {
+    /** The score */
+    private final IntegerProperty score = new SimpleIntegerProperty();
+    /** The number of lines cleared */
+    private final IntegerProperty lines = new SimpleIntegerProperty();
+    /** The level */
+    private final IntegerProperty level = new SimpleIntegerProperty(1);
+    /** The current combo, {@code 0} when no combo is running */
+    private final IntegerProperty combo = new SimpleIntegerProperty();
+    /** The number of pieces placed */
+    private final IntegerProperty pieces = new SimpleIntegerProperty();
+    /** The pieces placed per second of game time */
+    private final DoubleProperty piecesPerSecond = new SimpleDoubleProperty();
+
+    /**
+     * Copies the engine's statistics into the properties, firing only those that changed
+     * @param engine the engine to read
+     */
+    public void publish(GameEngine engine) {
+        publish(score, engine.getScore());
+        publish(lines, engine.getLinesCleared());
+        publish(level, engine.getLevel());
+        publish(combo, Math.max(0, engine.getCombo()));
+        publish(pieces, engine.getPiecesPlaced());
+        double pps = Math.round(engine.getPiecesPerSecond() * 100) / 100.0;
+        if (piecesPerSecond.get() != pps) {
+            piecesPerSecond.set(pps);
+        }
+    }
+
+    /**
+     * Sets a property if its value differs
+     * @param property the property to update
+     * @param value the new value
+     */
+    private static void publish(IntegerProperty property, int value) {
+        if (property.get() != value) {
+            property.set(value);
+        }
+    }
+
+    /**
+     * Returns the published score
+     * @return a read-only property of the score
+     */
+    public ReadOnlyIntegerProperty scoreProperty() {
+        return score;
+    }
+
+    /**
+     * Returns the published number of lines cleared
+     * @return a read-only property of the line count
+     */
+    public ReadOnlyIntegerProperty linesProperty() {
+        return lines;
+    }
+
+    /**
+     * Returns the published level
+     * @return a read-only property of the level
+     */
+    public ReadOnlyIntegerProperty levelProperty() {
+        return level;
+    }
+
+    /**
+     * Returns the published combo
+     * @return a read-only property of the combo, {@code 0} when no combo is running
+     */
+    public ReadOnlyIntegerProperty comboProperty() {
+        return combo;
+    }
+
+    /**
+     * Returns the published number of pieces placed
+     * @return a read-only property of the piece count
+     */
+    public ReadOnlyIntegerProperty piecesProperty() {
+        return pieces;
+    }
+
+    /**
+     * Returns the published placement rate
+     * @return a read-only property of the pieces per second, rounded to hundredths
+     */
+    public ReadOnlyDoubleProperty piecesPerSecondProperty() {
+        return piecesPerSecond;
+    }
+}
@@ -0,0 +1,114 @@
+package com.comp2042;
+
+/**
+ * Running summary statistics of a series of values
+ * <p>
+ * Tracks the count, minimum, maximum, mean and variance without storing the values. The mean and variance are updated with
+ * Welford's method, and two partial summaries can be merged with {@link #combine(SummaryStatistics)}, so each worker of a
+ * parallel run can keep its own instance and the results are joined at the end.
+ * <p>
+ * Instances are not thread-safe.
+ *
+ */
+public final class SummaryStatistics {
+    /** Number of recorded values */
+    private long count;
+    /** Smallest recorded value */
+    private long min = Long.MAX_VALUE;
+    /** Largest recorded value */
+    private long max = Long.MIN_VALUE;
+    /** Running mean */
+    private double mean;
+    /** Running sum of squared differences from the mean */
+    private double m2;
+
+    /** Creates an empty {@code SummaryStatistics} */
+    public SummaryStatistics() {}
+
+    /**
+     * Records a value
+     * @param value the value to record
+     */
+    public void accept(long value) {
+        count++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+    }
+
+    /**
+     * Merges another summary into this one
+     * @param other the summary to merge; it is not modified
+     */
+    public void combine(SummaryStatistics other) {
+        if (other.count == 0) {
+            return;
+        }
+        if (count == 0) {
+            count = other.count;
+            min = other.min;
+            max = other.max;
+            mean = other.mean;
+            m2 = other.m2;
+            return;
+        }
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / total;
+        m2 += other.m2 + delta * delta * ((double) count * other.count / total);
+        count = total;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Returns the number of recorded values
+     * @return the count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the smallest recorded value
+     * @return the minimum, or {@code 0} if nothing was recorded
+     */
+    public long getMin() {
+        return count == 0 ? 0 : min;
+    }
+
+    /**
+     * Returns the largest recorded value
+     * @return the maximum, or {@code 0} if nothing was recorded
+     */
+    public long getMax() {
+        return count == 0 ? 0 : max;
+    }
+
+    /**
+     * Returns the arithmetic mean of the recorded values
+     * @return the mean, or {@code 0} if nothing was recorded
+     */
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * Returns the sample standard deviation of the recorded values
+     * @return the standard deviation, or {@code 0} if fewer than two values were recorded
+     */
+    public double getStandardDeviation() {
+        return count < 2 ? 0 : Math.sqrt(m2 / (count - 1));
+    }
+
+    /**
+     * Returns a one-line description of the summary
+     * @return the count, mean, standard deviation, minimum and maximum
+     */
+    @Override
+    public String toString() {
+        return String.format("n=%d mean=%.2f sd=%.2f min=%d max=%d", count, getMean(), getStandardDeviation(), getMin(), getMax());
+    }
+}
@@ -0,0 +1,66 @@
+package com.comp2042;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+
+/**
+ * The palette in use by a game view, and the sprite atlases drawn from it
+ * <p>
+ * Every renderer of a view (the board canvas, the next-bricks previews and the hold slot) asks the theme for the atlas at its
+ * own cell size, so each palette is rasterized once per size and shared by all of them. Setting a new palette with
+ * {@link #setPalette(Palette)} notifies the listeners of {@link #paletteProperty()}; the renderers then fetch the new atlas and
+ * repaint, so the look can change while a game is running.
+ *
+ */
+public final class Theme {
+    /** The palette in use */
+    private final ObjectProperty<Palette> palette = new SimpleObjectProperty<>(Palette.CLASSIC);
+    /** Atlases of the current palette, by cell size */
+    private final Map<Integer, SpriteAtlas> atlases = new HashMap<>();
+
+    /**
+     * Creates a theme using {@link Palette#CLASSIC}
+     */
+    public Theme() {}
+
+    /**
+     * Returns the property holding the palette in use
+     * @return the palette property
+     */
+    public ObjectProperty<Palette> paletteProperty() {
+        return palette;
+    }
+
+    /**
+     * Returns the palette in use
+     * @return the palette
+     */
+    public Palette getPalette() {
+        return palette.get();
+    }
+
+    /**
+     * Sets the palette in use
+     * @param palette the new palette
+     */
+    public void setPalette(Palette palette) {
+        this.palette.set(palette);
+    }
+
+    /**
+     * Returns the atlas of the current palette at a cell size, rasterizing it on first use
+     * @param cellSize the width and height of one sprite in pixels
+     * @return the shared atlas
+     */
+    public SpriteAtlas atlas(int cellSize) {
+        SpriteAtlas atlas = atlases.get(cellSize);
+        if (atlas == null || atlas.getPalette() != getPalette()) {
+            atlas = new SpriteAtlas(getPalette(), cellSize);
+            atlases.put(cellSize, atlas);
+        }
+        return atlas;
+    }
+}
@@ -1,5 +1,7 @@
 package com.comp2042;
 
+import com.comp2042.logic.bricks.ShapeTable;
+
 /**
  * Immutable snapshot of the current game view
  * <p>
@@ -8,10 +10,13 @@ package com.comp2042;
  *  <li>The shape matrix of the current brick </li>
  *  <li>The brick's X and Y position on the board</li>
  *  <li>The shape matrix of the next brick (for preview)</li>
+ *  <li>Optionally, the {@link ShapeTable} and rotation index of the current brick, for cell-list based rendering</li>
+ *  <li>Optionally, how far the current brick can drop, for placing the ghost brick</li>
  * </ul>
  * <p>
  * This class is used by the GUI layer to render the current brick and preview the upcoming brick.
- * Shape matrices are defensively copied when accessed to preserve immutability
+ * Shape matrices are defensively copied when accessed through the array getters to preserve immutability;
+ * the render path should use {@link #getBrickView()} and {@link #getNextBrickView()}, which expose the same data without copying
  * 
  */
 public final class ViewData {
@@ -24,6 +29,16 @@ public final class ViewData {
     private final int yPosition;
     /** The 2D matrix representing the next brick's shape (for preview) */
     private final int[][] nextBrickData;
+    /** Precomputed geometry of the current brick, or {@code null} if not supplied */
+    private final ShapeTable shapeTable;
+    /** Rotation index of the current brick within {@link #shapeTable} */
+    private final int rotation;
+    /** Number of rows the current brick can fall before landing, or {@code -1} if unknown */
+    private final int dropDistance;
+    /** Read-only view of {@link #brickData} */
+    private final MatrixView brickView;
+    /** Read-only view of {@link #nextBrickData} */
+    private final MatrixView nextBrickView;
 
     /**
      * Constructs a new {@code ViewData} snapshot
@@ -33,10 +48,29 @@ public final class ViewData {
      * @param nextBrickData the 2D integer array representing the next brick's shape 
      */
     public ViewData(int[][] brickData, int xPosition, int yPosition, int[][] nextBrickData) {
+        this(brickData, xPosition, yPosition, nextBrickData, null, 0, -1);
+    }
+
+    /**
+     * Constructs a new {@code ViewData} snapshot that also carries the current brick's precomputed geometry and drop distance
+     * @param brickData the 2D integer array representing the current brick's shape
+     * @param xPosition the X position (column index) of the current brick
+     * @param yPosition the Y position (row index) of the current brick
+     * @param nextBrickData the 2D integer array representing the next brick's shape 
+     * @param shapeTable the {@link ShapeTable} of the current brick, or {@code null}
+     * @param rotation the rotation index of the current brick
+     * @param dropDistance the number of rows the current brick can fall before landing, or {@code -1} if unknown
+     */
+    public ViewData(int[][] brickData, int xPosition, int yPosition, int[][] nextBrickData, ShapeTable shapeTable, int rotation, int dropDistance) {
         this.brickData = brickData;
         this.xPosition = xPosition;
         this.yPosition = yPosition;
         this.nextBrickData = nextBrickData;
+        this.shapeTable = shapeTable;
+        this.rotation = rotation;
+        this.dropDistance = dropDistance;
+        this.brickView = new MatrixView(brickData);
+        this.nextBrickView = new MatrixView(nextBrickData);
     }
 
     /**
@@ -47,6 +81,14 @@ public final class ViewData {
         return MatrixOperations.copy(brickData);
     }
 
+    /**
+     * Returns a read-only view of the current brick's shape matrix without copying it
+     * @return a {@link MatrixView} of the current brick's shape
+     */
+    public MatrixView getBrickView() {
+        return brickView;
+    }
+
     /**
      * Returns the current brick's X position
      * @return the column index of the brick 
@@ -70,4 +112,36 @@ public final class ViewData {
     public int[][] getNextBrickData() {
         return MatrixOperations.copy(nextBrickData);
     }
+
+    /**
+     * Returns a read-only view of the next brick's shape matrix without copying it
+     * @return a {@link MatrixView} of the next brick's shape
+     */
+    public MatrixView getNextBrickView() {
+        return nextBrickView;
+    }
+
+    /**
+     * Returns the precomputed shape table of the current brick
+     * @return the {@link ShapeTable}, or {@code null} if this snapshot was built without one
+     */
+    public ShapeTable getShapeTable() {
+        return shapeTable;
+    }
+
+    /**
+     * Returns the rotation index of the current brick
+     * @return the rotation index within {@link #getShapeTable()}
+     */
+    public int getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Returns how far the current brick can fall before landing
+     * @return the number of rows, or {@code -1} if this snapshot was built without it
+     */
+    public int getDropDistance() {
+        return dropDistance;
+    }
 }
@@ -31,4 +31,17 @@ public interface BrickGenerator {
      * @return a list of {@link Brick} objects representing the upcoming sequence
      */
     List<Brick> getNextBricksQueue();
+
+    /**
+     * Returns the seed the current brick sequence was started from
+     * @return the seed
+     */
+    long getSeed();
+
+    /**
+     * Restarts the brick sequence from the given seed
+     * <p> The queue of upcoming bricks is discarded and refilled, so two generators reset with the same seed produce the same bricks.
+     * @param seed the seed of the new sequence
+     */
+    void reset(long seed);
 }
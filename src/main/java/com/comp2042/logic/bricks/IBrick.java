@@ -8,11 +8,16 @@ import java.util.List;
  * <p>
  * The {@code IBrick} is a concrete subclass of {@link Brick} that defines the shape and rotations of the I-shaped tetromino: 
  * <ul>
- *  <li>Horizontal line of 4 blocks</li>
- *  <li>Vertical line of 4 blocks</li>
+ *  <li>Horizontal line of 4 blocks in the second row</li>
+ *  <li>Vertical line of 4 blocks in the third column</li>
+ *  <li>Horizontal line of 4 blocks in the third row</li>
+ *  <li>Vertical line of 4 blocks in the second column</li>
  * </ul>
  * <p>
  * The shape is stored as a list of 2D integer matrices, each representing one rotation state
+ * <p>
+ * The states are listed in Super Rotation System order (spawn, clockwise, 180, counter-clockwise), so that rotation index {@code r}
+ * is SRS state {@code r} and the {@link WallKickTable} applies directly.
  * 
  */
 public final class IBrick extends Brick {
@@ -26,24 +31,35 @@ public final class IBrick extends Brick {
 
     /**
      * Creates the shape matrices for the I-shaped brick
-     * <p> The list contains 2 rotation states: 
-     * <ul>
-     *  <li>Horizontal line (1x4)</li>
-     *  <li>Vertical line (4x1)</li>
-     * </ul>
+     * <p> The list contains 4 rotation states, alternating between a horizontal line (1x4) and a vertical line (4x1)
+     * that turn around the center of the 4x4 matrix
      * @return a list of 2D integer arrays representing the IBrick's rotations
      */
     private static List <int[][]> createShape() {
     List<int[][]> brickMatrix = new ArrayList<>();
 
-        // Horizontal line
+        // Horizontal line in the second row (spawn state)
         brickMatrix.add(new int[][]{
                 {0, 0, 0, 0},
                 {1, 1, 1, 1},
                 {0, 0, 0, 0},
                 {0, 0, 0, 0}
         });
-        // Vertical line
+        // Vertical line in the third column
+        brickMatrix.add(new int[][]{
+                {0, 0, 1, 0},
+                {0, 0, 1, 0},
+                {0, 0, 1, 0},
+                {0, 0, 1, 0}
+        });
+        // Horizontal line in the third row
+        brickMatrix.add(new int[][]{
+                {0, 0, 0, 0},
+                {0, 0, 0, 0},
+                {1, 1, 1, 1},
+                {0, 0, 0, 0}
+        });
+        // Vertical line in the second column
         brickMatrix.add(new int[][]{
                 {0, 1, 0, 0},
                 {0, 1, 0, 0},
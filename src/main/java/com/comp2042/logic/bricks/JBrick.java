@@ -8,13 +8,16 @@ import java.util.List;
  * <p> 
  * The {@code JBrick} is a concrete subclass of {@link Brick} that defines the shape and rotations of the J-shaped tetromino: 
  * <ul>
- *      <li>Horizontal line of 3 blocks with 1 block attached below on the right</li>
- *      <li>Vertical line of 3 blocks with 1 block attached to the left at the bottom</li>
  *      <li>Horizontal line of 3 blocks with 1 block attached above on the left</li>
  *      <li>Vertical line of 3 blocks with 1 block attached to the right at the top</li>
+ *      <li>Horizontal line of 3 blocks with 1 block attached below on the right</li>
+ *      <li>Vertical line of 3 blocks with 1 block attached to the left at the bottom</li>
  * </ul>
  * <p>
- * The shape is stored as a list of 2D integer matrices, each representing one of the 4 rotation states 
+ * The shape is stored as a list of 2D integer matrices, each representing one of the 4 rotation states
+ * <p>
+ * The states are listed in Super Rotation System order (spawn, clockwise, 180, counter-clockwise), so that rotation index {@code r}
+ * is SRS state {@code r} and the {@link WallKickTable} applies directly.
  * 
  */
 public final class JBrick extends Brick {
@@ -36,32 +39,32 @@ public final class JBrick extends Brick {
         private static List <int[][]> createShape() { 
         List<int[][]> brickMatrix = new ArrayList<>();
 
-        // Horizontal line with block on the right 
+        // Horizontal line with block above the left end (spawn state)
         brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
+                {2, 0, 0, 0},
                 {2, 2, 2, 0},
-                {0, 0, 2, 0},
+                {0, 0, 0, 0},
                 {0, 0, 0, 0}
         });
-        // Vertical line with block at the bottom left
+        // Vertical line with block at the top right
         brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
                 {0, 2, 2, 0},
                 {0, 2, 0, 0},
-                {0, 2, 0, 0}
+                {0, 2, 0, 0},
+                {0, 0, 0, 0}
         });
-        // Horizontal line with block on the left
+        // Horizontal line with block below the right end
         brickMatrix.add(new int[][]{
                 {0, 0, 0, 0},
-                {0, 2, 0, 0},
-                {0, 2, 2, 2},
+                {2, 2, 2, 0},
+                {0, 0, 2, 0},
                 {0, 0, 0, 0}
         });
-        // Vertical line with block at the top right
+        // Vertical line with block at the bottom left
         brickMatrix.add(new int[][]{
-                {0, 0, 2, 0},
-                {0, 0, 2, 0},
-                {0, 2, 2, 0},
+                {0, 2, 0, 0},
+                {0, 2, 0, 0},
+                {2, 2, 0, 0},
                 {0, 0, 0, 0}
         });
 
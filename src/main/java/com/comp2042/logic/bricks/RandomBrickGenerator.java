@@ -1,7 +1,6 @@
 package com.comp2042.logic.bricks;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.AbstractList;
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -11,77 +10,259 @@ import java.util.concurrent.ThreadLocalRandom;
  * The {@code RandomBrickGenerator} is a concrete implementation of {@link BrickGenerator} that supplies random tetromino bricks to the board
  * It maintains a queue of upcoming bricks to support both the current brick and preview functionality.
  * 
- * <p> The generator initializes with a queue of 5 bricks:
- * <ul>
- *  <li>1 current brick</li>
- *  <li>4 preview brick</li>
- * </ul>
- * <p> Each time a brick is consumed, a new random brick is appended to the queue.
+ * <p> Bricks are chosen by a {@link Randomizer}: the 7-bag by default, or independent uniform draws.
+ * Upcoming bricks are kept as brick ids in a fixed-size ring buffer whose length is the preview depth (4 by default).
+ * Each time a brick is consumed, the head of the ring is returned and a newly drawn brick takes its slot, so spawning shifts no
+ * array and allocates nothing. {@link #getNextBricksQueue()} returns a live, read-only view of the ring that is created once.
+ * 
+ * <p> Bricks are drawn from a seeded {@link SplitMix64}, in sequence order. The same seed and randomizer therefore always
+ * produce the same bricks, regardless of the preview depth.
  */
 public class RandomBrickGenerator implements BrickGenerator {
 
-    /** List of all possible types (I, J, L, O, S, T, Z) */
-    private final List<Brick> brickList;
-    /** Queue of upcoming bricks, including the current and preview bricks */
-    private final List<Brick> nextBricks = new ArrayList<>();
+    /** Number of upcoming bricks shown by default */
+    public static final int DEFAULT_PREVIEW_DEPTH = 4;
+
+    /** One shared instance of each brick type, indexed by brick id (index 0 is unused) */
+    private static final Brick[] BRICKS = {
+        null, new IBrick(), new JBrick(), new LBrick(), new OBrick(), new SBrick(), new TBrick(), new ZBrick()
+    };
+    /** Number of brick types */
+    private static final int BRICK_TYPES = BRICKS.length - 1;
+
+    /** How the next brick is chosen */
+    private final Randomizer randomizer;
+    /** Ring buffer of upcoming brick ids; its length is the preview depth */
+    private final int[] upcoming;
+    /** Index of the next brick in {@link #upcoming} */
+    private int head;
+    /** The current bag of brick ids, dealt from {@link #bagIndex} onwards */
+    private final int[] bag = new int[BRICK_TYPES];
+    /** Number of bricks already dealt from the current bag */
+    private int bagIndex;
+    /** Source of the brick sequence */
+    private final SplitMix64 random = new SplitMix64(0);
+    /** Seed the current sequence was started from */
+    private long seed;
+    /** Live read-only view of the upcoming bricks */
+    private final List<Brick> preview = new PreviewList();
 
     /**
-     * Constructs a new {@code RandomBrickGenerator} and initializes the queue with a current brick and 4 preview bricks
+     * Constructs a new 7-bag {@code RandomBrickGenerator} with an arbitrary seed
      */
     public RandomBrickGenerator() {
-        brickList = new ArrayList<>();
-        brickList.add(new IBrick());
-        brickList.add(new JBrick());
-        brickList.add(new LBrick());
-        brickList.add(new OBrick());
-        brickList.add(new SBrick());
-        brickList.add(new TBrick());
-        brickList.add(new ZBrick());
-
-        // Initialize queue with 5 bricks (1 current + 4 preview) 
-        for (int i = 0; i < 5; i++) {
-            nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
+        this(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Constructs a new 7-bag {@code RandomBrickGenerator} with the default preview depth
+     * @param seed the seed of the brick sequence
+     */
+    public RandomBrickGenerator(long seed) {
+        this(Randomizer.SEVEN_BAG, seed, DEFAULT_PREVIEW_DEPTH);
+    }
+
+    /**
+     * Constructs a new {@code RandomBrickGenerator} and fills the preview queue
+     * @param randomizer how the next brick is chosen
+     * @param seed the seed of the brick sequence
+     * @param previewDepth the number of upcoming bricks kept in the queue
+     * @throws IllegalArgumentException if the preview depth is less than one
+     */
+    public RandomBrickGenerator(Randomizer randomizer, long seed, int previewDepth) {
+        if (previewDepth < 1) {
+            throw new IllegalArgumentException("Preview depth must be at least 1, got " + previewDepth);
+        }
+        this.randomizer = randomizer;
+        this.upcoming = new int[previewDepth];
+        reset(seed);
+    }
+
+    /**
+     * Restarts the sequence from the given seed and refills the queue
+     * @param seed the seed of the new sequence
+     */
+    @Override
+    public void reset(long seed) {
+        this.seed = seed;
+        random.setState(seed);
+        bagIndex = BRICK_TYPES;     // Force a fresh bag on the first draw
+        head = 0;
+        for (int i = 0; i < upcoming.length; i++) {
+            upcoming[i] = drawId();
+        }
+    }
+
+    /**
+     * Returns the seed the current sequence was started from
+     * @return the seed
+     */
+    @Override
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the randomizer used to choose bricks
+     * @return the {@link Randomizer}
+     */
+    public Randomizer getRandomizer() {
+        return randomizer;
+    }
+
+    /**
+     * Returns the number of upcoming bricks kept in the queue
+     * @return the preview depth
+     */
+    public int getPreviewDepth() {
+        return upcoming.length;
+    }
+
+    /**
+     * Captures the complete generator state
+     * @return a {@link State} that reproduces every following brick when passed to {@link #restoreState(State)}
+     */
+    public State saveState() {
+        int[] queue = new int[upcoming.length];
+        for (int i = 0; i < queue.length; i++) {
+            int slot = head + i;
+            queue[i] = upcoming[slot < upcoming.length ? slot : slot - upcoming.length];
         }
+        return new State(seed, random.getState(), queue, bag.clone(), bagIndex);
     }
 
     /**
-     * Retrieves and removes the current brick from the queue
+     * Restores a state captured by {@link #saveState()}
+     * @param state the state to restore
+     * @throws IllegalArgumentException if the state was captured with a different preview depth
+     */
+    public void restoreState(State state) {
+        if (state.queue.length != upcoming.length) {
+            throw new IllegalArgumentException("State has preview depth " + state.queue.length + ", generator has " + upcoming.length);
+        }
+        seed = state.seed;
+        random.setState(state.randomState);
+        System.arraycopy(state.queue, 0, upcoming, 0, upcoming.length);
+        head = 0;
+        System.arraycopy(state.bag, 0, bag, 0, bag.length);
+        bagIndex = state.bagIndex;
+    }
+
+    /**
+     * Retrieves and removes the next brick from the queue
      * <p>
-     * After removal, a new random brick is appended to the end of the queue to maintain preview list.
+     * A newly drawn brick takes the freed slot at the tail of the ring, so the preview always holds the same number of bricks.
      * 
-     * @return the current {@link Brick} to be places on the board
+     * @return the {@link Brick} to be placed on the board
      */
     @Override
     public Brick getBrick() {
-        // Get the head of the queue (current brick) and remove it 
-        Brick currentBrick = nextBricks.remove(0);
-
-        // Add new random brick to end of queue
-        nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
+        int id = upcoming[head];
+        upcoming[head] = drawId();
+        head = head + 1 == upcoming.length ? 0 : head + 1;
+        return BRICKS[id];
+    }
 
-        return currentBrick;
+    /**
+     * Draws the id of the next brick of the sequence
+     * @return a brick id from 1 to 7
+     */
+    private int drawId() {
+        if (randomizer == Randomizer.UNIFORM) {
+            return 1 + random.nextInt(BRICK_TYPES);
+        }
+        if (bagIndex == BRICK_TYPES) {
+            // Fisher-Yates shuffle of a fresh bag
+            for (int i = 0; i < BRICK_TYPES; i++) {
+                int j = random.nextInt(i + 1);
+                bag[i] = bag[j];
+                bag[j] = i + 1;
+            }
+            bagIndex = 0;
+        }
+        return bag[bagIndex++];
     }
 
     /**
      * Returns the next immediate brick in the queue without removing it
-     * @return the upcoming {@link Brick} after the current one
+     * @return the upcoming {@link Brick} that the next call to {@link #getBrick()} will return
      */
     @Override
     public Brick getNextBrick() {
-        // Peek at the next immediate brick (index 0 after the current brick is returned)
-        return nextBricks.get(0);
+        return BRICKS[upcoming[head]];
     }
 
     /**
-     * Returns an unmodifiable view of the next 4 bricks in the queue
+     * Returns a live, unmodifiable view of the upcoming bricks
      * <p>
-     * This list of typically used for previewing upcoming bricks in the game UI.
+     * The same list instance is returned on every call and reads go straight to the ring buffer, so previewing allocates nothing.
+     * The view reflects later spawns; callers that need a stable snapshot should copy it.
      * 
-     * @return a list of up to 4 {@link Brick} objects representing the preview queue
+     * @return a list of {@link #getPreviewDepth()} {@link Brick} objects, next brick first
      */
     @Override
     public List<Brick> getNextBricksQueue() {
-        // Returns a safe, unmodifiable list of the next 4 bricks in the queue 
-        return Collections.unmodifiableList(nextBricks.subList(0, Math.min(nextBricks.size(), 4)));
+        return preview;
+    }
+
+    /**
+     * Read-only list view over the ring buffer, starting at the current head
+     */
+    private final class PreviewList extends AbstractList<Brick> {
+
+        /**
+         * Returns an upcoming brick
+         * @param index the position in the queue, 0 being the next brick
+         * @return the {@link Brick} at that position
+         */
+        @Override
+        public Brick get(int index) {
+            if (index < 0 || index >= upcoming.length) {
+                throw new IndexOutOfBoundsException("Preview index " + index + " out of range for depth " + upcoming.length);
+            }
+            int slot = head + index;
+            return BRICKS[upcoming[slot < upcoming.length ? slot : slot - upcoming.length]];
+        }
+
+        /**
+         * Returns the preview depth
+         * @return the number of upcoming bricks
+         */
+        @Override
+        public int size() {
+            return upcoming.length;
+        }
+    }
+
+    /**
+     * Immutable snapshot of a generator's state
+     */
+    public static final class State {
+        /** Seed of the sequence */
+        private final long seed;
+        /** State of the random generator */
+        private final long randomState;
+        /** Upcoming brick ids, next brick first */
+        private final int[] queue;
+        /** The current bag */
+        private final int[] bag;
+        /** Number of bricks dealt from the current bag */
+        private final int bagIndex;
+
+        /**
+         * Creates a snapshot; the arrays are owned by the snapshot
+         * @param seed the seed of the sequence
+         * @param randomState the state of the random generator
+         * @param queue the upcoming brick ids, next brick first
+         * @param bag the current bag
+         * @param bagIndex the number of bricks dealt from the bag
+         */
+        private State(long seed, long randomState, int[] queue, int[] bag, int bagIndex) {
+            this.seed = seed;
+            this.randomState = randomState;
+            this.queue = queue;
+            this.bag = bag;
+            this.bagIndex = bagIndex;
+        }
     }
 }
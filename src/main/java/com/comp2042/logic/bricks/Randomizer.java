@@ -0,0 +1,15 @@
+package com.comp2042.logic.bricks;
+
+/**
+ * Defines how {@link RandomBrickGenerator} chooses the next brick
+ * <ul>
+ *  <li>{@link #SEVEN_BAG} - Deals each of the seven bricks once, in shuffled order, before starting a new bag</li>
+ *  <li>{@link #UNIFORM} - Draws every brick independently with equal probability</li>
+ * </ul>
+ */
+public enum Randomizer {
+    /** Shuffled bags of all seven bricks; never more than 12 bricks between two of the same kind */
+    SEVEN_BAG,
+    /** Independent uniform draws; long droughts and repeats are possible */
+    UNIFORM
+}
@@ -0,0 +1,257 @@
+package com.comp2042.logic.bricks;
+
+import java.util.List;
+
+/**
+ * Precomputed geometry for every rotation of a brick type
+ * <p>
+ * {@link Brick#getShapeMatrix()} stores each rotation as a padded 4x4 matrix, so any loop over it visits 16 cells to find 4.
+ * A {@code ShapeTable} converts those matrices once into compact forms that are proportional to the occupied cells:
+ * <ul>
+ *  <li>A cell-offset list ({@link #cellX(int, int)}, {@link #cellY(int, int)}) of the occupied cells</li>
+ *  <li>One bit mask per shape row ({@link #rowMask(int, int)}), with shape column {@code j} stored at bit {@code j}</li>
+ *  <li>A bounding box of the occupied cells ({@link #minX(int)}, {@link #maxX(int)}, {@link #minY(int)}, {@link #maxY(int)})</li>
+ *  <li>Per-column bottom and top profiles ({@link #bottom(int, int)}, {@link #top(int, int)})</li>
+ * </ul>
+ * <p>
+ * Tables for the standard bricks are built once when the class is loaded and shared by every board, so lookups never allocate.
+ * All coordinates are relative to the top-left corner of the brick's shape matrix.
+ *
+ */
+public final class ShapeTable {
+    /** Profile value used for shape columns that contain no cells */
+    public static final int EMPTY_COLUMN = -1;
+
+    /** Shared tables for the standard bricks, indexed by brick id */
+    private static final ShapeTable[] STANDARD = buildStandardTables();
+
+    /** The brick id these tables describe */
+    private final int id;
+    /** Side length of the (square) shape matrices */
+    private final int size;
+    /** X offsets of the occupied cells, per rotation */
+    private final int[][] cellX;
+    /** Y offsets of the occupied cells, per rotation */
+    private final int[][] cellY;
+    /** Row masks, per rotation */
+    private final int[][] rowMasks;
+    /** Bounding boxes, per rotation */
+    private final int[] minX, maxX, minY, maxY;
+    /** Lowest occupied row of each shape column, per rotation */
+    private final int[][] bottom;
+    /** Highest occupied row of each shape column, per rotation */
+    private final int[][] top;
+
+    /**
+     * Builds the tables for the given brick
+     * @param brick the brick whose rotations should be precomputed
+     */
+    private ShapeTable(Brick brick) {
+        List<int[][]> shapes = brick.getShapeMatrix();
+        int rotations = shapes.size();
+        this.id = brick.getId();
+        this.size = shapes.get(0).length;
+        this.cellX = new int[rotations][];
+        this.cellY = new int[rotations][];
+        this.rowMasks = new int[rotations][size];
+        this.minX = new int[rotations];
+        this.maxX = new int[rotations];
+        this.minY = new int[rotations];
+        this.maxY = new int[rotations];
+        this.bottom = new int[rotations][size];
+        this.top = new int[rotations][size];
+
+        for (int r = 0; r < rotations; r++) {
+            int[][] shape = shapes.get(r);
+            int count = 0;
+            for (int[] row : shape) {
+                for (int cell : row) {
+                    if (cell != 0) {
+                        count++;
+                    }
+                }
+            }
+            cellX[r] = new int[count];
+            cellY[r] = new int[count];
+            minX[r] = size;
+            minY[r] = size;
+            maxX[r] = -1;
+            maxY[r] = -1;
+            for (int j = 0; j < size; j++) {
+                bottom[r][j] = EMPTY_COLUMN;
+                top[r][j] = EMPTY_COLUMN;
+            }
+
+            int k = 0;
+            for (int i = 0; i < shape.length; i++) {
+                for (int j = 0; j < shape[i].length; j++) {
+                    if (shape[i][j] == 0) {
+                        continue;
+                    }
+                    cellX[r][k] = j;
+                    cellY[r][k] = i;
+                    k++;
+                    rowMasks[r][i] |= 1 << j;
+                    minX[r] = Math.min(minX[r], j);
+                    maxX[r] = Math.max(maxX[r], j);
+                    minY[r] = Math.min(minY[r], i);
+                    maxY[r] = Math.max(maxY[r], i);
+                    if (top[r][j] == EMPTY_COLUMN) {
+                        top[r][j] = i;
+                    }
+                    bottom[r][j] = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the shape table for a brick
+     * <p>
+     * Standard bricks (ids 1 to 7) share a table built at class-load time; any other brick gets a freshly built table.
+     *
+     * @param brick the brick
+     * @return the {@code ShapeTable} describing every rotation of the brick
+     */
+    public static ShapeTable of(Brick brick) {
+        int id = brick.getId();
+        if (id > 0 && id < STANDARD.length && STANDARD[id].rotationCount() == brick.getShapeMatrix().size()) {
+            return STANDARD[id];
+        }
+        return new ShapeTable(brick);
+    }
+
+    /**
+     * Builds the shared tables for the seven standard bricks
+     * @return an array of tables indexed by brick id (index 0 is unused)
+     */
+    private static ShapeTable[] buildStandardTables() {
+        Brick[] bricks = {
+            new IBrick(), new JBrick(), new LBrick(), new OBrick(), new SBrick(), new TBrick(), new ZBrick()
+        };
+        ShapeTable[] tables = new ShapeTable[bricks.length + 1];
+        for (Brick brick : bricks) {
+            tables[brick.getId()] = new ShapeTable(brick);
+        }
+        return tables;
+    }
+
+    /**
+     * Returns the brick id described by this table
+     * @return the brick id
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Returns the side length of the shape matrices
+     * @return the shape matrix size (4 for the standard bricks)
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of rotation states
+     * @return the rotation count
+     */
+    public int rotationCount() {
+        return cellX.length;
+    }
+
+    /**
+     * Returns the number of occupied cells in a rotation
+     * @param rotation the rotation index
+     * @return the cell count (4 for tetrominoes)
+     */
+    public int cellCount(int rotation) {
+        return cellX[rotation].length;
+    }
+
+    /**
+     * Returns the X offset of an occupied cell
+     * @param rotation the rotation index
+     * @param cell the cell index, from 0 to {@link #cellCount(int)} - 1
+     * @return the column of the cell within the shape matrix
+     */
+    public int cellX(int rotation, int cell) {
+        return cellX[rotation][cell];
+    }
+
+    /**
+     * Returns the Y offset of an occupied cell
+     * @param rotation the rotation index
+     * @param cell the cell index, from 0 to {@link #cellCount(int)} - 1
+     * @return the row of the cell within the shape matrix
+     */
+    public int cellY(int rotation, int cell) {
+        return cellY[rotation][cell];
+    }
+
+    /**
+     * Returns the bit mask of one shape row
+     * @param rotation the rotation index
+     * @param row the shape row
+     * @return the row mask, with shape column {@code j} stored at bit {@code j}
+     */
+    public int rowMask(int rotation, int row) {
+        return rowMasks[rotation][row];
+    }
+
+    /**
+     * Returns the leftmost occupied column
+     * @param rotation the rotation index
+     * @return the minimum X offset of the bounding box
+     */
+    public int minX(int rotation) {
+        return minX[rotation];
+    }
+
+    /**
+     * Returns the rightmost occupied column
+     * @param rotation the rotation index
+     * @return the maximum X offset of the bounding box
+     */
+    public int maxX(int rotation) {
+        return maxX[rotation];
+    }
+
+    /**
+     * Returns the topmost occupied row
+     * @param rotation the rotation index
+     * @return the minimum Y offset of the bounding box
+     */
+    public int minY(int rotation) {
+        return minY[rotation];
+    }
+
+    /**
+     * Returns the lowest occupied row
+     * @param rotation the rotation index
+     * @return the maximum Y offset of the bounding box
+     */
+    public int maxY(int rotation) {
+        return maxY[rotation];
+    }
+
+    /**
+     * Returns the lowest occupied row of a shape column
+     * @param rotation the rotation index
+     * @param column the shape column
+     * @return the row offset, or {@link #EMPTY_COLUMN} if the column has no cells
+     */
+    public int bottom(int rotation, int column) {
+        return bottom[rotation][column];
+    }
+
+    /**
+     * Returns the highest occupied row of a shape column
+     * @param rotation the rotation index
+     * @param column the shape column
+     * @return the row offset, or {@link #EMPTY_COLUMN} if the column has no cells
+     */
+    public int top(int rotation, int column) {
+        return top[rotation][column];
+    }
+}
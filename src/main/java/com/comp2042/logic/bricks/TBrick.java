@@ -8,12 +8,15 @@ import java.util.List;
  * <p>
  * The {@code TBrick} is a concrete subclass of {@link Brick} that defines the shape and rotations of the T-shaped tetromino: 
  * <ul>
- *      <li>Horizontal line of 3 blocks with 1 block centered below</li>
- *      <li>Vertical line of 3 blocks with 1 block centered to the right</li>
  *      <li>Horizontal line of 3 blocks with 1 block centered above</li>
+ *      <li>Vertical line of 3 blocks with 1 block centered to the right</li>
+ *      <li>Horizontal line of 3 blocks with 1 block centered below</li>
  *      <li>Vertical line of 3 blocks with 1 block centered on the left</li>
  * </ul>
  * <p>The shape is stored as a list of 2D integer matrices, each representing one of the 4 rotation states
+ * <p>
+ * The states are listed in Super Rotation System order (spawn, clockwise, 180, counter-clockwise), so that rotation index {@code r}
+ * is SRS state {@code r} and the {@link WallKickTable} applies directly.
  */
 public final class TBrick extends Brick {
         /**
@@ -33,11 +36,11 @@ public final class TBrick extends Brick {
         private static List <int[][]> createShape() {
         final List<int[][]> brickMatrix = new ArrayList<>();
 
-                // Horizontal line with block below center
+                // Horizontal line with block above center (spawn state)
                 brickMatrix.add(new int[][]{
-                        {0, 0, 0, 0},
-                        {6, 6, 6, 0},
                         {0, 6, 0, 0},
+                        {6, 6, 6, 0},
+                        {0, 0, 0, 0},
                         {0, 0, 0, 0}
                 });
                 // Vertical line with block to the right
@@ -47,11 +50,11 @@ public final class TBrick extends Brick {
                         {0, 6, 0, 0},
                         {0, 0, 0, 0}
                 });
-                // Horizontal line with block above center
+                // Horizontal line with block below center
                 brickMatrix.add(new int[][]{
-                        {0, 6, 0, 0},
-                        {6, 6, 6, 0},
                         {0, 0, 0, 0},
+                        {6, 6, 6, 0},
+                        {0, 6, 0, 0},
                         {0, 0, 0, 0}
                 });
                 // Vertical line with block to the left
@@ -61,6 +64,7 @@ public final class TBrick extends Brick {
                         {0, 6, 0, 0},
                         {0, 0, 0, 0}
                 });
+
                 
                 return brickMatrix;
         }
@@ -0,0 +1,162 @@
+package com.comp2042.logic.bricks;
+
+/**
+ * Precomputed Super Rotation System (SRS) wall kicks for every rotation transition of a brick type
+ * <p>
+ * When a rotated brick collides, SRS tries a short, fixed list of offsets ("kicks") and keeps the first one that fits.
+ * The lists depend only on the brick family (the I brick has its own table; J, L, S, T and Z share one), the state the brick
+ * rotates from, and the direction of the turn. This class stores them as flat arrays indexed by {@code from * 4 + quarterTurns},
+ * so finding the kicks for a rotation is one multiply-add and a table lookup, and every kick test is a single collision check.
+ * <p>
+ * Quarter and half turns use the standard SRS tables. SRS defines no half-turn kicks, so half turns use the table common to
+ * SRS extensions, for every brick. Offsets are stored in board coordinates (Y grows downwards); the literals below are
+ * written in the usual SRS notation, with Y growing upwards, and flipped when the class is loaded.
+ * <p>
+ * Tables assume the rotation index of a brick is its SRS state (0 = spawn, 1 = clockwise, 2 = half turn, 3 = counter-clockwise).
+ * Bricks without four states (such as the O brick) only test the unkicked position.
+ *
+ */
+public final class WallKickTable {
+    /** Quarter turns of a clockwise rotation */
+    public static final int CLOCKWISE = 1;
+    /** Quarter turns of a half-turn rotation */
+    public static final int HALF_TURN = 2;
+    /** Quarter turns of a counter-clockwise rotation */
+    public static final int COUNTER_CLOCKWISE = 3;
+
+    /** SRS kicks of the J, L, S, T and Z bricks, indexed by state, in SRS notation */
+    private static final int[][][] JLSTZ_CLOCKWISE = {
+        {{0, 0}, {-1, 0}, {-1, 1}, {0, -2}, {-1, -2}},     // 0 -> R
+        {{0, 0}, {1, 0}, {1, -1}, {0, 2}, {1, 2}},         // R -> 2
+        {{0, 0}, {1, 0}, {1, 1}, {0, -2}, {1, -2}},        // 2 -> L
+        {{0, 0}, {-1, 0}, {-1, -1}, {0, 2}, {-1, 2}}       // L -> 0
+    };
+    /** SRS kicks of the J, L, S, T and Z bricks, indexed by state, in SRS notation */
+    private static final int[][][] JLSTZ_COUNTER_CLOCKWISE = {
+        {{0, 0}, {1, 0}, {1, 1}, {0, -2}, {1, -2}},        // 0 -> L
+        {{0, 0}, {1, 0}, {1, -1}, {0, 2}, {1, 2}},         // R -> 0
+        {{0, 0}, {-1, 0}, {-1, 1}, {0, -2}, {-1, -2}},     // 2 -> R
+        {{0, 0}, {-1, 0}, {-1, -1}, {0, 2}, {-1, 2}}       // L -> 2
+    };
+    /** SRS kicks of the I brick, indexed by state, in SRS notation */
+    private static final int[][][] I_CLOCKWISE = {
+        {{0, 0}, {-2, 0}, {1, 0}, {-2, -1}, {1, 2}},       // 0 -> R
+        {{0, 0}, {-1, 0}, {2, 0}, {-1, 2}, {2, -1}},       // R -> 2
+        {{0, 0}, {2, 0}, {-1, 0}, {2, 1}, {-1, -2}},       // 2 -> L
+        {{0, 0}, {1, 0}, {-2, 0}, {1, -2}, {-2, 1}}        // L -> 0
+    };
+    /** SRS kicks of the I brick, indexed by state, in SRS notation */
+    private static final int[][][] I_COUNTER_CLOCKWISE = {
+        {{0, 0}, {-1, 0}, {2, 0}, {-1, 2}, {2, -1}},       // 0 -> L
+        {{0, 0}, {2, 0}, {-1, 0}, {2, 1}, {-1, -2}},       // R -> 0
+        {{0, 0}, {1, 0}, {-2, 0}, {1, -2}, {-2, 1}},       // 2 -> R
+        {{0, 0}, {-2, 0}, {1, 0}, {-2, -1}, {1, 2}}        // L -> 2
+    };
+    /** Half-turn kicks shared by every brick, indexed by state, in SRS notation */
+    private static final int[][][] HALF_TURN_KICKS = {
+        {{0, 0}, {0, 1}, {1, 1}, {-1, 1}, {1, 0}, {-1, 0}},        // 0 -> 2
+        {{0, 0}, {1, 0}, {1, 2}, {1, 1}, {0, 2}, {0, 1}},          // R -> L
+        {{0, 0}, {0, -1}, {-1, -1}, {1, -1}, {-1, 0}, {1, 0}},     // 2 -> 0
+        {{0, 0}, {-1, 0}, {-1, 2}, {-1, 1}, {0, 2}, {0, 1}}        // L -> R
+    };
+    /** Id of the I brick */
+    private static final int I_BRICK_ID = 1;
+
+    /** Table of the I brick */
+    private static final WallKickTable I = new WallKickTable(I_CLOCKWISE, I_COUNTER_CLOCKWISE);
+    /** Table of the J, L, S, T and Z bricks */
+    private static final WallKickTable JLSTZ = new WallKickTable(JLSTZ_CLOCKWISE, JLSTZ_COUNTER_CLOCKWISE);
+    /** Table of bricks that do not have four rotation states: only the unkicked position is tested */
+    private static final WallKickTable NONE = new WallKickTable();
+
+    /** X offsets of the kicks, indexed by {@code from * 4 + quarterTurns} */
+    private final int[][] offsetX = new int[16][];
+    /** Y offsets of the kicks in board coordinates, indexed by {@code from * 4 + quarterTurns} */
+    private final int[][] offsetY = new int[16][];
+
+    /**
+     * Builds a table from kick lists in SRS notation
+     * @param clockwise the clockwise kicks per state
+     * @param counterClockwise the counter-clockwise kicks per state
+     */
+    private WallKickTable(int[][][] clockwise, int[][][] counterClockwise) {
+        for (int from = 0; from < 4; from++) {
+            store(from, CLOCKWISE, clockwise[from]);
+            store(from, HALF_TURN, HALF_TURN_KICKS[from]);
+            store(from, COUNTER_CLOCKWISE, counterClockwise[from]);
+            store(from, 0, new int[][] {{0, 0}});
+        }
+    }
+
+    /**
+     * Builds a table that only tests the unkicked position
+     */
+    private WallKickTable() {
+        int[][] none = {{0, 0}};
+        for (int from = 0; from < 4; from++) {
+            for (int turns = 0; turns < 4; turns++) {
+                store(from, turns, none);
+            }
+        }
+    }
+
+    /**
+     * Stores one kick list, flipping Y from SRS notation to board coordinates
+     * @param from the state rotated from
+     * @param quarterTurns the clockwise quarter turns of the rotation
+     * @param kicks the kicks in SRS notation
+     */
+    private void store(int from, int quarterTurns, int[][] kicks) {
+        int index = from * 4 + quarterTurns;
+        offsetX[index] = new int[kicks.length];
+        offsetY[index] = new int[kicks.length];
+        for (int k = 0; k < kicks.length; k++) {
+            offsetX[index][k] = kicks[k][0];
+            offsetY[index][k] = -kicks[k][1];
+        }
+    }
+
+    /**
+     * Returns the kick table for a brick
+     * @param shape the {@link ShapeTable} of the brick
+     * @return the shared table of the brick's family, or a table without kicks if the brick does not have four states
+     */
+    public static WallKickTable of(ShapeTable shape) {
+        if (shape.rotationCount() != 4) {
+            return NONE;
+        }
+        return shape.getId() == I_BRICK_ID ? I : JLSTZ;
+    }
+
+    /**
+     * Returns the number of positions tested by a rotation
+     * @param from the rotation index rotated from, between 0 and 3
+     * @param quarterTurns the clockwise quarter turns of the rotation, between 0 and 3
+     * @return the kick count, including the unkicked position
+     */
+    public int kickCount(int from, int quarterTurns) {
+        return offsetX[from * 4 + quarterTurns].length;
+    }
+
+    /**
+     * Returns the X offset of a kick
+     * @param from the rotation index rotated from
+     * @param quarterTurns the clockwise quarter turns of the rotation
+     * @param kick the kick index, from 0 to {@link #kickCount(int, int)} - 1
+     * @return the column offset to try
+     */
+    public int offsetX(int from, int quarterTurns, int kick) {
+        return offsetX[from * 4 + quarterTurns][kick];
+    }
+
+    /**
+     * Returns the Y offset of a kick
+     * @param from the rotation index rotated from
+     * @param quarterTurns the clockwise quarter turns of the rotation
+     * @param kick the kick index, from 0 to {@link #kickCount(int, int)} - 1
+     * @return the row offset to try, positive downwards
+     */
+    public int offsetY(int from, int quarterTurns, int kick) {
+        return offsetY[from * 4 + quarterTurns][kick];
+    }
+}
@@ -9,10 +9,15 @@ import java.util.List;
  * The {@code ZBrick} is a concrete subclass of {@link Brick} that defines the shape and rotations of the Z-shaped tetromino: 
  * <ul>
  *  <li>Horizontal zig-zag (2 blocks stacked diagonally)</li>
- *  <li>Vertical zig-zag (rotated orientation)</li>
+ *  <li>Vertical zig-zag in the right columns</li>
+ *  <li>Horizontal zig-zag one row lower</li>
+ *  <li>Vertical zig-zag in the left columns</li>
  * </ul>
  * <p>
- * The shape is stored as a list of 2D integer matrices, each representing one of the 2 rotation states/
+ * The shape is stored as a list of 2D integer matrices, each representing one of the 4 rotation states.
+ * <p>
+ * The states are listed in Super Rotation System order (spawn, clockwise, 180, counter-clockwise), so that rotation index {@code r}
+ * is SRS state {@code r} and the {@link WallKickTable} applies directly.
  * 
  */
 public final class ZBrick extends Brick {
@@ -26,23 +31,35 @@ public final class ZBrick extends Brick {
 
     /**
      * Creates the shape matrices for the Z-shaped brick
-     * <p> The list contains 2 rotation states: 
-     * <ul>
-     *  <li>Horizontal zig-zag</li>
-     *  <li>Vertical zig-zag</li>
-     * </ul>
+     * <p> The list contains 4 rotation states, alternating between a horizontal and a vertical zig-zag
+     * that turn around the center of the 3x3 box in the top-left corner
      * @return a list of 2D integer arrays representing the ZBrick's rotations
      */
     private static List <int[][]> createShape() { 
     List<int[][]> brickMatrix = new ArrayList<>();
-        // Horizontal zig-zag
+
+        // Horizontal zig-zag (spawn state)
+        brickMatrix.add(new int[][]{
+                {7, 7, 0, 0},
+                {0, 7, 7, 0},
+                {0, 0, 0, 0},
+                {0, 0, 0, 0}
+        });
+        // Vertical zig-zag in the right columns
+        brickMatrix.add(new int[][]{
+                {0, 0, 7, 0},
+                {0, 7, 7, 0},
+                {0, 7, 0, 0},
+                {0, 0, 0, 0}
+        });
+        // Horizontal zig-zag one row lower
         brickMatrix.add(new int[][]{
                 {0, 0, 0, 0},
                 {7, 7, 0, 0},
                 {0, 7, 7, 0},
                 {0, 0, 0, 0}
         });
-        // Vertical zig-zag
+        // Vertical zig-zag in the left columns
         brickMatrix.add(new int[][]{
                 {0, 7, 0, 0},
                 {7, 7, 0, 0},
@@ -0,0 +1,119 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import com.comp2042.BatchSimulator;
+import com.comp2042.EventType;
+import com.comp2042.GameEngine;
+import com.comp2042.GameMode;
+import com.comp2042.InputPolicy;
+import com.comp2042.LowestLandingPolicy;
+import com.comp2042.SimulationSummary;
+import com.comp2042.SummaryStatistics;
+
+public class BatchSimulatorTest {
+
+    @Test
+    void testHardDropGamesAllEnd() {
+        BatchSimulator simulator = new BatchSimulator(GameMode.CLASSIC, InputPolicy::hardDrop, 100_000);
+        SimulationSummary summary = simulator.run(500);
+
+        assertEquals(500, summary.getGames(), "Every game should be recorded once");
+        assertEquals(0, summary.getTruncatedGames(), "Hard-dropping in one column should always top out");
+        assertTrue(summary.getPieces().getMin() > 0, "Every game should place at least one piece");
+        assertEquals(0, summary.getLines().getMax(), "Stacking in one column cannot clear a line");
+    }
+
+    @Test
+    void testGreedyPolicyClearsLinesOnAnyPoolSize() {
+        BatchSimulator simulator = new BatchSimulator(GameMode.CLASSIC, LowestLandingPolicy::new, 20_000, 2042L);
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool quad = new ForkJoinPool(4);
+        try {
+            SimulationSummary sequential = simulator.run(40, single);
+            SimulationSummary parallel = simulator.run(40, quad);
+
+            assertEquals(40, sequential.getGames(), "Single-threaded run should play every game");
+            assertEquals(40, parallel.getGames(), "Parallel run should play every game");
+            assertTrue(parallel.getLines().getMean() > 0, "Greedy placement should clear lines");
+            assertTrue(parallel.getTicks().getMax() <= 20_000, "No game should run past the tick limit");
+            assertEquals(sequential.getPieces().getMin(), parallel.getPieces().getMin(), "Seeded games should not depend on the pool");
+            assertEquals(sequential.getPieces().getMax(), parallel.getPieces().getMax(), "Seeded games should not depend on the pool");
+            assertEquals(sequential.getScore().getMean(), parallel.getScore().getMean(), 1e-6, "Seeded games should not depend on the pool");
+        } finally {
+            single.shutdown();
+            quad.shutdown();
+        }
+    }
+
+    /** Spreads bricks over five columns in turn; the count of dropped bricks is state that must not leak into the next game */
+    private static final class SpreadingPolicy implements InputPolicy {
+        private int dropped;
+        private int moved;
+
+        @Override
+        public EventType nextInput(GameEngine engine) {
+            int target = dropped % 5 - 2;
+            if (moved < Math.abs(target)) {
+                moved++;
+                return target < 0 ? EventType.LEFT : EventType.RIGHT;
+            }
+            dropped++;
+            moved = 0;
+            return EventType.HARD_DROP;
+        }
+
+        @Override
+        public void reset() {
+            dropped = 0;
+            moved = 0;
+        }
+    }
+
+    @Test
+    void testStatefulPolicyIsResetBetweenGames() {
+        BatchSimulator simulator = new BatchSimulator(GameMode.CLASSIC, SpreadingPolicy::new, 20_000, 7L);
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool quad = new ForkJoinPool(4);
+        try {
+            SimulationSummary sequential = simulator.run(64, single);
+            SimulationSummary parallel = simulator.run(64, quad);
+
+            assertEquals(sequential.getTicks().getMean(), parallel.getTicks().getMean(), 1e-9,
+                "Games should not depend on which games shared a policy instance");
+            assertEquals(sequential.getPieces().getMin(), parallel.getPieces().getMin(), "Games should not depend on the pool");
+            assertEquals(sequential.getPieces().getMax(), parallel.getPieces().getMax(), "Games should not depend on the pool");
+        } finally {
+            single.shutdown();
+            quad.shutdown();
+        }
+    }
+
+    @Test
+    void testSummaryStatisticsCombineMatchesSingleSeries() {
+        SummaryStatistics all = new SummaryStatistics();
+        SummaryStatistics left = new SummaryStatistics();
+        SummaryStatistics right = new SummaryStatistics();
+        for (int i = 1; i <= 100; i++) {
+            all.accept(i * i);
+            (i <= 37 ? left : right).accept(i * i);
+        }
+        left.combine(right);
+
+        assertEquals(all.getCount(), left.getCount(), "Counts should add up");
+        assertEquals(all.getMean(), left.getMean(), 1e-9, "Merged mean should match");
+        assertEquals(all.getStandardDeviation(), left.getStandardDeviation(), 1e-9, "Merged deviation should match");
+        assertEquals(1, left.getMin(), "Minimum should come from the left half");
+        assertEquals(10_000, left.getMax(), "Maximum should come from the right half");
+    }
+
+    @Test
+    void testRejectsNonPositiveTickLimit() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchSimulator(GameMode.CLASSIC, InputPolicy::hardDrop, 0),
+            "A game needs at least one tick");
+    }
+}
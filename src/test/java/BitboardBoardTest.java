@@ -0,0 +1,154 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.comp2042.BitboardBoard;
+import com.comp2042.ClearRow;
+import com.comp2042.MatrixOperations;
+import com.comp2042.SimpleBoard;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.IBrick;
+import com.comp2042.logic.bricks.JBrick;
+import com.comp2042.logic.bricks.LBrick;
+import com.comp2042.logic.bricks.OBrick;
+import com.comp2042.logic.bricks.SBrick;
+import com.comp2042.logic.bricks.TBrick;
+import com.comp2042.logic.bricks.ZBrick;
+
+public class BitboardBoardTest {
+
+    private static final Brick[] BRICKS = {
+        new IBrick(), new JBrick(), new LBrick(), new OBrick(), new SBrick(), new TBrick(), new ZBrick()
+    };
+
+    @Test
+    void testMatchesSimpleBoardOnRandomPlay() {
+        Random random = new Random(42);
+        SimpleBoard simple = new SimpleBoard(25, 10);
+        BitboardBoard bitboard = new BitboardBoard(25, 10);
+        simple.setGameOverRow(0);
+        bitboard.setGameOverRow(0);
+
+        int totalLines = 0;
+        for (int piece = 0; piece < 2000; piece++) {
+            Brick brick = BRICKS[random.nextInt(BRICKS.length)];
+            simple.setCurrentBrick(brick);
+            bitboard.setCurrentBrick(brick);
+
+            // Aim each piece at the placement that lands lowest so the stack stays flat and lines clear
+            int best = bestPlacement(simple, brick);
+            int rotations = best / 16;
+            int shift = best % 16 - 8;
+            boolean landed = false;
+            while (!landed) {
+                boolean expected;
+                boolean actual;
+                if (rotations > 0) {
+                    expected = simple.rotateLeftBrick(); actual = bitboard.rotateLeftBrick(); rotations--;
+                } else if (shift < 0) {
+                    expected = simple.moveBrickLeft(); actual = bitboard.moveBrickLeft(); shift++;
+                } else if (shift > 0) {
+                    expected = simple.moveBrickRight(); actual = bitboard.moveBrickRight(); shift--;
+                } else {
+                    expected = simple.moveBrickDown(); actual = bitboard.moveBrickDown(); landed = !expected;
+                }
+                assertEquals(expected, actual, "Bitboard move result should match SimpleBoard");
+            }
+
+            simple.mergeBrickToBackground();
+            bitboard.mergeBrickToBackground();
+            ClearRow reference = MatrixOperations.checkRemoving(simple.getBoardMatrix());
+            ClearRow expectedClear = simple.clearRows();
+            ClearRow actualClear = bitboard.clearRows();
+            totalLines += expectedClear.getLinesRemoved();
+            assertEquals(reference.getLinesRemoved(), expectedClear.getLinesRemoved(), "Incremental clear should find every full row");
+            assertArrayEquals(reference.getClearedRows(), expectedClear.getClearedRows(), "Cleared row indices should match");
+            assertArrayEquals(reference.getNewMatrix(), simple.getBoardMatrix(), "In-place clear should match a full rebuild");
+            assertEquals(expectedClear.getLinesRemoved(), actualClear.getLinesRemoved(), "Cleared line count should match");
+            assertArrayEquals(simple.getBoardMatrix(), bitboard.getBoardMatrix(), "Colour plane should match SimpleBoard matrix");
+            assertSkylineMatches(simple);
+
+            if (!isRowEmpty(simple.getBoardMatrix()[4])) {
+                simple.newGame();
+                bitboard.newGame();
+            }
+        }
+        assertTrue(totalLines > 0, "Random play should have cleared some lines");
+    }
+
+    private static int bestPlacement(SimpleBoard board, Brick brick) {
+        int best = 8;
+        int bestDepth = -1;
+        for (int rotations = 0; rotations < 4; rotations++) {
+            for (int shift = -5; shift <= 5; shift++) {
+                board.setCurrentBrick(brick);
+                boolean reachable = true;
+                for (int r = 0; r < rotations; r++) {
+                    reachable &= board.rotateLeftBrick();
+                }
+                for (int m = 0; m < Math.abs(shift); m++) {
+                    reachable &= shift < 0 ? board.moveBrickLeft() : board.moveBrickRight();
+                }
+                int predicted = board.getDropDistance();
+                int depth = 0;
+                while (board.moveBrickDown()) {
+                    depth++;
+                }
+                assertEquals(depth, predicted, "Skyline drop distance should match stepping the brick down");
+                if (reachable && depth > bestDepth) {
+                    bestDepth = depth;
+                    best = rotations * 16 + shift + 8;
+                }
+            }
+        }
+        board.setCurrentBrick(brick);
+        return best;
+    }
+
+    private static void assertSkylineMatches(SimpleBoard board) {
+        int[][] matrix = board.getBoardMatrix();
+        for (int col = 0; col < matrix[0].length; col++) {
+            int row = 0;
+            while (row < matrix.length && matrix[row][col] == 0) {
+                row++;
+            }
+            assertEquals(matrix.length - row, board.getColumnHeight(col), "Skyline height should match column " + col);
+        }
+    }
+
+    private static boolean isRowEmpty(int[] row) {
+        for (int cell : row) {
+            if (cell != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Test
+    void testRowMaskTracksMergedCells() {
+        BitboardBoard board = new BitboardBoard(25, 10);
+        board.setGameOverRow(0);
+        board.setCurrentBrick(new OBrick());
+        while (board.moveBrickDown()) {
+            // drop to the floor
+        }
+        board.mergeBrickToBackground();
+
+        // OBrick occupies shape columns 1-2, spawned at X = 4
+        assertEquals(0b11 << 5, board.getRowMask(24), "Bottom row mask should contain the O brick cells");
+        assertEquals(0b11 << 5, board.getRowMask(23), "Second row mask should contain the O brick cells");
+        assertEquals(0, board.getRowMask(22), "Rows above the brick should be empty");
+    }
+
+    @Test
+    void testRejectsBoardWiderThanMask() {
+        assertThrows(IllegalArgumentException.class, () -> new BitboardBoard(25, 40),
+            "Boards wider than a row mask should be rejected");
+    }
+}
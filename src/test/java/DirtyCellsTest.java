@@ -0,0 +1,65 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.comp2042.BitboardBoard;
+import com.comp2042.DirtyCells;
+import com.comp2042.SimpleBoard;
+import com.comp2042.logic.bricks.IBrick;
+import com.comp2042.logic.bricks.OBrick;
+
+public class DirtyCellsTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+
+    private static int countDirty(DirtyCells dirty) {
+        int count = 0;
+        for (int row = Math.max(0, dirty.getTop()); row <= dirty.getBottom(); row++) {
+            for (int col = 0; col < COLUMNS; col++) {
+                if (dirty.isDirty(row, col)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    @Test
+    void testLandingMarksOnlyTheBricksCells() {
+        for (SimpleBoard board : new SimpleBoard[] { new SimpleBoard(ROWS, COLUMNS), new BitboardBoard(ROWS, COLUMNS) }) {
+            String name = board.getClass().getSimpleName();
+            board.restore(new int[ROWS][COLUMNS], new OBrick(), 0, 4, 0);
+            assertEquals(ROWS * COLUMNS, countDirty(board.getDirtyCells()), name + ": a restore should mark the whole board");
+            board.getDirtyCells().clear();
+            assertTrue(board.getDirtyCells().isEmpty(), name + ": clearing should forget every change");
+
+            board.dropBrick();
+            board.mergeBrickToBackground();
+            board.clearRows();
+            DirtyCells dirty = board.getDirtyCells();
+            assertEquals(4, countDirty(dirty), name + ": a landing without a clear should mark four cells");
+            assertEquals(ROWS - 2, dirty.getTop(), name + ": only the rows the brick touched should be marked");
+            assertEquals(ROWS - 1, dirty.getBottom(), name + ": only the rows the brick touched should be marked");
+        }
+    }
+
+    @Test
+    void testLineClearMarksEveryRowThatMoved() {
+        SimpleBoard board = new SimpleBoard(ROWS, COLUMNS);
+        int[][] matrix = new int[ROWS][COLUMNS];
+        for (int col = 4; col < COLUMNS; col++) {
+            matrix[ROWS - 1][col] = 1;
+        }
+        board.restore(matrix, new IBrick(), 0, 0, 0);
+        board.getDirtyCells().clear();
+
+        board.dropBrick();
+        board.mergeBrickToBackground();
+        assertEquals(1, board.clearRows().getLinesRemoved(), "The I brick should complete the bottom row");
+        DirtyCells dirty = board.getDirtyCells();
+        assertEquals(0, dirty.getTop(), "Every row above the cleared one has moved");
+        assertEquals(ROWS * COLUMNS, countDirty(dirty), "Every moved row should be marked in full");
+    }
+}
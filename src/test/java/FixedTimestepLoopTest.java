@@ -0,0 +1,55 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.comp2042.FixedTimestepLoop;
+
+public class FixedTimestepLoopTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    @Test
+    void testTickCountFollowsElapsedTimeNotCallCount() {
+        AtomicInteger ticks = new AtomicInteger();
+        FixedTimestepLoop loop = new FixedTimestepLoop(60, ticks::incrementAndGet);
+
+        assertEquals(0, loop.advance(0), "First call should only start the clock");
+        long now = 0;
+        // Irregular pulses: 7 ms, 33 ms, 1 ms, 59 ms, ... adding up to exactly one second
+        long[] pulses = {7, 33, 1, 59, 100, 200, 4, 96, 250, 250};
+        for (long pulse : pulses) {
+            now += pulse * MILLIS;
+            loop.advance(now);
+        }
+        assertEquals(60, ticks.get(), "One second of pulses should run exactly 60 ticks");
+        assertEquals(0.0, loop.getAlpha(), 1e-9, "No partial tick should remain after a whole second");
+    }
+
+    @Test
+    void testAlphaReportsPartialTick() {
+        FixedTimestepLoop loop = new FixedTimestepLoop(100, () -> { });
+        loop.advance(0);
+
+        assertEquals(2, loop.advance(25 * MILLIS), "25 ms at 100 Hz should run two ticks");
+        assertEquals(0.5, loop.getAlpha(), 1e-9, "Half a tick period should be left over");
+    }
+
+    @Test
+    void testStallsAndPausesAreNotReplayedInFull() {
+        AtomicInteger ticks = new AtomicInteger();
+        FixedTimestepLoop loop = new FixedTimestepLoop(60, ticks::incrementAndGet);
+        loop.advance(0);
+
+        loop.advance(10_000 * MILLIS);
+        int maxCatchUp = (int) (FixedTimestepLoop.MAX_CATCH_UP_NANOS * 60 / 1_000_000_000L);
+        assertEquals(maxCatchUp, ticks.get(), "A ten second stall should only be caught up to the limit");
+
+        loop.reset();
+        assertEquals(0, loop.advance(20_000 * MILLIS), "The first call after a reset should not run ticks");
+        assertEquals(1, loop.advance(20_000 * MILLIS + 17 * MILLIS), "Ticks should resume from the reset point");
+        assertThrows(IllegalArgumentException.class, () -> new FixedTimestepLoop(0, () -> { }), "Tick rate must be positive");
+    }
+}
@@ -1,22 +1,40 @@
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import com.comp2042.EventSource;
 import com.comp2042.EventType;
 import com.comp2042.FxToolkitInitializer;
 import com.comp2042.GameController;
+import com.comp2042.GameEngine;
 import com.comp2042.GameMode;
 import com.comp2042.GuiController;
 import com.comp2042.MoveEvent;
+import com.comp2042.ReplayReader;
 import com.comp2042.ViewData;
 
+import javafx.application.Platform;
+import javafx.scene.canvas.Canvas;
 import javafx.scene.control.Label;
 import javafx.scene.layout.GridPane;
 
 public class GameControllerTest {
 
+    @TempDir
+    Path tempDir;
+
     @BeforeAll
     static void initToolkit() {
         FxToolkitInitializer.initToolkit();
@@ -80,4 +98,159 @@ public class GameControllerTest {
         ViewData viewData = controller.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER));
         assertNotNull(viewData, "onRotateEvent should return a ViewData object");
     }
+
+    @Test
+    void testStatsArePublishedOncePerFrame() throws InterruptedException {
+        int[] changes = new int[3];
+        int[] pieces = new int[1];
+        String[] labels = new String[2];
+        CountDownLatch done = new CountDownLatch(1);
+        // On the FX thread, so no real pulse can publish the stats in between
+        Platform.runLater(() -> {
+            try {
+                GuiController gui = createDummyGuiController();
+                GameController controller = new GameController(gui, GameMode.CLASSIC);
+                controller.getStats().piecesProperty().addListener((observable, oldValue, newValue) -> changes[0]++);
+
+                for (int i = 0; i < 3; i++) {
+                    controller.onHardDropEvent(new MoveEvent(EventType.HARD_DROP, EventSource.USER));
+                }
+                changes[1] = changes[0];
+                controller.onFrame();
+                changes[2] = changes[0];
+                pieces[0] = controller.getStats().piecesProperty().get();
+                labels[0] = String.valueOf(controller.getEngine().getScore());
+                labels[1] = gui.getScoreLabel().getText();
+                gui.gameOver(0);
+            } finally {
+                done.countDown();
+            }
+        });
+        assertTrue(done.await(5, TimeUnit.SECONDS), "The FX thread should run the test");
+
+        assertEquals(0, changes[1], "Engine changes should not reach the properties between frames");
+        assertEquals(1, changes[2], "One frame should publish the accumulated changes once");
+        assertEquals(3, pieces[0], "Published piece count should match the engine");
+        assertEquals(labels[0], labels[1], "Score label should show the published score");
+    }
+
+    @Test
+    void testBoardIsDrawnOnASingleCanvas() {
+        GuiController gui = createDummyGuiController();
+        GridPane gamePanel = new GridPane();
+        gui.setGamePanel(gamePanel);
+        new GameController(gui, GameMode.CLASSIC);
+
+        assertEquals(1, gamePanel.getChildren().size(), "Board, ghost and brick should share one node");
+        assertTrue(gamePanel.getChildren().get(0) instanceof Canvas, "The board should be drawn on a canvas");
+    }
+
+    @Test
+    void testInputsBetweenPulsesAreDrawnOnce() throws InterruptedException {
+        int[] frames = new int[3];
+        CountDownLatch done = new CountDownLatch(1);
+        // On the FX thread, so no real pulse can run in between
+        Platform.runLater(() -> {
+            try {
+                GuiController gui = createDummyGuiController();
+                GameController controller = new GameController(gui, GameMode.CLASSIC);
+                frames[0] = gui.getFramesPresented();
+                gui.refreshBrick(controller.onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER)));
+                gui.refreshBrick(controller.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER)));
+                gui.refreshBrick(controller.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER)));
+                frames[1] = gui.getFramesPresented();
+                long now = System.nanoTime();
+                gui.pulse(now);
+                gui.pulse(now);
+                frames[2] = gui.getFramesPresented();
+                gui.gameOver(0);
+            } finally {
+                done.countDown();
+            }
+        });
+        assertTrue(done.await(5, TimeUnit.SECONDS), "The FX thread should run the test");
+
+        assertEquals(frames[0], frames[1], "Inputs should not draw while the game loop runs");
+        assertEquals(frames[0] + 1, frames[2], "One pulse should present every pending change at once, and an idle pulse nothing");
+    }
+
+    @Test
+    void testInterpolatedBrickSlidesDownAcrossPulses() throws InterruptedException {
+        long halfTick = 1_000_000_000L / GameEngine.TICKS_PER_SECOND / 2;
+        int pulses = GameEngine.GRAVITY_TICKS;
+        double[] falls = new double[pulses];
+        int[] frames = new int[pulses + 3];
+        CountDownLatch done = new CountDownLatch(1);
+        // On the FX thread, so no real pulse can run in between
+        Platform.runLater(() -> {
+            try {
+                GuiController gui = createDummyGuiController();
+                new GameController(gui, GameMode.CLASSIC);
+                gui.setInterpolation(true);
+                long now = System.nanoTime();
+                gui.pulse(now);
+                frames[0] = gui.getFramesPresented();
+                for (int k = 0; k < pulses; k++) {
+                    gui.pulse(now + (k + 1) * halfTick);
+                    falls[k] = gui.getDrawnFall();
+                    frames[k + 1] = gui.getFramesPresented();
+                }
+                now += pulses * halfTick;
+                gui.setInterpolation(false);
+                gui.pulse(now);
+                falls[pulses - 1] = gui.getDrawnFall();
+                frames[pulses + 1] = gui.getFramesPresented();
+                gui.pulse(now);
+                frames[pulses + 2] = gui.getFramesPresented();
+                gui.gameOver(0);
+            } finally {
+                done.countDown();
+            }
+        });
+        assertTrue(done.await(5, TimeUnit.SECONDS), "The FX thread should run the test");
+
+        for (int k = 1; k < pulses - 1; k++) {
+            assertTrue(falls[k] > falls[k - 1], "The brick should move further down on every pulse, not only on ticks");
+            assertTrue(falls[k] < 1, "The brick should stay above the next row until gravity moves it there");
+            assertEquals(frames[k] + 1, frames[k + 1], "Every pulse should present the moving brick");
+        }
+        assertEquals(0, falls[pulses - 1], "Turning interpolation off should settle the brick in its row");
+        assertEquals(frames[pulses + 1], frames[pulses + 2], "Without interpolation an idle pulse should present nothing");
+    }
+
+    @Test
+    void testExitFinishesTheReplay() throws InterruptedException, IOException {
+        GameController[] controller = new GameController[1];
+        int[] recorded = new int[1];
+        CountDownLatch done = new CountDownLatch(1);
+        // On the FX thread, so no real pulse can record a gravity step in between
+        Platform.runLater(() -> {
+            try {
+                GuiController gui = createDummyGuiController();
+                controller[0] = new GameController(gui, GameMode.CLASSIC);
+                controller[0].enableReplayRecording(tempDir);
+                gui.refreshBrick(controller[0].onLeftEvent(new MoveEvent(EventType.LEFT, EventSource.USER)));
+                gui.refreshBrick(controller[0].onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER)));
+                recorded[0] = controller[0].getRecorder().getEventCount();
+                controller[0].onExit();
+                gui.gameOver(0);
+            } finally {
+                done.countDown();
+            }
+        });
+        assertTrue(done.await(5, TimeUnit.SECONDS), "The FX thread should run the test");
+        assertNull(controller[0].getRecorder(), "Leaving the game should stop recording it");
+        controller[0].finishRecording();
+
+        Path file;
+        try (Stream<Path> files = Files.list(tempDir)) {
+            file = files.findFirst().orElseThrow();
+        }
+        ReplayReader reader = ReplayReader.open(file);
+        int events = 0;
+        while (reader.next()) {
+            events++;
+        }
+        assertEquals(recorded[0], events, "Every input before the exit should be written, and none after it");
+    }
 }
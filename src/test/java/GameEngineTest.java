@@ -0,0 +1,187 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.comp2042.EventSource;
+import com.comp2042.EventType;
+import com.comp2042.GameEngine;
+import com.comp2042.GameEngineListener;
+import com.comp2042.GameMode;
+import com.comp2042.logic.bricks.Brick;
+
+public class GameEngineTest {
+
+    @Test
+    void testHardDropsEndTheGame() {
+        GameEngine engine = new GameEngine(GameMode.CLASSIC);
+
+        int drops = 0;
+        while (!engine.isGameOver() && drops < 1000) {
+            assertTrue(engine.apply(EventType.HARD_DROP), "Hard drop should be applied while the game runs");
+            assertNotNull(engine.getLastClearRow(), "Hard drop should always land the brick");
+            drops++;
+        }
+
+        assertTrue(engine.isGameOver(), "Stacking bricks in one column should end the game");
+        assertEquals(drops, engine.getPiecesPlaced(), "Every hard drop should place one piece");
+        assertFalse(engine.apply(EventType.LEFT), "Inputs should be ignored after game over");
+    }
+
+    @Test
+    void testHoldIsLimitedToOncePerLanding() {
+        GameEngine engine = new GameEngine(GameMode.CLASSIC);
+        Brick first = engine.getBoard().getBrickRotator().getBrick();
+
+        assertTrue(engine.apply(EventType.HOLD), "First hold should be accepted");
+        assertSame(first, engine.getHeldBrick(), "Held brick should be the brick that was in play");
+        assertFalse(engine.apply(EventType.HOLD), "Second hold before landing should be rejected");
+
+        engine.apply(EventType.HARD_DROP);
+        Brick current = engine.getBoard().getBrickRotator().getBrick();
+        assertTrue(engine.apply(EventType.HOLD), "Hold should be available again after landing");
+        assertSame(first, engine.getBoard().getBrickRotator().getBrick(), "Hold should swap the held brick back into play");
+        assertSame(current, engine.getHeldBrick(), "Swapped-out brick should be held");
+    }
+
+    @Test
+    void testStepAppliesGravityAndClock() {
+        GameEngine engine = new GameEngine(GameMode.TWO_MINUTES);
+        int startY = engine.getViewData().getyPosition();
+
+        for (int i = 0; i < GameEngine.GRAVITY_TICKS; i++) {
+            assertTrue(engine.step(null), "Game should keep running");
+        }
+        assertEquals(startY + 1, engine.getViewData().getyPosition(), "Gravity should move the brick down one row");
+        assertNull(engine.getLastClearRow(), "A gravity step in open space should not land the brick");
+
+        for (int i = GameEngine.GRAVITY_TICKS; i < GameEngine.TICKS_PER_SECOND; i++) {
+            engine.step(null);
+        }
+        assertEquals(GameEngine.TIME_LIMIT_SECONDS - 1, engine.getRemainingSeconds(), "One second should have elapsed");
+    }
+
+    @Test
+    void testGravityKeepsItsPaceAtHigherTickRates() {
+        GameEngine engine = new GameEngine(GameMode.TWO_MINUTES, 240);
+        int startY = engine.getViewData().getyPosition();
+
+        for (int i = 0; i < 240; i++) {
+            engine.step(null);
+        }
+        int expectedRows = 1000 / GameEngine.GRAVITY_MILLIS;
+        assertEquals(startY + expectedRows, engine.getViewData().getyPosition(), "Gravity should follow wall time, not the tick count");
+        assertEquals(GameEngine.TIME_LIMIT_SECONDS - 1, engine.getRemainingSeconds(), "One second should have elapsed");
+    }
+
+    @Test
+    void testBrickLocksOnlyAfterLockDelay() {
+        GameEngine engine = new GameEngine(GameMode.CLASSIC);
+        while (engine.apply(EventType.DOWN)) {
+            // fall to the floor
+        }
+        assertNull(engine.getLastClearRow(), "A blocked down move should not lock the brick");
+        assertEquals(0, engine.getPiecesPlaced(), "Brick should still be in play on the floor");
+
+        int lockDelayTicks = GameEngine.LOCK_DELAY_MILLIS * GameEngine.TICKS_PER_SECOND / 1000;
+        for (int i = 1; i < lockDelayTicks; i++) {
+            engine.step(null);
+        }
+        assertEquals(0, engine.getPiecesPlaced(), "Brick should not lock before the delay runs out");
+        engine.step(null);
+        assertEquals(1, engine.getPiecesPlaced(), "Brick should lock when the delay runs out");
+        assertNotNull(engine.getLastClearRow(), "The tick that locks should report the landing");
+    }
+
+    @Test
+    void testMovesRestartLockDelayUpToTheCap() {
+        GameEngine engine = new GameEngine(GameMode.CLASSIC);
+        while (engine.apply(EventType.DOWN)) {
+            // fall to the floor
+        }
+        int lockDelayTicks = GameEngine.LOCK_DELAY_MILLIS * GameEngine.TICKS_PER_SECOND / 1000;
+
+        int ticks = 0;
+        while (engine.getPiecesPlaced() == 0 && ticks < 100 * lockDelayTicks) {
+            EventType shift = (ticks / 10) % 2 == 0 ? EventType.LEFT : EventType.RIGHT;
+            engine.step(ticks % 10 == 9 ? shift : null);
+            ticks++;
+        }
+        assertTrue(ticks > 2 * lockDelayTicks, "Moves should keep the brick alive past the plain lock delay");
+        assertTrue(ticks <= (GameEngine.MAX_LOCK_RESETS + 1) * lockDelayTicks, "Resets should be capped so the brick locks, took " + ticks);
+    }
+
+    @Test
+    void testReportedInputsReplayTheSteppedGame() {
+        GameEngine original = new GameEngine(GameMode.CLASSIC);
+        original.newGame(77L);
+        List<EventType> inputs = new ArrayList<>();
+        original.setListener(new GameEngineListener() {
+            @Override
+            public void onInput(EventType type, EventSource source) {
+                inputs.add(type);
+            }
+        });
+        EventType[] pattern = {null, EventType.LEFT, null, EventType.ROTATE, null, EventType.RIGHT, EventType.RIGHT, null};
+        for (int i = 0; i < 5_000 && !original.isGameOver(); i++) {
+            original.step(pattern[i % pattern.length]);
+        }
+        assertTrue(original.getPiecesPlaced() > 5, "Gravity and lock delay should have placed several pieces");
+
+        GameEngine copy = new GameEngine(GameMode.CLASSIC);
+        copy.newGame(77L);
+        for (EventType input : inputs) {
+            copy.apply(input);
+        }
+        assertArrayEquals(original.getBoardMatrix(), copy.getBoardMatrix(), "Replayed inputs should rebuild the same board");
+        assertEquals(original.getPiecesPlaced(), copy.getPiecesPlaced(), "Replayed inputs should place the same pieces");
+    }
+
+    @Test
+    void testNewGameResetsState() {
+        GameEngine engine = new GameEngine(GameMode.CLASSIC);
+        engine.apply(EventType.HOLD);
+        engine.apply(EventType.HARD_DROP);
+        engine.step(null);
+
+        engine.newGame();
+        assertNull(engine.getHeldBrick(), "Hold slot should be empty");
+        assertEquals(0, engine.getPiecesPlaced(), "Piece count should be reset");
+        assertEquals(0, engine.getScore(), "Score should be reset");
+        assertEquals(0, engine.getTick(), "Clock should be reset");
+        assertEquals(-1, engine.getRemainingSeconds(), "Classic mode should have no time limit");
+    }
+
+    @Test
+    void testFallProgressFollowsGravity() {
+        GameEngine engine = new GameEngine(GameMode.CLASSIC);
+        int startY = engine.getViewData().getyPosition();
+        assertEquals(0, engine.getFallProgress(0), 1e-9, "A new brick should start at the top of its row");
+
+        double previous = 0;
+        for (int i = 1; i < GameEngine.GRAVITY_TICKS; i++) {
+            double between = engine.getFallProgress(0.5);
+            engine.step(null);
+            double progress = engine.getFallProgress(0);
+            assertEquals((double) i / GameEngine.GRAVITY_TICKS, progress, 1e-6, "Each tick should move the brick a share of a row");
+            assertTrue(between > previous && between < progress, "Part of a tick should place the brick between two ticks");
+            previous = progress;
+        }
+        engine.step(null);
+        assertEquals(startY + 1, engine.getViewData().getyPosition(), "Gravity should move the brick down one row");
+        assertEquals(0, engine.getFallProgress(0), 1e-6, "The brick should restart from the top of its new row");
+
+        while (engine.getBoard().getDropDistance() > 0) {
+            engine.apply(EventType.DOWN);
+        }
+        assertEquals(0, engine.getFallProgress(0.5), "A resting brick should not be drawn between rows");
+    }
+}
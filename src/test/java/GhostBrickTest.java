@@ -0,0 +1,38 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.comp2042.GhostBrick;
+import com.comp2042.SimpleBoard;
+import com.comp2042.logic.bricks.OBrick;
+
+public class GhostBrickTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+
+    @Test
+    void testGhostOnlyChangesWhenItsLandingCellsMove() {
+        SimpleBoard board = new SimpleBoard(ROWS, COLUMNS);
+        board.restore(new int[ROWS][COLUMNS], new OBrick(), 0, 4, 0);
+        GhostBrick ghost = new GhostBrick();
+
+        assertTrue(ghost.updateGhost(board.getBoardMatrix(), board.getViewData()), "The first update should light the ghost");
+        assertEquals(4, ghost.getCellCount(), "The O brick's ghost should cover four cells");
+        int column = ghost.getX(0);
+
+        assertTrue(board.moveBrickDown(), "The brick should fall on an empty board");
+        assertFalse(ghost.updateGhost(board.getBoardMatrix(), board.getViewData()),
+            "Falling should not move the ghost");
+        assertFalse(ghost.isChanged(), "The ghost should report that it kept its cells");
+
+        assertTrue(board.moveBrickLeft(), "The brick should move left on an empty board");
+        assertTrue(ghost.updateGhost(board.getBoardMatrix(), board.getViewData()), "Moving sideways should move the ghost");
+        assertEquals(4, ghost.getPreviousCount(), "The cells lit before the move should be kept");
+        assertEquals(column, ghost.getPreviousX(0), "The previous cells should be the ones lit before the move");
+        assertEquals(column - 1, ghost.getX(0), "The ghost should follow the brick");
+        assertEquals(ROWS - 1, ghost.getY(ghost.getCellCount() - 1), "The ghost should rest on the floor");
+    }
+}
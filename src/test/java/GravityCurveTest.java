@@ -0,0 +1,39 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.comp2042.GameEngine;
+import com.comp2042.GravityCurve;
+
+public class GravityCurveTest {
+
+    @Test
+    void testLevelOneMatchesBaseGravity() {
+        GravityCurve curve = new GravityCurve(GameEngine.TICKS_PER_SECOND);
+        long perTick = curve.cellsPerTick(1);
+
+        assertTrue(perTick * (GameEngine.GRAVITY_TICKS - 1) >>> GravityCurve.FRACTION_BITS == 0, "No row should fall before the base interval");
+        assertEquals(1, perTick * GameEngine.GRAVITY_TICKS >>> GravityCurve.FRACTION_BITS, "One row should fall after the base interval");
+    }
+
+    @Test
+    void testSpeedRisesMonotonicallyToTwentyG() {
+        GravityCurve curve = new GravityCurve(GameEngine.TICKS_PER_SECOND);
+        for (int level = 2; level <= GravityCurve.MAX_LEVEL; level++) {
+            assertTrue(curve.cellsPerTick(level) >= curve.cellsPerTick(level - 1), "Level " + level + " should not be slower");
+        }
+        assertEquals((long) GravityCurve.MAX_ROWS_PER_FRAME << GravityCurve.FRACTION_BITS, curve.cellsPerTick(GravityCurve.MAX_LEVEL),
+            "Top level should fall at 20G");
+
+        GravityCurve fast = new GravityCurve(240);
+        assertEquals(5L << GravityCurve.FRACTION_BITS, fast.cellsPerTick(GravityCurve.MAX_LEVEL), "20G at 240 Hz is five rows per tick");
+    }
+
+    @Test
+    void testLevelRisesEveryTenLines() {
+        assertEquals(1, GravityCurve.levelFor(0), "Game should start on level 1");
+        assertEquals(2, GravityCurve.levelFor(GravityCurve.LINES_PER_LEVEL), "Ten lines should reach level 2");
+        assertEquals(GravityCurve.MAX_LEVEL, GravityCurve.levelFor(10_000), "Level should be capped");
+    }
+}
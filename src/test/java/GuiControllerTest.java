@@ -1,11 +1,22 @@
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import com.comp2042.FxToolkitInitializer;
 import com.comp2042.GuiController;
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.IBrick;
+import com.comp2042.logic.bricks.OBrick;
+import com.comp2042.logic.bricks.TBrick;
 
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.StackPane;
@@ -69,4 +80,21 @@ public class GuiControllerTest {
         gui.setMenuScene(null);
         assertNull(gui.getMenuScene(), "Menu scene should remain null when set to null");
     }
+
+    @Test
+    void testNextQueueReusesItsPreviewNodes() {
+        GuiController gui = createDummyGuiController();
+        GridPane nextPanel = new GridPane();
+        gui.setNextBrickPanel(nextPanel);
+
+        gui.showNextBricksQueue(List.of(new IBrick(), new OBrick(), new TBrick()));
+        List<Node> slots = new ArrayList<>(nextPanel.getChildren());
+        assertEquals(3, slots.size(), "Each queue entry should get one preview");
+        Node firstCell = ((GridPane) slots.get(0)).getChildren().get(0);
+
+        gui.showNextBricksQueue(List.of(new OBrick(), new TBrick()));
+        assertEquals(slots, nextPanel.getChildren(), "Updating the queue should not replace the previews");
+        assertSame(firstCell, ((GridPane) slots.get(0)).getChildren().get(0), "Updating the queue should not replace the cells");
+        assertFalse(slots.get(2).isVisible(), "Previews past the end of the queue should be hidden");
+    }
 }
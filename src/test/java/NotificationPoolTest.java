@@ -0,0 +1,48 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.comp2042.FxToolkitInitializer;
+import com.comp2042.NotificationPanel;
+import com.comp2042.NotificationPool;
+
+import javafx.scene.Node;
+import javafx.scene.layout.StackPane;
+
+public class NotificationPoolTest {
+
+    @BeforeAll
+    static void initToolkit() {
+        FxToolkitInitializer.initToolkit();
+    }
+
+    @Test
+    void testPopupsAreCappedAndReused() {
+        StackPane layer = new StackPane();
+        NotificationPool pool = new NotificationPool(layer, 2);
+        List<Node> panels = new ArrayList<>(layer.getChildren());
+        assertEquals(2, panels.size(), "The pool should add all of its panels up front");
+        assertFalse(panels.get(0).isVisible(), "Idle panels should be hidden");
+
+        pool.show("SINGLE");
+        pool.show("DOUBLE");
+        pool.show("TRIPLE");
+        assertEquals(2, pool.getActiveCount(), "No more popups than the capacity should be on screen");
+        assertEquals(2, layer.getChildren().size(), "Showing popups should not add nodes");
+        assertTrue(layer.getChildren().containsAll(panels), "Showing popups should reuse the pooled panels");
+        NotificationPanel newest = (NotificationPanel) layer.getChildren().get(1);
+        assertEquals("TRIPLE", newest.getText(), "The oldest popup should be reused and brought to the front");
+
+        pool.clear();
+        assertEquals(0, pool.getActiveCount(), "Clearing should end every popup");
+        assertFalse(newest.isVisible(), "Cleared popups should be hidden");
+        assertThrows(IllegalArgumentException.class, () -> new NotificationPool(layer, 0), "A pool needs at least one panel");
+    }
+}
@@ -0,0 +1,107 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import com.comp2042.logic.bricks.Randomizer;
+import com.comp2042.logic.bricks.SplitMix64;
+
+public class RandomBrickGeneratorTest {
+
+    private static int[] drawIds(RandomBrickGenerator generator, int count) {
+        int[] ids = new int[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = generator.getBrick().getId();
+        }
+        return ids;
+    }
+
+    @Test
+    void testSameSeedGivesSameSequence() {
+        int[] first = drawIds(new RandomBrickGenerator(123L), 500);
+        int[] second = drawIds(new RandomBrickGenerator(123L), 500);
+        int[] other = drawIds(new RandomBrickGenerator(124L), 500);
+
+        assertEquals(Arrays.toString(first), Arrays.toString(second), "Equal seeds should give equal sequences");
+        assertNotEquals(Arrays.toString(first), Arrays.toString(other), "Different seeds should give different sequences");
+    }
+
+    @Test
+    void testResetRestartsSequence() {
+        RandomBrickGenerator generator = new RandomBrickGenerator(7L);
+        int[] first = drawIds(generator, 100);
+        generator.reset(7L);
+
+        assertEquals(7L, generator.getSeed(), "Seed should be reported after reset");
+        assertEquals(Arrays.toString(first), Arrays.toString(drawIds(generator, 100)),
+            "Reset should replay the sequence from the start");
+    }
+
+    @Test
+    void testStreamSeedsDependOnlyOnIndex() {
+        long forward = SplitMix64.seedFor(99L, 3);
+        for (int stream = 10; stream >= 0; stream--) {
+            SplitMix64.seedFor(99L, stream);
+        }
+        assertEquals(forward, SplitMix64.seedFor(99L, 3), "Stream seeds should not depend on request order");
+        assertNotEquals(SplitMix64.seedFor(99L, 3), SplitMix64.seedFor(99L, 4), "Neighbouring streams should differ");
+    }
+
+    @Test
+    void testBagDealsEveryBrickOncePerSeven() {
+        int[] ids = drawIds(new RandomBrickGenerator(5L), 700);
+        for (int bag = 0; bag < ids.length; bag += 7) {
+            boolean[] seen = new boolean[8];
+            for (int i = bag; i < bag + 7; i++) {
+                assertFalse(seen[ids[i]], "Brick " + ids[i] + " should appear once in bag starting at " + bag);
+                seen[ids[i]] = true;
+            }
+        }
+    }
+
+    @Test
+    void testSequenceDoesNotDependOnPreviewDepth() {
+        for (Randomizer randomizer : Randomizer.values()) {
+            int[] shallow = drawIds(new RandomBrickGenerator(randomizer, 11L, 1), 200);
+            int[] deep = drawIds(new RandomBrickGenerator(randomizer, 11L, 7), 200);
+            assertArrayEquals(shallow, deep, randomizer + " sequence should not depend on the preview depth");
+        }
+    }
+
+    @Test
+    void testPreviewIsLiveViewOfUpcomingBricks() {
+        RandomBrickGenerator generator = new RandomBrickGenerator(Randomizer.SEVEN_BAG, 3L, 5);
+        List<Brick> preview = generator.getNextBricksQueue();
+        assertEquals(5, preview.size(), "Preview should hold the configured number of bricks");
+
+        for (int i = 0; i < 50; i++) {
+            Brick second = preview.get(1);
+            assertSame(preview, generator.getNextBricksQueue(), "Preview list should be reused");
+            assertSame(preview.get(0), generator.getNextBrick(), "Preview should start with the next brick");
+            assertSame(generator.getNextBrick(), generator.getBrick(), "Spawned brick should be the previewed one");
+            assertSame(second, preview.get(0), "Preview should advance after a spawn");
+        }
+        assertThrows(UnsupportedOperationException.class, () -> preview.remove(0), "Preview should be read-only");
+    }
+
+    @Test
+    void testBricksAreRoughlyUniform() {
+        RandomBrickGenerator generator = new RandomBrickGenerator(Randomizer.UNIFORM, 1L, RandomBrickGenerator.DEFAULT_PREVIEW_DEPTH);
+        int[] counts = new int[8];
+        for (int id : drawIds(generator, 70_000)) {
+            counts[id]++;
+        }
+        for (int id = 1; id <= 7; id++) {
+            assertEquals(10_000, counts[id], 500, "Brick " + id + " should appear about one time in seven");
+        }
+    }
+}
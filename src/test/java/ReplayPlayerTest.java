@@ -0,0 +1,100 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.comp2042.EventSource;
+import com.comp2042.EventType;
+import com.comp2042.GameEngine;
+import com.comp2042.GameMode;
+import com.comp2042.LowestLandingPolicy;
+import com.comp2042.ReplayPlayer;
+import com.comp2042.ReplayReader;
+import com.comp2042.ReplayRecorder;
+import com.comp2042.logic.bricks.Randomizer;
+
+public class ReplayPlayerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ReplayReader reader;
+
+    @BeforeEach
+    void recordGame() throws IOException {
+        Path file = tempDir.resolve("game" + ReplayRecorder.FILE_EXTENSION);
+        GameEngine engine = new GameEngine(GameMode.CLASSIC);
+        engine.newGame(2025L);
+        LowestLandingPolicy policy = new LowestLandingPolicy();
+        Random random = new Random(9);
+        try (ReplayRecorder recorder = ReplayRecorder.open(file, GameMode.CLASSIC, engine.getSeed(), Randomizer.SEVEN_BAG)) {
+            long nanos = System.nanoTime();
+            for (int i = 0; i < 4_000 && !engine.isGameOver(); i++) {
+                boolean gravity = i % 4 == 3;
+                EventType input = gravity ? EventType.DOWN : random.nextInt(20) == 0 ? EventType.HOLD : policy.nextInput(engine);
+                nanos += 100_000_000L;
+                recorder.record(input, gravity ? EventSource.THREAD : EventSource.USER, nanos);
+                engine.apply(input);
+            }
+        }
+        reader = ReplayReader.open(file);
+    }
+
+    private GameEngine simulateTo(int inputs) {
+        GameEngine engine = new GameEngine(reader.getMode());
+        engine.newGame(reader.getSeed());
+        reader.rewind();
+        for (int i = 0; i < inputs && reader.next(); i++) {
+            engine.apply(reader.getEventType());
+        }
+        return engine;
+    }
+
+    private static void assertSameState(GameEngine expected, GameEngine actual, int position) {
+        assertArrayEquals(expected.getBoardMatrix(), actual.getBoardMatrix(), "Board at input " + position);
+        assertEquals(expected.getScore(), actual.getScore(), "Score at input " + position);
+        assertEquals(expected.getPiecesPlaced(), actual.getPiecesPlaced(), "Pieces at input " + position);
+        assertEquals(expected.getHeldBrick(), actual.getHeldBrick(), "Held brick at input " + position);
+        assertEquals(expected.getNextBricksQueue(), actual.getNextBricksQueue(), "Preview at input " + position);
+        assertEquals(expected.getViewData().getxPosition(), actual.getViewData().getxPosition(), "Brick X at input " + position);
+        assertEquals(expected.getViewData().getyPosition(), actual.getViewData().getyPosition(), "Brick Y at input " + position);
+        assertEquals(expected.getViewData().getRotation(), actual.getViewData().getRotation(), "Rotation at input " + position);
+    }
+
+    @Test
+    void testSeekMatchesSimulationFromStart() {
+        ReplayPlayer player = new ReplayPlayer(reader, 16);
+        assertTrue(player.getInputCount() > 8 * 16, "Recorded game should be long enough to need keyframes");
+
+        Random random = new Random(3);
+        for (int i = 0; i < 40; i++) {
+            int target = random.nextInt(player.getInputCount() + 1);
+            player.seek(target);
+            assertEquals(target, player.getPosition(), "Player should stop at the requested input");
+            assertSameState(simulateTo(target), player.getEngine(), target);
+        }
+    }
+
+    @Test
+    void testPlaybackAfterSeekReachesRecordedEnd() {
+        ReplayPlayer player = new ReplayPlayer(reader);
+        GameEngine expected = ReplayPlayer.simulate(reader);
+        assertEquals(expected.getScore(), player.getFinalScore(), "Keyframe pass should reach the simulated score");
+
+        player.seekToTime(player.getDurationMillis() / 3);
+        assertTrue(player.getTimeMillis() <= player.getDurationMillis() / 3, "Seek by time should not pass the target");
+        while (player.stepForward()) {
+            // play to the end
+        }
+        assertFalse(player.stepForward(), "Player should stop at the last input");
+        assertSameState(expected, player.getEngine(), player.getPosition());
+    }
+}
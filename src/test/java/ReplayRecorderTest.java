@@ -0,0 +1,96 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.comp2042.EventSource;
+import com.comp2042.EventType;
+import com.comp2042.GameEngine;
+import com.comp2042.GameMode;
+import com.comp2042.LowestLandingPolicy;
+import com.comp2042.ReplayReader;
+import com.comp2042.ReplayRecorder;
+import com.comp2042.logic.bricks.Randomizer;
+
+public class ReplayRecorderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testRoundTripIsCompact() throws IOException {
+        Path file = tempDir.resolve("round-trip" + ReplayRecorder.FILE_EXTENSION);
+        EventType[] types = EventType.values();
+        int events = 5_000;
+        try (ReplayRecorder recorder = ReplayRecorder.open(file, GameMode.TWO_MINUTES, 0xC0FFEEL, Randomizer.UNIFORM)) {
+            long nanos = System.nanoTime();
+            for (int i = 0; i < events; i++) {
+                nanos += (i % 500) * 1_000_000L;
+                recorder.record(types[i % types.length], i % 3 == 0 ? EventSource.THREAD : EventSource.USER, nanos);
+            }
+        }
+
+        ReplayReader reader = ReplayReader.open(file);
+        assertEquals(GameMode.TWO_MINUTES, reader.getMode(), "Mode should round-trip");
+        assertEquals(Randomizer.UNIFORM, reader.getRandomizer(), "Randomizer should round-trip");
+        assertEquals(0xC0FFEEL, reader.getSeed(), "Seed should round-trip");
+        for (int i = 0; i < events; i++) {
+            assertTrue(reader.next(), "Input " + i + " should be present");
+            assertEquals(types[i % types.length], reader.getEventType(), "Type of input " + i);
+            assertEquals(i % 3 == 0 ? EventSource.THREAD : EventSource.USER, reader.getEventSource(), "Source of input " + i);
+            assertEquals(i % 500, reader.getDeltaMillis(), "Delay of input " + i);
+        }
+        assertFalse(reader.next(), "Replay should end after the last input");
+        assertTrue(Files.size(file) < 15 + 2L * events, "Inputs under 512 ms apart should take at most two bytes each");
+    }
+
+    @Test
+    void testTruncatedReplayEndsAtLastCompleteInput() throws IOException {
+        Path file = tempDir.resolve("truncated" + ReplayRecorder.FILE_EXTENSION);
+        try (ReplayRecorder recorder = ReplayRecorder.open(file, GameMode.CLASSIC, 1L, Randomizer.SEVEN_BAG)) {
+            recorder.record(EventType.LEFT, EventSource.USER, System.nanoTime());
+            recorder.record(EventType.HOLD, EventSource.USER, System.nanoTime() + 1_000_000_000L);
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        ReplayReader reader = new ReplayReader(Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertTrue(reader.next(), "First input should survive");
+        assertEquals(EventType.LEFT, reader.getEventType(), "First input type should be intact");
+        assertFalse(reader.next(), "Cut-off input should be dropped");
+        assertThrows(IOException.class, () -> new ReplayReader(new byte[] {1, 2, 3}), "Garbage should be rejected");
+    }
+
+    @Test
+    void testReplayReproducesGame() throws IOException {
+        Path file = tempDir.resolve("game" + ReplayRecorder.FILE_EXTENSION);
+        GameEngine original = new GameEngine(GameMode.CLASSIC);
+        original.newGame(77L);
+        LowestLandingPolicy policy = new LowestLandingPolicy();
+        try (ReplayRecorder recorder = ReplayRecorder.open(file, GameMode.CLASSIC, original.getSeed(), Randomizer.SEVEN_BAG)) {
+            for (int i = 0; i < 3_000 && !original.isGameOver(); i++) {
+                EventType input = i % 5 == 4 ? EventType.DOWN : policy.nextInput(original);
+                recorder.record(input, i % 5 == 4 ? EventSource.THREAD : EventSource.USER);
+                original.apply(input);
+            }
+        }
+
+        ReplayReader reader = ReplayReader.open(file);
+        GameEngine replayed = new GameEngine(reader.getMode());
+        replayed.newGame(reader.getSeed());
+        while (reader.next()) {
+            replayed.apply(reader.getEventType());
+        }
+        assertEquals(original.getPiecesPlaced(), replayed.getPiecesPlaced(), "Replay should place the same pieces");
+        assertEquals(original.getScore(), replayed.getScore(), "Replay should reach the same score");
+        assertArrayEquals(original.getBoardMatrix(), replayed.getBoardMatrix(), "Replay should end on the same board");
+    }
+}
@@ -0,0 +1,112 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.comp2042.BitboardBoard;
+import com.comp2042.ClearRow;
+import com.comp2042.EventType;
+import com.comp2042.GameEngine;
+import com.comp2042.GameMode;
+import com.comp2042.ScoringRules;
+import com.comp2042.SimpleBoard;
+import com.comp2042.SpinType;
+import com.comp2042.logic.bricks.IBrick;
+import com.comp2042.logic.bricks.TBrick;
+
+public class ScoringRulesTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+
+    /**
+     * Bottom two rows with a T-slot under an overhang at column 3; a T brick in state R at (3, 22) rotates into it
+     */
+    private static int[][] tSpinDoubleSetup() {
+        int[][] matrix = new int[ROWS][COLUMNS];
+        for (int col = 0; col < COLUMNS; col++) {
+            matrix[ROWS - 1][col] = col == 4 ? 0 : 1;
+            matrix[ROWS - 2][col] = col >= 3 && col <= 5 ? 0 : 1;
+        }
+        matrix[ROWS - 3][3] = 1;
+        return matrix;
+    }
+
+    @Test
+    void testTSpinDoubleIsDetectedOnBothBoards() {
+        for (SimpleBoard board : new SimpleBoard[] { new SimpleBoard(ROWS, COLUMNS), new BitboardBoard(ROWS, COLUMNS) }) {
+            String name = board.getClass().getSimpleName();
+            GameEngine engine = new GameEngine(GameMode.CLASSIC, board);
+            board.restore(tSpinDoubleSetup(), new TBrick(), 1, 3, ROWS - 3);
+
+            assertTrue(engine.apply(EventType.ROTATE), name + ": T brick should rotate into the slot");
+            int expectedCorners = ScoringRules.CORNER_TOP_LEFT | ScoringRules.CORNER_BOTTOM_LEFT | ScoringRules.CORNER_BOTTOM_RIGHT;
+            assertEquals(expectedCorners, board.getCornerMask(), name + ": three corners around the pivot should be occupied");
+            assertTrue(engine.apply(EventType.LOCK), name + ": grounded brick should lock");
+
+            ClearRow clear = engine.getLastClearRow();
+            assertEquals(2, clear.getLinesRemoved(), name + ": the T-spin should clear two lines");
+            assertEquals(SpinType.FULL, clear.getSpin(), name + ": both front corners are occupied");
+            assertEquals(1200, clear.getScoreBonus(), name + ": a T-spin double is worth 1200 points");
+            assertFalse(clear.isPerfectClear(), name + ": the overhang cell is left on the board");
+            assertEquals(1, board.getOccupiedCells(), name + ": only the overhang cell should remain");
+        }
+    }
+
+    @Test
+    void testBackToBackAndComboBonuses() {
+        GameEngine engine = new GameEngine(GameMode.CLASSIC);
+        SimpleBoard board = engine.getBoard();
+
+        board.restore(tSpinDoubleSetup(), new TBrick(), 1, 3, ROWS - 3);
+        engine.apply(EventType.ROTATE);
+        engine.apply(EventType.LOCK);
+        assertTrue(engine.isBackToBack(), "A T-spin double should start a back-to-back chain");
+        assertEquals(0, engine.getCombo(), "The first clear should start the combo");
+
+        board.restore(tSpinDoubleSetup(), new TBrick(), 1, 3, ROWS - 3);
+        engine.apply(EventType.ROTATE);
+        engine.apply(EventType.LOCK);
+        ClearRow clear = engine.getLastClearRow();
+        assertTrue(clear.isBackToBack(), "The second T-spin double should earn the back-to-back bonus");
+        assertEquals(1, clear.getCombo(), "The second clear in a row should be a one-step combo");
+        assertEquals(1200 * 3 / 2 + ScoringRules.COMBO_POINTS, clear.getScoreBonus(), "Bonuses should add up");
+        assertEquals(1200 + 1850, engine.getScore(), "Both locks should be scored");
+
+        engine.apply(EventType.HARD_DROP);
+        assertEquals(-1, engine.getCombo(), "A lock that clears nothing should end the combo");
+        assertTrue(engine.isBackToBack(), "A lock that clears nothing should keep the back-to-back chain");
+    }
+
+    @Test
+    void testTetrisPerfectClear() {
+        GameEngine engine = new GameEngine(GameMode.CLASSIC, new BitboardBoard(ROWS, COLUMNS));
+        int[][] matrix = new int[ROWS][COLUMNS];
+        for (int row = ROWS - 4; row < ROWS; row++) {
+            for (int col = 0; col < COLUMNS - 1; col++) {
+                matrix[row][col] = 1;
+            }
+        }
+        // The vertical I brick occupies shape column 2, so x = 7 places it in the last column
+        engine.getBoard().restore(matrix, new IBrick(), 1, COLUMNS - 3, 0);
+
+        engine.apply(EventType.HARD_DROP);
+        ClearRow clear = engine.getLastClearRow();
+        assertEquals(4, clear.getLinesRemoved(), "The I brick should complete four lines");
+        assertTrue(clear.isPerfectClear(), "No cell should be left on the board");
+        assertTrue(engine.getBoard().isEmpty(), "The occupancy counter should be back to zero");
+        assertEquals(800 + 2000, clear.getScoreBonus(), "A perfect tetris earns the line points and the perfect clear bonus");
+    }
+
+    @Test
+    void testFrontCornersDecideBetweenMiniAndFull() {
+        int threeWithOneFront = ScoringRules.CORNER_TOP_LEFT | ScoringRules.CORNER_BOTTOM_LEFT | ScoringRules.CORNER_BOTTOM_RIGHT;
+        assertEquals(SpinType.MINI, ScoringRules.detectSpin(threeWithOneFront, 0, false), "Spawn state points up");
+        assertEquals(SpinType.FULL, ScoringRules.detectSpin(threeWithOneFront, 0, true), "The upgrade kick counts as full");
+        assertEquals(SpinType.FULL, ScoringRules.detectSpin(threeWithOneFront, 2, false), "State 2 points down");
+        assertEquals(SpinType.FULL, ScoringRules.detectSpin(threeWithOneFront, 3, false), "State L points left");
+        int two = ScoringRules.CORNER_BOTTOM_LEFT | ScoringRules.CORNER_BOTTOM_RIGHT;
+        assertEquals(SpinType.NONE, ScoringRules.detectSpin(two, 2, true), "Two corners are never a T-spin");
+    }
+}
@@ -0,0 +1,82 @@
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.comp2042.BitboardBoard;
+import com.comp2042.SimpleBoard;
+import com.comp2042.logic.bricks.TBrick;
+
+public class SimpleBoardAllocationTest {
+
+    private static final int WARMUP_ROUNDS = 20_000;
+    private static final int MEASURED_ROUNDS = 100_000;
+    /** Each round performs four board operations */
+    private static final int MOVES_PER_ROUND = 4;
+    /** Largest total allocation tolerated over all measured moves, in bytes */
+    private static final long MAX_TOTAL_BYTES = 1024;
+
+    private static com.sun.management.ThreadMXBean threadBean;
+
+    @BeforeAll
+    static void enableAllocationCounters() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "Allocation counters require a HotSpot-compatible JVM");
+        threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported(), "Thread allocation counters are not supported");
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    private static void prepare(SimpleBoard board) {
+        board.setGameOverRow(0);
+        board.setCurrentBrick(new TBrick());
+    }
+
+    private static void play(SimpleBoard board, int rounds) {
+        for (int i = 0; i < rounds; i++) {
+            board.moveBrickLeft();
+            board.moveBrickRight();
+            board.rotateLeftBrick();
+            if (!board.moveBrickDown()) {
+                board.setCurrentBrick(board.getBrickRotator().getBrick());
+            }
+        }
+    }
+
+    private static long allocatedBy(SimpleBoard board, int rounds) {
+        long before = threadBean.getCurrentThreadAllocatedBytes();
+        play(board, rounds);
+        return threadBean.getCurrentThreadAllocatedBytes() - before;
+    }
+
+    private static long measurementOverhead() {
+        long before = threadBean.getCurrentThreadAllocatedBytes();
+        return threadBean.getCurrentThreadAllocatedBytes() - before;
+    }
+
+    private static void assertMovesAllocateNothing(SimpleBoard board) {
+        String name = board.getClass().getSimpleName();
+        prepare(board);
+        play(board, WARMUP_ROUNDS);
+        measurementOverhead();
+
+        long allocated = allocatedBy(board, MEASURED_ROUNDS) - measurementOverhead();
+        // One allocation per move would add up to several megabytes over the measured moves; the bound only leaves room
+        // for a few one-off objects the JVM itself may allocate on this thread (class loading, counters)
+        assertTrue(allocated <= MAX_TOTAL_BYTES, "Moving and rotating on " + name + " should allocate nothing, but "
+            + allocated + " bytes were allocated over " + (long) MEASURED_ROUNDS * MOVES_PER_ROUND + " moves");
+    }
+
+    @Test
+    void testSimpleBoardMovesAllocateNothing() {
+        assertMovesAllocateNothing(new SimpleBoard(25, 10));
+    }
+
+    @Test
+    void testBitboardMovesAllocateNothing() {
+        assertMovesAllocateNothing(new BitboardBoard(25, 10));
+    }
+}
@@ -0,0 +1,58 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.comp2042.FxToolkitInitializer;
+import com.comp2042.Palette;
+import com.comp2042.SpriteAtlas;
+import com.comp2042.Theme;
+
+import javafx.scene.image.PixelReader;
+import javafx.scene.paint.Color;
+
+public class SpriteAtlasTest {
+
+    private static final int CELL = 20;
+
+    @BeforeAll
+    static void initToolkit() {
+        FxToolkitInitializer.initToolkit();
+    }
+
+    @Test
+    void testSpritesMatchThePalette() {
+        SpriteAtlas atlas = new SpriteAtlas(Palette.CLASSIC, CELL);
+        PixelReader pixels = atlas.getImage().getPixelReader();
+        int middle = CELL / 2;
+
+        assertEquals(0.0, pixels.getColor(middle, middle).getOpacity(), "The empty sprite should be transparent");
+        for (int id = 1; id <= Palette.CLASSIC.getBrickCount(); id++) {
+            int x = (int) atlas.getSourceX(atlas.getIndex(id));
+            Color color = pixels.getColor(x + middle, middle);
+            assertEquals(Palette.CLASSIC.fill(id).getRed(), color.getRed(), 0.01, "Brick " + id + " should use its palette color");
+            assertEquals(Palette.CLASSIC.fill(id).getGreen(), color.getGreen(), 0.01, "Brick " + id + " should use its palette color");
+            assertEquals(0.0, pixels.getColor(x, 0).getOpacity(), 0.2, "Brick " + id + " should have rounded corners");
+        }
+
+        int ghost = (int) atlas.getSourceX(atlas.getGhostIndex());
+        assertEquals(0.0, pixels.getColor(ghost + middle, middle).getOpacity(), "The ghost should be hollow");
+        assertEquals(1.0, pixels.getColor(ghost, middle).getOpacity(), 0.01, "The ghost should have an opaque edge");
+        assertEquals(atlas.getIndex(Palette.CLASSIC.getBrickCount() + 1), atlas.getIndex(99), "Unknown ids should share one sprite");
+    }
+
+    @Test
+    void testThemeSharesAtlasesUntilThePaletteChanges() {
+        Theme theme = new Theme();
+        SpriteAtlas classic = theme.atlas(CELL);
+        assertSame(classic, theme.atlas(CELL), "An atlas should be rasterized once per cell size");
+
+        theme.setPalette(Palette.CLASSIC.next());
+        SpriteAtlas guideline = theme.atlas(CELL);
+        assertNotSame(classic, guideline, "A new palette should get a new atlas");
+        assertSame(Palette.GUIDELINE, guideline.getPalette(), "The new atlas should be drawn from the new palette");
+        assertSame(Palette.CLASSIC, Palette.GUIDELINE.next(), "Cycling should wrap around the built-in palettes");
+    }
+}
@@ -0,0 +1,77 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.comp2042.BitboardBoard;
+import com.comp2042.SimpleBoard;
+import com.comp2042.ViewData;
+import com.comp2042.logic.bricks.IBrick;
+import com.comp2042.logic.bricks.OBrick;
+import com.comp2042.logic.bricks.TBrick;
+import com.comp2042.logic.bricks.WallKickTable;
+
+public class SrsRotationTest {
+
+    private static final int ROWS = 25;
+    private static final int COLUMNS = 10;
+
+    private static SimpleBoard[] boards() {
+        return new SimpleBoard[] { new SimpleBoard(ROWS, COLUMNS), new BitboardBoard(ROWS, COLUMNS) };
+    }
+
+    @Test
+    void testRotationsInOpenSpaceReturnToStart() {
+        for (SimpleBoard board : boards()) {
+            String name = board.getClass().getSimpleName();
+            board.restore(new int[ROWS][COLUMNS], new TBrick(), 0, 4, 10);
+
+            assertTrue(board.rotateBrick(WallKickTable.CLOCKWISE), name + ": clockwise rotation should fit");
+            assertEquals(1, board.getViewData().getRotation(), name + ": clockwise should reach state R");
+            assertTrue(board.rotateBrick(WallKickTable.COUNTER_CLOCKWISE), name + ": counter-clockwise rotation should fit");
+            assertEquals(0, board.getViewData().getRotation(), name + ": counter-clockwise should undo clockwise");
+            assertTrue(board.rotateBrick(WallKickTable.HALF_TURN), name + ": half turn should fit");
+            assertEquals(2, board.getViewData().getRotation(), name + ": half turn should reach state 2");
+
+            ViewData view = board.getViewData();
+            assertEquals(4, view.getxPosition(), name + ": unkicked rotations should not move the brick");
+            assertEquals(10, view.getyPosition(), name + ": unkicked rotations should not move the brick");
+        }
+    }
+
+    @Test
+    void testWallKickPushesBrickOffTheWall() {
+        for (SimpleBoard board : boards()) {
+            String name = board.getClass().getSimpleName();
+            // State R of the T brick occupies shape columns 1-2, so at x = -1 it touches the left wall
+            board.restore(new int[ROWS][COLUMNS], new TBrick(), 1, -1, 10);
+
+            assertTrue(board.rotateBrick(WallKickTable.COUNTER_CLOCKWISE), name + ": rotation against the wall should be kicked");
+            assertEquals(0, board.getViewData().getRotation(), name + ": brick should reach state 0");
+            assertEquals(0, board.getViewData().getxPosition(), name + ": brick should be kicked one column right");
+            assertEquals(10, board.getViewData().getyPosition(), name + ": kick should not change the row");
+        }
+    }
+
+    @Test
+    void testFloorKickUsesBoardCoordinates() {
+        for (SimpleBoard board : boards()) {
+            String name = board.getClass().getSimpleName();
+            // Horizontal I brick lying on the floor: its cells are in shape row 1
+            board.restore(new int[ROWS][COLUMNS], new IBrick(), 0, 3, ROWS - 2);
+
+            assertTrue(board.rotateBrick(WallKickTable.CLOCKWISE), name + ": I brick should kick up off the floor");
+            assertEquals(1, board.getViewData().getRotation(), name + ": brick should be vertical");
+            assertEquals(4, board.getViewData().getxPosition(), name + ": SRS kick (+1, +2) moves one column right");
+            assertEquals(ROWS - 4, board.getViewData().getyPosition(), name + ": SRS kick (+1, +2) moves two rows up");
+        }
+    }
+
+    @Test
+    void testOBrickDoesNotRotate() {
+        SimpleBoard board = new SimpleBoard(ROWS, COLUMNS);
+        board.restore(new int[ROWS][COLUMNS], new OBrick(), 0, 4, 10);
+        assertFalse(board.rotateBrick(WallKickTable.CLOCKWISE), "O brick has a single state");
+    }
+}